@@ -0,0 +1,109 @@
+package com.example.country.adapters.json;
+
+import com.example.country.application.model.CountryInput;
+import com.example.country.domain.Country;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming codec with the reflective mapping it replaced (JavaTimeModule and a mix-in) on
+ * list responses of {@code size} countries and on request bodies. Add {@code -prof gc}
+ * (jmh { profilers = ['gc'] }) to see the bytes allocated per response as well. {@code cachedWriteList}
+ * is a warm {@link CountryResponseCache} lookup of the same list, which only checks the stored versions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CountryJsonCodecBenchmark {
+
+    abstract static class CountryJacksonMixIn {
+        @JsonGetter("name") abstract String name();
+        @JsonGetter("alpha2Code") abstract String alpha2Code();
+        @JsonGetter("alpha3Code") abstract String alpha3Code();
+        @JsonGetter("numericCode") abstract String numericCode();
+        @JsonGetter("createDate") abstract Instant createDate();
+        @JsonGetter("expiryDate") abstract Instant expiryDate();
+        @JsonGetter("isDeleted") abstract boolean isDeleted();
+    }
+
+    private static final String INPUT =
+            "{\"name\":\"United Kingdom of Great Britain and Northern Ireland\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}";
+
+    @Param({"1", "250"})
+    public int size;
+
+    private final CountryJsonCodec codec = new CountryJsonCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .addMixIn(Country.class, CountryJacksonMixIn.class);
+    private final ObjectReader inputReader = objectMapper.readerFor(CountryInput.class);
+    private final CountryResponseCache responses = new CountryResponseCache(codec, CountryResponseCache.DEFAULT_MAX_ENTRIES);
+    private List<Country> countries;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        countries = new ArrayList<>(size);
+        Instant created = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < size; i++) {
+            String alpha2 = "" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+            // A mix of whole-second, millisecond and microsecond timestamps, as versions accumulate them
+            Instant createDate = created.plusMillis(i * 1_001L).plusNanos(i % 3 == 0 ? 0 : 1_000 * i);
+            countries.add(Country.of("Country " + i + ", officially the Republic of " + i, alpha2, alpha2 + "X",
+                    String.format("%03d", i % 1000), createDate, i % 5 == 0 ? createDate.plusSeconds(86_400) : null, i % 7 == 0));
+        }
+    }
+
+    @Benchmark
+    public byte[] reflectiveWriteList() throws IOException {
+        return objectMapper.writeValueAsBytes(countries);
+    }
+
+    @Benchmark
+    public byte[] codecWriteList() {
+        return codec.writeValueAsBytes(countries);
+    }
+
+    @Benchmark
+    public byte[] cachedWriteList() {
+        return responses.countries(countries).bytes();
+    }
+
+    @Benchmark
+    public String reflectiveWriteListAsString() throws IOException {
+        return objectMapper.writeValueAsString(countries);
+    }
+
+    @Benchmark
+    public String codecWriteListAsString() {
+        return codec.writeValueAsString(countries);
+    }
+
+    @Benchmark
+    public CountryInput reflectiveReadInput() throws IOException {
+        return inputReader.readValue(INPUT);
+    }
+
+    @Benchmark
+    public CountryInput codecReadInput() throws IOException {
+        return codec.readInput(INPUT);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.country.adapters.seeding;
+
+import com.example.country.domain.Country;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the streaming byte parser with the previous line-based parser on generated extracts.
+ * Add {@code -prof gc} (jmh { profilers = ['gc'] }) to see the allocation rate per row as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CsvCountryReaderBenchmark {
+
+    @Param({"250", "100000"})
+    public int rows;
+
+    private final CsvCountryReader reader = new CsvCountryReader();
+    private final LegacyCsvCountryReader legacy = new LegacyCsvCountryReader();
+    private byte[] csv;
+    private byte[] gzipped;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void generate() throws IOException {
+        StringBuilder builder = new StringBuilder("iso2,iso3,iso_num,country,country_common\n");
+        for (int i = 0; i < rows; i++) {
+            char first = (char) ('A' + i / 26 % 26);
+            char second = (char) ('A' + i % 26);
+            builder.append(first).append(second).append(',')
+                    .append(first).append(second).append((char) ('A' + i / 676 % 26)).append(',')
+                    .append(i % 1000).append(',')
+                    .append("\"Country ").append(i).append(", officially the Republic of ").append(i).append("\",")
+                    .append("Country ").append(i).append('\n');
+        }
+        csv = builder.toString().getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(csv);
+        }
+        gzipped = compressed.toByteArray();
+        file = Files.createTempFile("countries", ".csv");
+        Files.write(file, csv);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void legacyLineParser(Blackhole blackhole) throws Exception {
+        for (Country country : legacy.readCountries(new ByteArrayInputStream(csv))) {
+            blackhole.consume(country);
+        }
+    }
+
+    @Benchmark
+    public void streamingInputStream(Blackhole blackhole) throws IOException {
+        try (Stream<Country> countries = reader.streamCountries(new ByteArrayInputStream(csv))) {
+            countries.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void streamingGzipInputStream(Blackhole blackhole) throws IOException {
+        try (Stream<Country> countries = reader.streamCountries(new ByteArrayInputStream(gzipped))) {
+            countries.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void streamingMappedFile(Blackhole blackhole) throws IOException {
+        try (Stream<Country> countries = reader.streamCountries(file)) {
+            countries.forEach(blackhole::consume);
+        }
+    }
+}
@@ -9,7 +9,12 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
-public class CsvCountryReader {
+/**
+ * The line-based parser {@link CsvCountryReader} used before it parsed bytes in place, kept as the
+ * benchmark baseline: a {@code BufferedReader} line, a {@code char[]} copy, a {@code StringBuilder}
+ * per field and {@code String.format} per row, collected into a list.
+ */
+class LegacyCsvCountryReader {
     
     public List<Country> readCountries(InputStream csvStream) throws Exception {
         List<Country> countries = new ArrayList<>();
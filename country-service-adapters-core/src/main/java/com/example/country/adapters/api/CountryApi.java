@@ -1,11 +1,17 @@
 package com.example.country.adapters.api;
 
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
 import com.example.country.application.ports.CountryServicePort;
 import com.example.country.domain.Country;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public class CountryApi {
     private final CountryServicePort service;
@@ -18,6 +24,10 @@ public class CountryApi {
         return service.listAll(limit, offset);
     }
 
+    public CountryPage listCountriesPage(int limit, String cursor) {
+        return service.listPage(limit, cursor);
+    }
+
     public Country createCountry(CountryInput input) {
         return service.create(input);
     }
@@ -26,6 +36,10 @@ public class CountryApi {
         return service.getByAlpha2(alpha2);
     }
 
+    public List<Country> getByAlpha2In(Collection<String> alpha2Codes) {
+        return service.getByAlpha2In(alpha2Codes);
+    }
+
     public Country updateByAlpha2(String alpha2, CountryInput input) {
         return service.updateByAlpha2(alpha2, input);
     }
@@ -45,4 +59,16 @@ public class CountryApi {
     public List<Country> historyByAlpha2(String alpha2) {
         return service.historyByAlpha2(alpha2);
     }
+
+    public long exportAll(int segments, Consumer<Country> sink) {
+        return service.exportAll(segments, sink);
+    }
+
+    public long exportLatest(Consumer<Country> sink) {
+        return service.exportLatest(sink);
+    }
+
+    public ImportReport importCountries(Stream<ImportRow> rows) {
+        return service.importCountries(rows);
+    }
 }
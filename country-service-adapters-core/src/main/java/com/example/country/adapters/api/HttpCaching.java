@@ -0,0 +1,163 @@
+package com.example.country.adapters.api;
+
+import com.example.country.adapters.json.CountryResponseCache;
+import com.example.country.adapters.json.SerializedJson;
+import com.example.country.domain.Country;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+
+/**
+ * Validators and freshness for GET responses, shared by the web controller and the Lambda handler.
+ *
+ * <p>A single country carries the ETag of its serialized bytes and its {@code createDate} as
+ * {@code Last-Modified}. A list carries only the ETag, weakened when the response may be compressed,
+ * since deleting a country does not move its newest date forward. Both get a {@code Cache-Control}
+ * header built from {@code maxAge} and {@code staleWhileRevalidate}. A conditional request is answered from the
+ * {@link CountryResponseCache}, without a repository lookup, when the same request was validated
+ * against the repository less than {@code maxAge} ago: clients may serve their copy for that long
+ * anyway. Older or unknown requests are looked up and then compared.
+ */
+public class HttpCaching {
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofSeconds(60);
+    public static final Duration DEFAULT_STALE_WHILE_REVALIDATE = Duration.ofSeconds(300);
+    // Smaller bodies gain little from gzip and fit in a single packet anyway; matches server.compression
+    public static final int COMPRESSION_MIN_SIZE = 1024;
+    // IMF-fixdate; RFC_1123_DATE_TIME would drop the leading zero of the day when formatting
+    private static final DateTimeFormatter HTTP_DATE =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss 'GMT'", Locale.US).withZone(ZoneOffset.UTC);
+
+    private final CountryResponseCache responses;
+    private final Duration maxAge;
+    private final String cacheControl;
+
+    public HttpCaching(CountryResponseCache responses, Duration maxAge, Duration staleWhileRevalidate) {
+        this.responses = Objects.requireNonNull(responses);
+        if (maxAge.isNegative() || staleWhileRevalidate.isNegative()) {
+            throw new IllegalArgumentException("maxAge and staleWhileRevalidate must not be negative");
+        }
+        this.maxAge = maxAge;
+        this.cacheControl = "max-age=" + maxAge.toSeconds()
+                + (staleWhileRevalidate.isZero() ? "" : ", stale-while-revalidate=" + staleWhileRevalidate.toSeconds());
+    }
+
+    public CountryResponseCache responses() {
+        return responses;
+    }
+
+    public String cacheControl() {
+        return cacheControl;
+    }
+
+    /**
+     * Passes the {@code ETag}, {@code Last-Modified} and {@code Cache-Control} headers of {@code json} to
+     * {@code header}; the same headers go on the 200 and on a 304.
+     */
+    public void addHeaders(SerializedJson json, BiConsumer<String, String> header) {
+        addHeaders(json, json.etag(), header);
+    }
+
+    /**
+     * As {@link #addHeaders(SerializedJson, BiConsumer)}, with {@code etag} in place of the strong tag.
+     */
+    public void addHeaders(SerializedJson json, String etag, BiConsumer<String, String> header) {
+        header.accept("ETag", etag);
+        if (json.lastModified() != null) {
+            header.accept("Last-Modified", httpDate(json.lastModified()));
+        }
+        header.accept("Cache-Control", cacheControl);
+    }
+
+    /**
+     * The response to send as {@code 304 Not Modified} without a lookup, or {@code null} when the
+     * request has to be looked up first.
+     */
+    public SerializedJson notModifiedFromCache(String requestKey, String ifNoneMatch, String ifModifiedSince) {
+        if (ifNoneMatch == null && ifModifiedSince == null) {
+            return null;
+        }
+        SerializedJson json = responses.validatedWithin(requestKey, maxAge);
+        return json != null && isNotModified(json, ifNoneMatch, ifModifiedSince) ? json : null;
+    }
+
+    /**
+     * Serializes, or finds in the cache, the body just read for {@code requestKey} and records the
+     * validation. Returns {@code null} for bodies other than countries and lists of countries.
+     */
+    public SerializedJson validated(String requestKey, Object body) {
+        SerializedJson json = serialized(body);
+        if (json != null) {
+            responses.validated(requestKey, json);
+        }
+        return json;
+    }
+
+    /**
+     * Serializes, or finds in the cache, a country or list of countries; {@code null} for other bodies.
+     */
+    @SuppressWarnings("unchecked")
+    public SerializedJson serialized(Object body) {
+        if (body instanceof Country country) {
+            return responses.country(country);
+        }
+        if (body instanceof List<?> list && list.stream().allMatch(Country.class::isInstance)) {
+            return responses.countries((List<Country>) list);
+        }
+        return null;
+    }
+
+    /**
+     * Evaluates {@code If-None-Match} and, only in its absence, {@code If-Modified-Since} as RFC 9110
+     * does for GET: entity tags are compared weakly and an unparseable date is ignored.
+     */
+    public static boolean isNotModified(SerializedJson json, String ifNoneMatch, String ifModifiedSince) {
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || (tag.startsWith("W/") ? tag.substring(2) : tag).equals(json.etag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (ifModifiedSince == null || json.lastModified() == null) {
+            return false;
+        }
+        try {
+            Instant since = ZonedDateTime.parse(ifModifiedSince.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return !json.lastModified().truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * The ETag to send for {@code json} from a servlet container that may compress it: weak once the
+     * body reaches {@link #COMPRESSION_MIN_SIZE}. Tomcat's {@code server.compression} leaves responses
+     * with a strong ETag uncompressed, and the gzipped bytes are not the ones the tag hashes anyway.
+     * Entity tags are compared weakly, so either form still matches {@code If-None-Match}.
+     */
+    public static String compressibleEtag(SerializedJson json) {
+        return json.bytes().length < COMPRESSION_MIN_SIZE ? json.etag() : "W/" + json.etag();
+    }
+
+    public static String httpDate(Instant instant) {
+        return HTTP_DATE.format(instant);
+    }
+
+    /**
+     * Identifies a GET by its path and query; both adapters use their own raw forms consistently.
+     */
+    public static String requestKey(String path, String query) {
+        return query == null || query.isEmpty() ? path : path + '?' + query;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.country.adapters.export;
+
+import com.example.country.domain.Country;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Export sink writing countries as CSV rows. The first four columns follow the seed file layout, so an
+ * export can be fed back to the seeder or to the bulk import. The stream is flushed by {@link #flush()}
+ * but never closed.
+ */
+public class CountryCsvWriter implements CountryExportWriter {
+    public static final String CONTENT_TYPE = "text/csv";
+    static final String HEADER = "iso2,iso3,iso_num,country,create_date,expiry_date,is_deleted";
+
+    private final Writer out;
+
+    public CountryCsvWriter(OutputStream out) {
+        this.out = new BufferedWriter(new OutputStreamWriter(Objects.requireNonNull(out), StandardCharsets.UTF_8));
+        write(HEADER);
+    }
+
+    @Override
+    public void accept(Country country) {
+        write(country.alpha2Code() + ',' + country.alpha3Code() + ',' + country.numericCode() + ','
+                + quote(country.name()) + ',' + country.createDate() + ',' + format(country.expiryDate()) + ','
+                + country.isDeleted());
+    }
+
+    @Override
+    public void flush() {
+        try {
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void write(String row) {
+        try {
+            out.write(row);
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String format(Instant instant) {
+        return instant == null ? "" : instant.toString();
+    }
+
+    /**
+     * Quotes a field that contains a separator, quote or line break, doubling any quotes (RFC 4180).
+     */
+    private static String quote(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return '"' + field.replace("\"", "\"\"") + '"';
+            }
+        }
+        return field;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.country.adapters.export;
+
+import com.example.country.domain.Country;
+
+import java.util.function.Consumer;
+
+/**
+ * Export sink that serializes countries to an output stream as they arrive. Writers buffer, so
+ * {@link #flush()} must be called once the export is complete; the stream itself is never closed.
+ */
+public interface CountryExportWriter extends Consumer<Country> {
+
+    void flush();
+}
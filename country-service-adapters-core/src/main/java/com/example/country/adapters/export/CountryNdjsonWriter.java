@@ -0,0 +1,55 @@
+package com.example.country.adapters.export;
+
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.domain.Country;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Export sink writing one JSON object per line (NDJSON) to an output stream as countries arrive.
+ *
+ * <p>All countries go through one {@link JsonGenerator}, whose buffer is passed to the stream when it
+ * fills rather than once per country. The stream is flushed by {@link #flush()} but never closed.
+ */
+public class CountryNdjsonWriter implements CountryExportWriter {
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+
+    private final CountryJsonCodec codec;
+    private final JsonGenerator generator;
+
+    public CountryNdjsonWriter(CountryJsonCodec codec, OutputStream out) {
+        this.codec = Objects.requireNonNull(codec);
+        try {
+            this.generator = codec.getFactory().createGenerator(Objects.requireNonNull(out), JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // Lines are terminated explicitly, so values need no separator of their own
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void accept(Country country) {
+        try {
+            codec.writeCountry(generator, country);
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
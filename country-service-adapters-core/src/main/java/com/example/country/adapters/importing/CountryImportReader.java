@@ -0,0 +1,88 @@
+package com.example.country.adapters.importing;
+
+import com.example.country.adapters.export.CountryNdjsonWriter;
+import com.example.country.adapters.seeding.CsvCountryReader;
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.ImportRow;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Turns a bulk import payload into a lazy stream of rows, parsed as the stream is consumed.
+ *
+ * <p>CSV uses the seed file layout, {@code iso2,iso3,iso_num,country,...} with a header row, and may be
+ * gzip-compressed. NDJSON holds one {@code CountryInput} object per line. A row that cannot be parsed
+ * becomes a rejected row; blank lines are skipped. Closing the stream closes the input.
+ */
+public class CountryImportReader {
+    public static final String CSV = "text/csv";
+    public static final String NDJSON = CountryNdjsonWriter.CONTENT_TYPE;
+
+    private final CsvCountryReader csvReader = new CsvCountryReader();
+    private final ObjectReader inputReader;
+
+    public CountryImportReader(ObjectMapper objectMapper) {
+        this.inputReader = objectMapper.readerFor(CountryInput.class);
+    }
+
+    public boolean supports(String contentType) {
+        String mediaType = mediaType(contentType);
+        return mediaType.equals(CSV) || mediaType.equals(NDJSON);
+    }
+
+    /**
+     * @param contentType the media type of {@code body}; parameters such as the charset are ignored
+     * @throws IllegalArgumentException if the media type is not supported or the CSV has no header row
+     */
+    public Stream<ImportRow> read(InputStream body, String contentType) throws IOException {
+        Objects.requireNonNull(body, "body is required");
+        return switch (mediaType(contentType)) {
+            case CSV -> csvReader.streamImportRows(body);
+            case NDJSON -> ndjsonRows(body);
+            default -> throw new IllegalArgumentException(
+                    "Unsupported import format '" + contentType + "', expected " + CSV + " or " + NDJSON);
+        };
+    }
+
+    private static String mediaType(String contentType) {
+        return contentType == null ? "" : contentType.split(";", 2)[0].trim().toLowerCase(Locale.ROOT);
+    }
+
+    private Stream<ImportRow> ndjsonRows(InputStream body) {
+        BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        long[] row = {0};
+        return lines.lines()
+                .map(line -> parseLine(++row[0], line))
+                .filter(Objects::nonNull)
+                .onClose(() -> {
+                    try {
+                        lines.close();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+
+    private ImportRow parseLine(long row, String line) {
+        if (line.isBlank()) {
+            return null;
+        }
+        try {
+            CountryInput input = inputReader.readValue(line);
+            return input != null ? ImportRow.parsed(row, input) : ImportRow.rejected(row, "Expected a JSON object");
+        } catch (JsonProcessingException e) {
+            return ImportRow.rejected(row, "Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package com.example.country.adapters.json;
+
+import com.example.country.application.model.CountryInput;
+import com.example.country.domain.Country;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.io.SegmentedStringWriter;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Reads and writes {@link Country}, lists of countries and {@link CountryInput} with Jackson's streaming
+ * {@link JsonGenerator} and {@link JsonParser}, without data binding, mix-ins or the Java time module.
+ *
+ * <p>The JSON is the same as the reflective mapping produced: the accessor names as fields, instants as
+ * ISO-8601 strings and a null {@code expiryDate} written as null. Unknown fields are skipped when
+ * reading. Field names are pre-encoded once and instants are formatted by {@link IsoInstantFormat}
+ * into a reused buffer, so writing a country allocates little beyond the generator's own buffers.
+ *
+ * <p>Instances are thread-safe; the web adapter, the export writers and the Lambda handler share one.
+ */
+public final class CountryJsonCodec {
+    private static final SerializableString NAME = new SerializedString("name");
+    private static final SerializableString ALPHA2_CODE = new SerializedString("alpha2Code");
+    private static final SerializableString ALPHA3_CODE = new SerializedString("alpha3Code");
+    private static final SerializableString NUMERIC_CODE = new SerializedString("numericCode");
+    private static final SerializableString CREATE_DATE = new SerializedString("createDate");
+    private static final SerializableString EXPIRY_DATE = new SerializedString("expiryDate");
+    private static final SerializableString IS_DELETED = new SerializedString("isDeleted");
+    private static final ThreadLocal<char[]> INSTANT_BUFFER = ThreadLocal.withInitial(() -> new char[IsoInstantFormat.MAX_LENGTH]);
+
+    private final JsonFactory factory;
+
+    public CountryJsonCodec() {
+        this(new JsonFactory());
+    }
+
+    public CountryJsonCodec(JsonFactory factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    /**
+     * The factory behind this codec's generators and parsers, for writing other payloads alongside.
+     */
+    public JsonFactory getFactory() {
+        return factory;
+    }
+
+    public void writeCountry(JsonGenerator generator, Country country) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(NAME);
+        generator.writeString(country.name());
+        generator.writeFieldName(ALPHA2_CODE);
+        generator.writeString(country.alpha2Code());
+        generator.writeFieldName(ALPHA3_CODE);
+        generator.writeString(country.alpha3Code());
+        generator.writeFieldName(NUMERIC_CODE);
+        generator.writeString(country.numericCode());
+        generator.writeFieldName(CREATE_DATE);
+        writeInstant(generator, country.createDate());
+        generator.writeFieldName(EXPIRY_DATE);
+        writeInstant(generator, country.expiryDate());
+        generator.writeFieldName(IS_DELETED);
+        generator.writeBoolean(country.isDeleted());
+        generator.writeEndObject();
+    }
+
+    public void writeCountries(JsonGenerator generator, Collection<? extends Country> countries) throws IOException {
+        generator.writeStartArray(countries, countries.size());
+        for (Country country : countries) {
+            writeCountry(generator, country);
+        }
+        generator.writeEndArray();
+    }
+
+    public void writeInput(JsonGenerator generator, CountryInput input) throws IOException {
+        generator.writeStartObject();
+        generator.writeFieldName(NAME);
+        generator.writeString(input.name());
+        generator.writeFieldName(ALPHA2_CODE);
+        generator.writeString(input.alpha2Code());
+        generator.writeFieldName(ALPHA3_CODE);
+        generator.writeString(input.alpha3Code());
+        generator.writeFieldName(NUMERIC_CODE);
+        generator.writeString(input.numericCode());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes a {@link Country}, a collection of countries or a {@link CountryInput} as UTF-8 to {@code out},
+     * which is flushed but not closed.
+     *
+     * @throws IllegalArgumentException if the value is of none of those types
+     */
+    public void writeValue(OutputStream out, Object value) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+            write(generator, value);
+        }
+    }
+
+    public byte[] writeValueAsBytes(Object value) {
+        // Borrows the factory's recycled buffers, as ObjectMapper.writeValueAsBytes does
+        BufferRecycler recycler = factory._getBufferRecycler();
+        try (ByteArrayBuilder bytes = new ByteArrayBuilder(recycler)) {
+            writeValue(bytes, value);
+            byte[] result = bytes.toByteArray();
+            bytes.release();
+            return result;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recycler.releaseToPool();
+        }
+    }
+
+    public String writeValueAsString(Object value) {
+        BufferRecycler recycler = factory._getBufferRecycler();
+        try (SegmentedStringWriter out = new SegmentedStringWriter(recycler)) {
+            try (JsonGenerator generator = factory.createGenerator(out)) {
+                write(generator, value);
+            }
+            return out.getAndClear();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            recycler.releaseToPool();
+        }
+    }
+
+    private void write(JsonGenerator generator, Object value) throws IOException {
+        if (value instanceof Country country) {
+            writeCountry(generator, country);
+        } else if (value instanceof CountryInput input) {
+            writeInput(generator, input);
+        } else if (value instanceof Collection<?> collection && collection.stream().allMatch(Country.class::isInstance)) {
+            @SuppressWarnings("unchecked")
+            Collection<Country> countries = (Collection<Country>) collection;
+            writeCountries(generator, countries);
+        } else {
+            throw new IllegalArgumentException("Cannot write " + (value == null ? "null" : value.getClass().getName()) + " as country JSON");
+        }
+    }
+
+    /**
+     * Reads the object at the parser's current or next token; a JSON null reads as null.
+     */
+    public CountryInput readInput(JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String name = null;
+        String alpha2Code = null;
+        String alpha3Code = null;
+        String numericCode = null;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            parser.nextToken();
+            switch (field) {
+                case "name" -> name = text(parser, field);
+                case "alpha2Code" -> alpha2Code = text(parser, field);
+                case "alpha3Code" -> alpha3Code = text(parser, field);
+                case "numericCode" -> numericCode = text(parser, field);
+                default -> parser.skipChildren();
+            }
+        }
+        return new CountryInput(name, alpha2Code, alpha3Code, numericCode);
+    }
+
+    /**
+     * Reads the object at the parser's current or next token; a JSON null reads as null.
+     *
+     * @throws JsonParseException if the fields do not make a valid country
+     */
+    public Country readCountry(JsonParser parser) throws IOException {
+        if (!startObject(parser)) {
+            return null;
+        }
+        String name = null;
+        String alpha2Code = null;
+        String alpha3Code = null;
+        String numericCode = null;
+        Instant createDate = null;
+        Instant expiryDate = null;
+        boolean isDeleted = false;
+        for (String field = parser.nextFieldName(); field != null; field = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (field) {
+                case "name" -> name = text(parser, field);
+                case "alpha2Code" -> alpha2Code = text(parser, field);
+                case "alpha3Code" -> alpha3Code = text(parser, field);
+                case "numericCode" -> numericCode = text(parser, field);
+                case "createDate" -> createDate = instant(parser, field);
+                case "expiryDate" -> expiryDate = instant(parser, field);
+                case "isDeleted" -> isDeleted = token == JsonToken.VALUE_TRUE
+                        || token == JsonToken.VALUE_STRING && Boolean.parseBoolean(parser.getText());
+                default -> parser.skipChildren();
+            }
+        }
+        try {
+            return Country.of(name, alpha2Code, alpha3Code, numericCode, createDate, expiryDate, isDeleted);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new JsonParseException(parser, "Invalid country: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the array at the parser's current or next token; a JSON null reads as an empty list.
+     */
+    public List<Country> readCountries(JsonParser parser) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return List.of();
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected an array of countries but found " + token);
+        }
+        List<Country> countries = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            countries.add(readCountry(parser));
+        }
+        return countries;
+    }
+
+    public CountryInput readInput(InputStream in) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            return readInput(parser);
+        }
+    }
+
+    public CountryInput readInput(String json) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            return readInput(parser);
+        }
+    }
+
+    public Country readCountry(InputStream in) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            return readCountry(parser);
+        }
+    }
+
+    public List<Country> readCountries(InputStream in) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            return readCountries(parser);
+        }
+    }
+
+    private static void writeInstant(JsonGenerator generator, Instant instant) throws IOException {
+        if (instant == null) {
+            generator.writeNull();
+            return;
+        }
+        char[] buffer = INSTANT_BUFFER.get();
+        int length = IsoInstantFormat.format(instant, buffer);
+        if (length < 0) {
+            generator.writeString(instant.toString());
+        } else {
+            generator.writeString(buffer, 0, length);
+        }
+    }
+
+    private static boolean startObject(JsonParser parser) throws IOException {
+        JsonToken token = parser.hasCurrentToken() ? parser.currentToken() : parser.nextToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object but found " + token);
+        }
+        return true;
+    }
+
+    /**
+     * Scalars are read as their text, as data binding coerces them; objects and arrays are rejected.
+     */
+    private static String text(JsonParser parser, String field) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a string for '" + field + "' but found " + token);
+        }
+        return parser.getText();
+    }
+
+    private static Instant instant(JsonParser parser, String field) throws IOException {
+        String text = text(parser, field);
+        try {
+            return text == null ? null : Instant.parse(text);
+        } catch (DateTimeParseException e) {
+            throw new JsonParseException(parser, "Invalid instant for '" + field + "': " + text, e);
+        }
+    }
+}
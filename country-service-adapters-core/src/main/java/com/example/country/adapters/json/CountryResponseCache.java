@@ -0,0 +1,156 @@
+package com.example.country.adapters.json;
+
+import com.example.country.domain.Country;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Keeps the serialized JSON of recently served countries and country lists, so a warm lookup writes
+ * stored bytes instead of serializing again.
+ *
+ * <p>A country is stored under its alpha-2 code and a list under its size and end points, together
+ * with the versions that were serialized. An entry is only served for exactly those versions: once
+ * {@code saveNewVersion} has produced a new version, or a version has been given an expiry date or
+ * deleted, the next response of that country or list no longer matches and replaces the entry. That
+ * holds whichever instance made the write, so no invalidation hooks are needed. The least recently
+ * used entry is evicted once {@code maxEntries} is reached.
+ *
+ * <p>The cache also remembers which response each request was last validated against the repository
+ * with, so a conditional request can be answered without a lookup while that validation is recent
+ * enough. Serializing anything not already cached, such as a newly written version, drops every
+ * such validation.
+ */
+public class CountryResponseCache {
+    public static final int DEFAULT_MAX_ENTRIES = 1000;
+
+    private final CountryJsonCodec codec;
+    private final LinkedHashMap<String, Entry> entries;
+    private final LinkedHashMap<String, Validation> validations;
+    private long hits;
+    private long misses;
+
+    private record Entry(Object source, SerializedJson json) {
+    }
+
+    private record Validation(SerializedJson json, long validatedAt) {
+    }
+
+    public CountryResponseCache(CountryJsonCodec codec, int maxEntries) {
+        this.codec = Objects.requireNonNull(codec);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.validations = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validation> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public SerializedJson country(Country country) {
+        String key = country.alpha2Code();
+        Entry entry = lookup(key);
+        if (entry != null && entry.source() instanceof Country cached && sameVersion(cached, country)) {
+            return hit(entry);
+        }
+        return store(key, country, codec.writeValueAsBytes(country), country.createDate());
+    }
+
+    public SerializedJson countries(List<? extends Country> countries) {
+        String key = countries.isEmpty() ? "list:0" : "list:" + countries.size() + ':' + countries.get(0).alpha2Code()
+                + ':' + countries.get(countries.size() - 1).alpha2Code();
+        Entry entry = lookup(key);
+        if (entry != null && entry.source() instanceof List<?> cached && sameVersions(cached, countries)) {
+            return hit(entry);
+        }
+        // Copied so that a caller changing its list cannot make the entry describe other versions
+        List<Country> source = List.copyOf(countries);
+        // No modification date: deleting a country drops it from a list without adding a newer createDate
+        return store(key, source, codec.writeValueAsBytes(source), null);
+    }
+
+    /**
+     * Records that the response to {@code requestKey} was just read from the repository as {@code json}.
+     */
+    public synchronized void validated(String requestKey, SerializedJson json) {
+        validations.put(requestKey, new Validation(json, System.nanoTime()));
+    }
+
+    /**
+     * The response to {@code requestKey} if it was read from the repository less than {@code maxAge} ago
+     * and no newer version has been served since, otherwise {@code null}.
+     */
+    public synchronized SerializedJson validatedWithin(String requestKey, Duration maxAge) {
+        Validation validation = validations.get(requestKey);
+        if (validation == null || System.nanoTime() - validation.validatedAt() >= maxAge.toNanos()) {
+            return null;
+        }
+        return validation.json();
+    }
+
+    public synchronized long hits() {
+        return hits;
+    }
+
+    public synchronized long misses() {
+        return misses;
+    }
+
+    private synchronized Entry lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized SerializedJson hit(Entry entry) {
+        hits++;
+        return entry.json();
+    }
+
+    private SerializedJson store(String key, Object source, byte[] bytes, Instant lastModified) {
+        SerializedJson json = new SerializedJson(bytes, lastModified);
+        synchronized (this) {
+            misses++;
+            entries.put(key, new Entry(source, json));
+            // A version not served before, such as the result of a write, may be part of any validated response
+            validations.clear();
+        }
+        return json;
+    }
+
+    private static boolean sameVersions(List<?> cached, List<? extends Country> countries) {
+        if (cached.size() != countries.size()) {
+            return false;
+        }
+        for (int i = 0; i < cached.size(); i++) {
+            if (!sameVersion((Country) cached.get(i), countries.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Countries have no value equality; repositories that cache return the same instance, so identity
+     * settles most comparisons before any field is read.
+     */
+    private static boolean sameVersion(Country a, Country b) {
+        return a == b || a.alpha2Code().equals(b.alpha2Code())
+                && a.createDate().equals(b.createDate())
+                && Objects.equals(a.expiryDate(), b.expiryDate())
+                && a.isDeleted() == b.isDeleted()
+                && a.name().equals(b.name())
+                && a.alpha3Code().equals(b.alpha3Code())
+                && a.numericCode().equals(b.numericCode());
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.country.adapters.json;
+
+import java.time.Instant;
+
+/**
+ * Formats instants exactly as {@link java.time.format.DateTimeFormatter#ISO_INSTANT} does, e.g.
+ * {@code 2024-01-01T00:00:00.123Z}, into a caller's buffer without building a {@code LocalDateTime} or
+ * a string on the way. The fraction is left out when it is zero and otherwise printed in groups of
+ * three digits. Years outside 0000-9999 fall back to {@link Instant#toString()}.
+ */
+final class IsoInstantFormat {
+    /**
+     * Long enough for {@code yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ}.
+     */
+    static final int MAX_LENGTH = 30;
+
+    private static final long SECONDS_PER_DAY = 86_400;
+    // Days from 0000-03-01 to 1970-01-01, the epoch of the civil calendar algorithm below
+    private static final long DAYS_0000_TO_1970 = 719_468;
+    private static final long DAYS_PER_ERA = 146_097;
+
+    private IsoInstantFormat() {
+    }
+
+    /**
+     * Writes {@code instant} to {@code buffer} from index 0 and returns the number of characters written,
+     * or -1 if the year needs more than four digits and the caller should use {@link Instant#toString()}.
+     */
+    static int format(Instant instant, char[] buffer) {
+        long seconds = instant.getEpochSecond();
+        long days = Math.floorDiv(seconds, SECONDS_PER_DAY);
+        int secondOfDay = (int) Math.floorMod(seconds, SECONDS_PER_DAY);
+
+        // Proleptic Gregorian date from days since the epoch, counting years from March
+        long shifted = days + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(shifted, DAYS_PER_ERA);
+        int dayOfEra = (int) (shifted - era * DAYS_PER_ERA);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int marchMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * marchMonth + 2) / 5 + 1;
+        int month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+
+        int y = (int) year;
+        buffer[0] = digit(y / 1000);
+        buffer[1] = digit(y / 100 % 10);
+        buffer[2] = digit(y / 10 % 10);
+        buffer[3] = digit(y % 10);
+        buffer[4] = '-';
+        twoDigits(buffer, 5, month);
+        buffer[7] = '-';
+        twoDigits(buffer, 8, day);
+        buffer[10] = 'T';
+        twoDigits(buffer, 11, secondOfDay / 3600);
+        buffer[13] = ':';
+        twoDigits(buffer, 14, secondOfDay / 60 % 60);
+        buffer[16] = ':';
+        twoDigits(buffer, 17, secondOfDay % 60);
+        int length = 19;
+
+        int nanos = instant.getNano();
+        if (nanos != 0) {
+            int digits;
+            int fraction;
+            if (nanos % 1_000_000 == 0) {
+                digits = 3;
+                fraction = nanos / 1_000_000;
+            } else if (nanos % 1_000 == 0) {
+                digits = 6;
+                fraction = nanos / 1_000;
+            } else {
+                digits = 9;
+                fraction = nanos;
+            }
+            buffer[length++] = '.';
+            for (int i = length + digits - 1; i >= length; i--) {
+                buffer[i] = digit(fraction % 10);
+                fraction /= 10;
+            }
+            length += digits;
+        }
+        buffer[length++] = 'Z';
+        return length;
+    }
+
+    private static void twoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = digit(value / 10);
+        buffer[offset + 1] = digit(value % 10);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value);
+    }
+}
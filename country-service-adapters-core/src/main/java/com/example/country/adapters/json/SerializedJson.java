@@ -0,0 +1,95 @@
+package com.example.country.adapters.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A response body serialized once, as UTF-8 bytes, with a strong ETag derived from its content and, for
+ * a single country, the creation date of its version.
+ *
+ * <p>The bytes are shared by every response that serves them and must not be modified.
+ */
+public final class SerializedJson {
+    private static final int ETAG_HASH_BYTES = 16;
+
+    private final byte[] bytes;
+    private final String etag;
+    private final Instant lastModified;
+    private volatile String text;
+    private volatile String gzipBase64;
+
+    SerializedJson(byte[] bytes, Instant lastModified) {
+        this.bytes = Objects.requireNonNull(bytes);
+        this.etag = etag(bytes);
+        this.lastModified = lastModified;
+    }
+
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * The body as a string, for transports such as API Gateway that carry text; decoded on first use.
+     */
+    public String text() {
+        String result = text;
+        if (result == null) {
+            result = new String(bytes, StandardCharsets.UTF_8);
+            text = result;
+        }
+        return result;
+    }
+
+    /**
+     * The body gzip-compressed and base64 encoded, for transports such as API Gateway that carry binary
+     * bodies as base64 text; compressed on first use.
+     */
+    public String gzipBase64() {
+        String result = gzipBase64;
+        if (result == null) {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(bytes.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(bytes);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            result = Base64.getEncoder().encodeToString(compressed.toByteArray());
+            gzipBase64 = result;
+        }
+        return result;
+    }
+
+    /**
+     * A quoted strong entity tag: the first 128 bits of the SHA-256 of the bytes, base64url encoded.
+     */
+    public String etag() {
+        return etag;
+    }
+
+    /**
+     * The {@code createDate} of a single country, or {@code null} for lists, which are validated by their
+     * ETag alone.
+     */
+    public Instant lastModified() {
+        return lastModified;
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+            byte[] truncated = new byte[ETAG_HASH_BYTES];
+            System.arraycopy(hash, 0, truncated, 0, ETAG_HASH_BYTES);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(truncated) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
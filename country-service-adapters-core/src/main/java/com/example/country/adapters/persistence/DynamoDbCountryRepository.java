@@ -0,0 +1,716 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.application.exception.CountryAlreadyExistsException;
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public class DynamoDbCountryRepository implements CountryRepositoryPort {
+    private static final String TABLE_NAME = "Countries";
+    private static final String PK = "alpha2Code";
+    private static final String SK = "createDate";
+    // Sparse index: only the current, non-deleted version of each country carries CURRENT_PK
+    static final String GSI_CURRENT = "GSI-Current";
+    static final String CURRENT_PK = "currentPartition";
+    static final String CURRENT_VALUE = "CURRENT";
+    // Pointer items share the version key schema: the country's own partition (or an alias partition
+    // for alpha3/numeric codes) with a fixed sort key that sorts after every ISO-8601 createDate
+    static final String LATEST_SK = "LATEST";
+    static final String ALPHA3_ALIAS_PREFIX = "ALPHA3#";
+    static final String NUMERIC_ALIAS_PREFIX = "NUMERIC#";
+    static final String LATEST_PAYLOAD = "country";
+    private static final char CURSOR_SEPARATOR = '|';
+    private static final int BATCH_GET_LIMIT = 100;
+    private static final int BATCH_WRITE_LIMIT = 25;
+    private static final int BULK_WRITE_CONCURRENCY = 8;
+    private static final int MAX_BATCH_ATTEMPTS = 5;
+    private static final long BATCH_BACKOFF_MILLIS = 25;
+
+    private final DynamoDbClient dynamoDb;
+
+    private record Replacement(Country previous, Country next) {
+    }
+
+    public DynamoDbCountryRepository(DynamoDbClient dynamoDb) {
+        this.dynamoDb = dynamoDb;
+    }
+
+    @Override
+    public Country saveNewVersion(Country country) {
+        // The pointer always holds the newest version, so it tells us which version (if any) carries the marker
+        Optional<Country> previous = readLatest(country.alpha2Code());
+        boolean newest = previous
+                .map(latest -> !latest.createDate().isAfter(country.createDate()))
+                .orElse(true);
+
+        Map<String, AttributeValue> item = toItem(country);
+        if (newest && isCurrent(country)) {
+            item.put(CURRENT_PK, AttributeValue.builder().s(CURRENT_VALUE).build());
+        }
+        try {
+            dynamoDb.putItem(PutItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .item(item)
+                    .conditionExpression("attribute_not_exists(" + SK + ")")
+                    .build());
+        } catch (ConditionalCheckFailedException e) {
+            throw new ConcurrentModificationException("Country " + country.alpha2Code() + " already has a version at " + country.createDate());
+        }
+
+        if (newest) {
+            writeLatest(country);
+            previous.ifPresent(latest -> retire(latest, country));
+        }
+        return country;
+    }
+
+    /**
+     * Reads the current pointers of all countries with BatchGetItem, then writes every version item,
+     * pointer and alias as unconditional puts in {@code BatchWriteItem} chunks of 25, run on a bounded
+     * pool of virtual threads. A version only moves the pointers when it is at least as new as the one
+     * they hold; the version it replaces is rewritten without the current-version marker. Unprocessed
+     * items are retried with jittered exponential backoff. Aliases released by a changed code are
+     * deleted afterwards, one conditional delete each, as in {@link #saveNewVersion}.
+     *
+     * <p>Before anything is written the current holders of the alpha3 and numeric codes are read, and
+     * the whole call is refused with {@link CountryAlreadyExistsException} when a country would take a
+     * code held by another live country or by another country of the same call. The writes themselves
+     * are unconditional: a {@link #supersede} of the same country, or a create taking one of its codes,
+     * that lands between the reads and the writes is overwritten. Bulk writes are therefore only safe
+     * while nothing else writes the countries they load, as when the seeder loads reference data. The
+     * first failing chunk cancels the others and its exception is rethrown; chunks already written stay
+     * written.
+     */
+    @Override
+    public int saveAll(List<Country> countries, Consumer<BulkWriteProgress> progress) {
+        if (countries.stream().map(Country::alpha2Code).distinct().count() < countries.size()) {
+            throw new IllegalArgumentException("Bulk writes take at most one version per country");
+        }
+        Map<String, Country> previous = new HashMap<>();
+        for (int from = 0; from < countries.size(); from += BATCH_GET_LIMIT) {
+            List<Map<String, AttributeValue>> keys = countries.subList(from, Math.min(from + BATCH_GET_LIMIT, countries.size())).stream()
+                    .map(country -> latestKey(country.alpha2Code()))
+                    .toList();
+            batchGetLatest(keys).forEach(country -> previous.put(country.alpha2Code(), country));
+        }
+        Map<String, String> aliasHolders = new HashMap<>();
+        for (Country holder : findLatestHoldingCodes(countries.stream().map(Country::alpha3Code).toList(),
+                countries.stream().map(Country::numericCode).toList())) {
+            aliasKeys(holder).forEach(aliasKey -> aliasHolders.put(aliasKey, holder.alpha2Code()));
+        }
+
+        List<WriteRequest> writes = new ArrayList<>();
+        List<Replacement> replaced = new ArrayList<>();
+        for (Country country : countries) {
+            Country latest = previous.get(country.alpha2Code());
+            boolean newest = latest == null || !latest.createDate().isAfter(country.createDate());
+            Map<String, AttributeValue> version = toItem(country);
+            if (newest && isCurrent(country)) {
+                version.put(CURRENT_PK, AttributeValue.builder().s(CURRENT_VALUE).build());
+            }
+            writes.add(putRequest(version));
+            if (!newest) {
+                continue;
+            }
+            AttributeValue payload = AttributeValue.builder().m(toItem(country)).build();
+            writes.add(putRequest(latestItem(country.alpha2Code(), payload)));
+            for (String aliasKey : aliasKeys(country)) {
+                String holder = aliasHolders.putIfAbsent(aliasKey, country.alpha2Code());
+                if (holder != null && !holder.equals(country.alpha2Code())) {
+                    throw new CountryAlreadyExistsException(describeCode(aliasKey) + " already exists");
+                }
+                writes.add(putRequest(latestItem(aliasKey, payload)));
+            }
+            if (latest != null && !latest.createDate().equals(country.createDate())) {
+                if (isCurrent(latest)) {
+                    // Rewriting the version item clears the marker; expiryDate is stamped as retire() does
+                    writes.add(putRequest(toItem(Country.of(latest.name(), latest.alpha2Code(), latest.alpha3Code(),
+                            latest.numericCode(), latest.createDate(), country.createDate(), latest.isDeleted()))));
+                }
+                replaced.add(new Replacement(latest, country));
+            }
+        }
+
+        List<List<WriteRequest>> chunks = new ArrayList<>();
+        for (int from = 0; from < writes.size(); from += BATCH_WRITE_LIMIT) {
+            chunks.add(writes.subList(from, Math.min(from + BATCH_WRITE_LIMIT, writes.size())));
+        }
+        writeChunks(chunks, progress);
+        for (Replacement replacement : replaced) {
+            removeStaleAliases(replacement.previous(), replacement.next());
+        }
+        return countries.size();
+    }
+
+    private void writeChunks(List<List<WriteRequest>> chunks, Consumer<BulkWriteProgress> progress) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        ExecutorService writers = Executors.newFixedThreadPool(Math.min(BULK_WRITE_CONCURRENCY, chunks.size()),
+                Thread.ofVirtual().name("country-bulk-write-", 1).factory());
+        CompletionService<Integer> completion = new ExecutorCompletionService<>(writers);
+        try {
+            for (List<WriteRequest> chunk : chunks) {
+                completion.submit(() -> {
+                    batchWrite(chunk);
+                    return chunk.size();
+                });
+            }
+            long written = 0;
+            for (int finished = 1; finished <= chunks.size(); finished++) {
+                written += completion.take().get();
+                progress.accept(new BulkWriteProgress(finished, chunks.size(), written));
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Bulk write failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during bulk write", e);
+        } finally {
+            writers.shutdownNow();
+        }
+    }
+
+    private void batchWrite(List<WriteRequest> chunk) {
+        Map<String, List<WriteRequest>> pending = Map.of(TABLE_NAME, chunk);
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > MAX_BATCH_ATTEMPTS) {
+                throw new IllegalStateException("BatchWriteItem left items unprocessed after " + MAX_BATCH_ATTEMPTS + " attempts");
+            }
+            if (attempt > 1) {
+                backOff(attempt);
+            }
+            BatchWriteItemResponse response = dynamoDb.batchWriteItem(BatchWriteItemRequest.builder().requestItems(pending).build());
+            pending = response.hasUnprocessedItems() ? response.unprocessedItems() : Map.of();
+        }
+    }
+
+    private static WriteRequest putRequest(Map<String, AttributeValue> item) {
+        return WriteRequest.builder().putRequest(PutRequest.builder().item(item).build()).build();
+    }
+
+    /**
+     * Writes the first version together with its alpha2 pointer and alpha3/numeric aliases in one
+     * {@code TransactWriteItems} call. The pointer and aliases double as unique-constraint sentinels:
+     * each put only succeeds if the item is absent or names a deleted country.
+     */
+    @Override
+    public Country saveIfAbsent(Country country) {
+        Map<String, AttributeValue> version = toItem(country);
+        if (isCurrent(country)) {
+            version.put(CURRENT_PK, AttributeValue.builder().s(CURRENT_VALUE).build());
+        }
+        AttributeValue payload = AttributeValue.builder().m(toItem(country)).build();
+
+        List<String> pointerKeys = new ArrayList<>();
+        pointerKeys.add(country.alpha2Code());
+        pointerKeys.addAll(aliasKeys(country));
+        List<TransactWriteItem> writes = new ArrayList<>();
+        writes.add(TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(version)
+                        .conditionExpression("attribute_not_exists(" + SK + ")")
+                        .build())
+                .build());
+        for (String pointerKey : pointerKeys) {
+            writes.add(TransactWriteItem.builder()
+                    .put(Put.builder()
+                            .tableName(TABLE_NAME)
+                            .item(latestItem(pointerKey, payload))
+                            .conditionExpression("attribute_not_exists(" + PK + ") OR #payload.isDeleted = :deleted")
+                            .expressionAttributeNames(Map.of("#payload", LATEST_PAYLOAD))
+                            .expressionAttributeValues(Map.of(":deleted", AttributeValue.builder().bool(true).build()))
+                            .build())
+                    .build());
+        }
+
+        try {
+            dynamoDb.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(writes)
+                    .build());
+        } catch (TransactionCanceledException e) {
+            List<String> codes = e.hasCancellationReasons()
+                    ? e.cancellationReasons().stream().map(CancellationReason::code).toList()
+                    : List.of();
+            for (int i = 1; i < codes.size(); i++) {
+                if ("ConditionalCheckFailed".equals(codes.get(i))) {
+                    throw new CountryAlreadyExistsException(describeCode(pointerKeys.get(i - 1)) + " already exists");
+                }
+            }
+            if (codes.contains("ConditionalCheckFailed") || codes.contains("TransactionConflict")) {
+                throw new ConcurrentModificationException("Country " + country.alpha2Code() + " was modified concurrently");
+            }
+            throw e;
+        }
+        return country;
+    }
+
+    /**
+     * Writes the new version, stamps {@code expiryDate} on the previous one and moves the pointers in a
+     * single {@code TransactWriteItems} call. The alpha2 pointer is only replaced while it still names
+     * {@code previous}, so a concurrent writer that got there first cancels the whole transaction.
+     * Aliases are only taken over when absent, already this country's, or left by a deleted country,
+     * as in {@link #saveIfAbsent}.
+     */
+    @Override
+    public Country supersede(Country previous, Country next) {
+        Map<String, AttributeValue> version = toItem(next);
+        if (isCurrent(next)) {
+            version.put(CURRENT_PK, AttributeValue.builder().s(CURRENT_VALUE).build());
+        }
+        AttributeValue payload = AttributeValue.builder().m(toItem(next)).build();
+
+        List<TransactWriteItem> writes = new ArrayList<>();
+        writes.add(TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(version)
+                        .conditionExpression("attribute_not_exists(" + SK + ")")
+                        .build())
+                .build());
+        writes.add(TransactWriteItem.builder()
+                .update(Update.builder()
+                        .tableName(TABLE_NAME)
+                        .key(Map.of(
+                                PK, AttributeValue.builder().s(previous.alpha2Code()).build(),
+                                SK, AttributeValue.builder().s(previous.createDate().toString()).build()))
+                        .updateExpression("SET expiryDate = :expiry REMOVE " + CURRENT_PK)
+                        .conditionExpression("attribute_exists(" + SK + ")")
+                        .expressionAttributeValues(Map.of(":expiry", AttributeValue.builder().s(next.createDate().toString()).build()))
+                        .build())
+                .build());
+        writes.add(TransactWriteItem.builder()
+                .put(Put.builder()
+                        .tableName(TABLE_NAME)
+                        .item(latestItem(next.alpha2Code(), payload))
+                        .conditionExpression("#payload.#createDate = :expected")
+                        .expressionAttributeNames(Map.of("#payload", LATEST_PAYLOAD, "#createDate", SK))
+                        .expressionAttributeValues(Map.of(":expected", AttributeValue.builder().s(previous.createDate().toString()).build()))
+                        .build())
+                .build());
+        List<String> aliasKeys = aliasKeys(next);
+        for (String aliasKey : aliasKeys) {
+            writes.add(TransactWriteItem.builder()
+                    .put(Put.builder()
+                            .tableName(TABLE_NAME)
+                            .item(latestItem(aliasKey, payload))
+                            .conditionExpression("attribute_not_exists(" + PK + ") OR #payload." + PK + " = :alpha2 OR #payload.isDeleted = :deleted")
+                            .expressionAttributeNames(Map.of("#payload", LATEST_PAYLOAD))
+                            .expressionAttributeValues(Map.of(
+                                    ":alpha2", AttributeValue.builder().s(next.alpha2Code()).build(),
+                                    ":deleted", AttributeValue.builder().bool(true).build()))
+                            .build())
+                    .build());
+        }
+
+        try {
+            dynamoDb.transactWriteItems(TransactWriteItemsRequest.builder()
+                    .transactItems(writes)
+                    .build());
+        } catch (TransactionCanceledException e) {
+            List<String> codes = e.hasCancellationReasons()
+                    ? e.cancellationReasons().stream().map(CancellationReason::code).toList()
+                    : List.of();
+            int firstAlias = writes.size() - aliasKeys.size();
+            for (int i = firstAlias; i < codes.size(); i++) {
+                if ("ConditionalCheckFailed".equals(codes.get(i))) {
+                    throw new CountryAlreadyExistsException(describeCode(aliasKeys.get(i - firstAlias)) + " already exists");
+                }
+            }
+            if (codes.contains("ConditionalCheckFailed") || codes.contains("TransactionConflict")) {
+                throw new ConcurrentModificationException("Country " + next.alpha2Code() + " was modified concurrently");
+            }
+            throw e;
+        }
+        removeStaleAliases(previous, next);
+        return next;
+    }
+
+    @Override
+    public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+        return findLatest(alpha2Code);
+    }
+
+    @Override
+    public Optional<Country> findLatestByAlpha3(String alpha3Code) {
+        return findLatest(ALPHA3_ALIAS_PREFIX + alpha3Code);
+    }
+
+    @Override
+    public Optional<Country> findLatestByNumeric(String numericCode) {
+        return findLatest(NUMERIC_ALIAS_PREFIX + numericCode);
+    }
+
+    /**
+     * Reads the LATEST pointers of all codes with strongly consistent BatchGetItem calls of up to 100 keys,
+     * retrying unprocessed keys with exponential backoff.
+     */
+    @Override
+    public List<Country> findLatestByAlpha2In(Collection<String> alpha2Codes) {
+        List<String> codes = alpha2Codes.stream().distinct().toList();
+        Map<String, Country> found = new HashMap<>();
+        for (int from = 0; from < codes.size(); from += BATCH_GET_LIMIT) {
+            List<Map<String, AttributeValue>> keys = codes.subList(from, Math.min(from + BATCH_GET_LIMIT, codes.size())).stream()
+                    .map(DynamoDbCountryRepository::latestKey)
+                    .toList();
+            batchGetLatest(keys).forEach(country -> found.put(country.alpha2Code(), country));
+        }
+        return codes.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .filter(DynamoDbCountryRepository::isCurrent)
+                .toList();
+    }
+
+    /**
+     * Reads the alpha3 and numeric aliases with strongly consistent BatchGetItem calls of up to 100 keys.
+     */
+    @Override
+    public List<Country> findLatestHoldingCodes(Collection<String> alpha3Codes, Collection<String> numericCodes) {
+        List<Map<String, AttributeValue>> keys = new ArrayList<>();
+        alpha3Codes.stream().distinct().forEach(code -> keys.add(latestKey(ALPHA3_ALIAS_PREFIX + code)));
+        numericCodes.stream().distinct().forEach(code -> keys.add(latestKey(NUMERIC_ALIAS_PREFIX + code)));
+        Map<String, Country> holders = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += BATCH_GET_LIMIT) {
+            batchGetLatest(keys.subList(from, Math.min(from + BATCH_GET_LIMIT, keys.size()))).stream()
+                    .filter(DynamoDbCountryRepository::isCurrent)
+                    .forEach(country -> holders.putIfAbsent(country.alpha2Code(), country));
+        }
+        return List.copyOf(holders.values());
+    }
+
+    @Override
+    public List<Country> listLatest(int limit, int offset) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        // Page through the sparse index until offset + limit entries have been read
+        return dynamoDb.queryPaginator(currentIndexQuery((int) Math.min((long) limit + offset, 1000), null))
+                .items().stream()
+                .skip(offset)
+                .limit(limit)
+                .map(DynamoDbCountryRepository::toCountry)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CountryPage listLatestPage(int limit, String cursor) {
+        QueryResponse response = dynamoDb.query(currentIndexQuery(limit, cursor == null ? null : decodeCursor(cursor)));
+        List<Country> items = response.items().stream()
+                .map(DynamoDbCountryRepository::toCountry)
+                .collect(Collectors.toList());
+        String nextCursor = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                ? encodeCursor(response.lastEvaluatedKey())
+                : null;
+        return new CountryPage(items, nextCursor);
+    }
+
+    @Override
+    public List<Country> historyByAlpha2(String alpha2Code) {
+        QueryRequest request = QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .keyConditionExpression(PK + " = :pk AND " + SK + " < :latest")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(alpha2Code).build(),
+                        ":latest", AttributeValue.builder().s(LATEST_SK).build()))
+                .scanIndexForward(false)
+                .build();
+
+        QueryResponse response = dynamoDb.query(request);
+        return response.items().stream()
+                .map(DynamoDbCountryRepository::toCountry)
+                .sorted(Comparator.comparing(Country::createDate).reversed())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs a parallel Scan with one worker per segment. Each worker follows LastEvaluatedKey through its
+     * segment and hands version items to the sink as pages arrive; pointer and alias items are filtered
+     * out by DynamoDB. The first failing worker cancels the others and its exception is rethrown.
+     */
+    @Override
+    public long exportAll(int segments, Consumer<Country> sink) {
+        AtomicLong exported = new AtomicLong();
+        AtomicInteger workerNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(segments, runnable -> {
+            Thread thread = new Thread(runnable, "country-export-" + workerNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<Void> completion = new ExecutorCompletionService<>(workers);
+        try {
+            for (int segment = 0; segment < segments; segment++) {
+                int current = segment;
+                completion.submit(() -> {
+                    scanSegment(current, segments, country -> {
+                        synchronized (exported) {
+                            sink.accept(country);
+                            exported.incrementAndGet();
+                        }
+                    });
+                    return null;
+                });
+            }
+            for (int finished = 0; finished < segments; finished++) {
+                completion.take().get();
+            }
+            return exported.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Export failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during export", e);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private void scanSegment(int segment, int totalSegments, Consumer<Country> sink) {
+        ScanRequest request = ScanRequest.builder()
+                .tableName(TABLE_NAME)
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .filterExpression("#sk <> :latest")
+                .expressionAttributeNames(Map.of("#sk", SK))
+                .expressionAttributeValues(Map.of(":latest", AttributeValue.builder().s(LATEST_SK).build()))
+                .build();
+        for (Map<String, AttributeValue> item : dynamoDb.scanPaginator(request).items()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Export cancelled");
+            }
+            sink.accept(toCountry(item));
+        }
+    }
+
+    /**
+     * Resolves a pointer or alias with a single strongly consistent GetItem. The pointer tracks the
+     * newest version even when it is a tombstone, so a deleted or expired country resolves to empty.
+     */
+    private Optional<Country> findLatest(String pointerKey) {
+        return readLatest(pointerKey).filter(DynamoDbCountryRepository::isCurrent);
+    }
+
+    private Optional<Country> readLatest(String pointerKey) {
+        GetItemResponse response = dynamoDb.getItem(GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(latestKey(pointerKey))
+                .consistentRead(true)
+                .build());
+        if (!response.hasItem() || !response.item().containsKey(LATEST_PAYLOAD)) {
+            return Optional.empty();
+        }
+        return Optional.of(toCountry(response.item().get(LATEST_PAYLOAD).m()));
+    }
+
+    private List<Country> batchGetLatest(List<Map<String, AttributeValue>> keys) {
+        List<Country> countries = new ArrayList<>();
+        Map<String, KeysAndAttributes> pending = Map.of(TABLE_NAME,
+                KeysAndAttributes.builder().keys(keys).consistentRead(true).build());
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            if (attempt > MAX_BATCH_ATTEMPTS) {
+                throw new IllegalStateException("BatchGetItem left keys unprocessed after " + MAX_BATCH_ATTEMPTS + " attempts");
+            }
+            if (attempt > 1) {
+                backOff(attempt);
+            }
+            BatchGetItemResponse response = dynamoDb.batchGetItem(BatchGetItemRequest.builder().requestItems(pending).build());
+            response.responses().getOrDefault(TABLE_NAME, List.of()).stream()
+                    .filter(item -> item.containsKey(LATEST_PAYLOAD))
+                    .map(item -> toCountry(item.get(LATEST_PAYLOAD).m()))
+                    .forEach(countries::add);
+            pending = response.hasUnprocessedKeys() ? response.unprocessedKeys() : Map.of();
+        }
+        return countries;
+    }
+
+    private static void backOff(int attempt) {
+        long ceiling = BATCH_BACKOFF_MILLIS << (attempt - 2);
+        try {
+            Thread.sleep(ceiling / 2 + (long) (Math.random() * ceiling / 2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a batch request", e);
+        }
+    }
+
+    /**
+     * Moves the pointer and aliases to {@code country} with unconditional puts. Only
+     * {@link #saveNewVersion} uses it, which like {@link #saveAll} is meant for a single writer such
+     * as the seeder; API writes go through {@link #saveIfAbsent} and {@link #supersede}, which guard
+     * the aliases.
+     */
+    private void writeLatest(Country country) {
+        AttributeValue payload = AttributeValue.builder().m(toItem(country)).build();
+        dynamoDb.putItem(PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(latestItem(country.alpha2Code(), payload))
+                .build());
+        for (String aliasKey : aliasKeys(country)) {
+            dynamoDb.putItem(PutItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .item(latestItem(aliasKey, payload))
+                    .build());
+        }
+    }
+
+    /**
+     * Clears the current-version marker from the version the new one replaces and drops aliases
+     * for codes the country no longer uses.
+     */
+    private void retire(Country previous, Country next) {
+        if (isCurrent(previous) && !previous.createDate().equals(next.createDate())) {
+            dynamoDb.updateItem(UpdateItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(Map.of(
+                            PK, AttributeValue.builder().s(previous.alpha2Code()).build(),
+                            SK, AttributeValue.builder().s(previous.createDate().toString()).build()))
+                    .updateExpression("REMOVE " + CURRENT_PK)
+                    .build());
+        }
+        removeStaleAliases(previous, next);
+    }
+
+    private void removeStaleAliases(Country previous, Country next) {
+        if (!previous.alpha3Code().equals(next.alpha3Code())) {
+            deleteAlias(ALPHA3_ALIAS_PREFIX + previous.alpha3Code(), previous.alpha2Code());
+        }
+        if (!previous.numericCode().equals(next.numericCode())) {
+            deleteAlias(NUMERIC_ALIAS_PREFIX + previous.numericCode(), previous.alpha2Code());
+        }
+    }
+
+    private void deleteAlias(String aliasKey, String alpha2Code) {
+        try {
+            // Only remove the alias while it still belongs to this country
+            dynamoDb.deleteItem(DeleteItemRequest.builder()
+                    .tableName(TABLE_NAME)
+                    .key(latestKey(aliasKey))
+                    .conditionExpression("#payload." + PK + " = :alpha2")
+                    .expressionAttributeNames(Map.of("#payload", LATEST_PAYLOAD))
+                    .expressionAttributeValues(Map.of(":alpha2", AttributeValue.builder().s(alpha2Code).build()))
+                    .build());
+        } catch (ConditionalCheckFailedException ignored) {
+            // Code has been reassigned to another country
+        }
+    }
+
+    private static String describeCode(String pointerKey) {
+        if (pointerKey.startsWith(ALPHA3_ALIAS_PREFIX)) {
+            return "Country with alpha3Code " + pointerKey.substring(ALPHA3_ALIAS_PREFIX.length());
+        }
+        if (pointerKey.startsWith(NUMERIC_ALIAS_PREFIX)) {
+            return "Country with numericCode " + pointerKey.substring(NUMERIC_ALIAS_PREFIX.length());
+        }
+        return "Country with alpha2Code " + pointerKey;
+    }
+
+    private static List<String> aliasKeys(Country country) {
+        return List.of(ALPHA3_ALIAS_PREFIX + country.alpha3Code(), NUMERIC_ALIAS_PREFIX + country.numericCode());
+    }
+
+    private static Map<String, AttributeValue> latestItem(String pointerKey, AttributeValue payload) {
+        Map<String, AttributeValue> item = new HashMap<>(latestKey(pointerKey));
+        item.put(LATEST_PAYLOAD, payload);
+        return item;
+    }
+
+    private static Map<String, AttributeValue> latestKey(String pointerKey) {
+        return Map.of(
+                PK, AttributeValue.builder().s(pointerKey).build(),
+                SK, AttributeValue.builder().s(LATEST_SK).build());
+    }
+
+    private QueryRequest currentIndexQuery(int pageSize, Map<String, AttributeValue> exclusiveStartKey) {
+        return QueryRequest.builder()
+                .tableName(TABLE_NAME)
+                .indexName(GSI_CURRENT)
+                .keyConditionExpression(CURRENT_PK + " = :current")
+                .expressionAttributeValues(Map.of(":current", AttributeValue.builder().s(CURRENT_VALUE).build()))
+                .scanIndexForward(true)
+                .limit(pageSize)
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+    }
+
+    /**
+     * Encodes a LastEvaluatedKey of the current-version index as an opaque, URL-safe cursor.
+     * The index partition is constant, so only the table key (alpha2Code, createDate) is carried.
+     */
+    private String encodeCursor(Map<String, AttributeValue> lastEvaluatedKey) {
+        String raw = lastEvaluatedKey.get(PK).s() + CURSOR_SEPARATOR + lastEvaluatedKey.get(SK).s();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Map<String, AttributeValue> decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            String alpha2 = raw.substring(0, separator);
+            String createDate = raw.substring(separator + 1);
+            Instant.parse(createDate);
+            return Map.of(
+                    CURRENT_PK, AttributeValue.builder().s(CURRENT_VALUE).build(),
+                    PK, AttributeValue.builder().s(alpha2).build(),
+                    SK, AttributeValue.builder().s(createDate).build());
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    private static boolean isCurrent(Country country) {
+        return !country.isDeleted() && country.expiryDate() == null;
+    }
+
+    private Map<String, AttributeValue> toItem(Country country) {
+        Map<String, AttributeValue> item = new HashMap<>();
+        item.put(PK, AttributeValue.builder().s(country.alpha2Code()).build());
+        item.put(SK, AttributeValue.builder().s(country.createDate().toString()).build());
+        item.put("name", AttributeValue.builder().s(country.name()).build());
+        item.put("alpha3Code", AttributeValue.builder().s(country.alpha3Code()).build());
+        item.put("numericCode", AttributeValue.builder().s(country.numericCode()).build());
+        item.put("isDeleted", AttributeValue.builder().bool(country.isDeleted()).build());
+        if (country.expiryDate() != null) {
+            item.put("expiryDate", AttributeValue.builder().s(country.expiryDate().toString()).build());
+        }
+        return item;
+    }
+
+    static Country toCountry(Map<String, AttributeValue> item) {
+        String name = item.get("name").s();
+        String alpha2 = item.get(PK).s();
+        String alpha3 = item.get("alpha3Code").s();
+        String numeric = item.get("numericCode").s();
+        Instant createDate = Instant.parse(item.get(SK).s());
+        AttributeValue expiryVal = item.get("expiryDate");
+        Instant expiryDate = expiryVal != null && !expiryVal.nul() ? Instant.parse(expiryVal.s()) : null;
+        boolean isDeleted = Boolean.parseBoolean(item.getOrDefault("isDeleted", AttributeValue.builder().bool(false).build()).bool().toString());
+        return Country.of(name, alpha2, alpha3, numeric, createDate, expiryDate, isDeleted);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.adapters.seeding.SeedManifest;
+import com.example.country.adapters.seeding.SeedManifestStore;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.GetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Stores the seed manifest as a single item in the Countries table, keyed like a LATEST pointer under
+ * a {@code SEED#} partition so that scans, the export and the stream tailer skip it.
+ */
+public class DynamoDbSeedManifestStore implements SeedManifestStore {
+    private static final String TABLE_NAME = "Countries";
+    private static final String PK = "alpha2Code";
+    private static final String SK = "createDate";
+    static final String MANIFEST_PREFIX = "SEED#";
+    private static final String DATASET_HASH = "datasetHash";
+    private static final String ROW_HASHES = "rowHashes";
+
+    private final DynamoDbClient dynamoDb;
+    private final Map<String, AttributeValue> key;
+
+    public DynamoDbSeedManifestStore(DynamoDbClient dynamoDb, String dataset) {
+        this.dynamoDb = dynamoDb;
+        this.key = Map.of(
+                PK, AttributeValue.builder().s(MANIFEST_PREFIX + dataset).build(),
+                SK, AttributeValue.builder().s(DynamoDbCountryRepository.LATEST_SK).build());
+    }
+
+    @Override
+    public Optional<SeedManifest> load() {
+        GetItemResponse response = dynamoDb.getItem(GetItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .key(key)
+                .consistentRead(true)
+                .build());
+        if (!response.hasItem() || !response.item().containsKey(DATASET_HASH)) {
+            return Optional.empty();
+        }
+        Map<String, String> rowHashes = new HashMap<>();
+        response.item().getOrDefault(ROW_HASHES, AttributeValue.builder().m(Map.of()).build()).m()
+                .forEach((alpha2, hash) -> rowHashes.put(alpha2, hash.s()));
+        return Optional.of(new SeedManifest(response.item().get(DATASET_HASH).s(), rowHashes));
+    }
+
+    @Override
+    public void save(SeedManifest manifest) {
+        Map<String, AttributeValue> rowHashes = new HashMap<>();
+        manifest.rowHashes().forEach((alpha2, hash) -> rowHashes.put(alpha2, AttributeValue.builder().s(hash).build()));
+        Map<String, AttributeValue> item = new HashMap<>(key);
+        item.put(DATASET_HASH, AttributeValue.builder().s(manifest.datasetHash()).build());
+        item.put(ROW_HASHES, AttributeValue.builder().m(rowHashes).build());
+        dynamoDb.putItem(PutItemRequest.builder()
+                .tableName(TABLE_NAME)
+                .item(item)
+                .build());
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.application.ports.CountryChangeListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tails the DynamoDB stream of the Countries table and hands every version item written by any
+ * instance to a {@link CountryChangeListener}.
+ *
+ * <p>Shards open when tailing starts are read from their latest position; shards discovered later
+ * (children of closed shards) are read from the start, so no change after startup is skipped.
+ * LATEST pointer and alias items are ignored because each write also produces a version item, and so
+ * are updates that only retire a version (it loses its current-version marker) because the write that
+ * replaced it produces the new version item.
+ * When the stream position is lost (the iterator expired, e.g. after a Lambda environment was
+ * frozen, or records were trimmed) the listener is told to discard its state.
+ */
+public class DynamoDbStreamTailer implements AutoCloseable {
+    private static final Logger log = LoggerFactory.getLogger(DynamoDbStreamTailer.class);
+    private static final String TABLE_NAME = "Countries";
+    private static final int RECORD_LIMIT = 1000;
+
+    private final DynamoDbClient dynamoDb;
+    private final DynamoDbStreamsClient streams;
+    private final CountryChangeListener listener;
+    private final Map<String, String> iterators = new LinkedHashMap<>();
+    private final Set<String> finishedShards = new HashSet<>();
+    private String streamArn;
+    private boolean discoverShards = true;
+    private ScheduledExecutorService poller;
+
+    public DynamoDbStreamTailer(DynamoDbClient dynamoDb, DynamoDbStreamsClient streams, CountryChangeListener listener) {
+        this.dynamoDb = Objects.requireNonNull(dynamoDb);
+        this.streams = Objects.requireNonNull(streams);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Starts polling the stream in the background every {@code interval}.
+     */
+    public synchronized DynamoDbStreamTailer start(Duration interval) {
+        if (poller != null) {
+            throw new IllegalStateException("Stream tailing already started");
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "country-stream-tailer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (poller != null) {
+            poller.shutdownNow();
+            poller = null;
+        }
+    }
+
+    /**
+     * Reads one batch of records from every open shard and returns the number of version items delivered.
+     */
+    public synchronized int poll() {
+        if (streamArn == null) {
+            streamArn = dynamoDb.describeTable(DescribeTableRequest.builder().tableName(TABLE_NAME).build())
+                    .table().latestStreamArn();
+            if (streamArn == null) {
+                throw new IllegalStateException("Streams are not enabled on table " + TABLE_NAME);
+            }
+        }
+        if (discoverShards) {
+            discoverShards();
+        }
+        int delivered = 0;
+        for (Map.Entry<String, String> shard : iterators.entrySet()) {
+            delivered += readShard(shard);
+        }
+        if (iterators.values().removeIf(Objects::isNull)) {
+            // A closed shard has children to pick up
+            discoverShards = true;
+        }
+        return delivered;
+    }
+
+    private void discoverShards() {
+        boolean initial = iterators.isEmpty() && finishedShards.isEmpty();
+        String lastShardId = null;
+        do {
+            StreamDescription description = streams.describeStream(DescribeStreamRequest.builder()
+                    .streamArn(streamArn)
+                    .exclusiveStartShardId(lastShardId)
+                    .build()).streamDescription();
+            for (Shard shard : description.shards()) {
+                String shardId = shard.shardId();
+                boolean closed = shard.sequenceNumberRange() != null && shard.sequenceNumberRange().endingSequenceNumber() != null;
+                if (iterators.containsKey(shardId) || finishedShards.contains(shardId) || initial && closed) {
+                    continue;
+                }
+                iterators.put(shardId, shardIterator(shardId, initial ? ShardIteratorType.LATEST : ShardIteratorType.TRIM_HORIZON));
+            }
+            lastShardId = description.lastEvaluatedShardId();
+        } while (lastShardId != null);
+        discoverShards = false;
+    }
+
+    private int readShard(Map.Entry<String, String> shard) {
+        GetRecordsResponse response;
+        try {
+            response = streams.getRecords(GetRecordsRequest.builder().shardIterator(shard.getValue()).limit(RECORD_LIMIT).build());
+        } catch (ExpiredIteratorException | TrimmedDataAccessException e) {
+            log.warn("Lost position in shard {}, resynchronising: {}", shard.getKey(), e.getMessage());
+            shard.setValue(shardIterator(shard.getKey(), ShardIteratorType.LATEST));
+            listener.onChangesMissed();
+            return 0;
+        }
+        int delivered = 0;
+        for (software.amazon.awssdk.services.dynamodb.model.Record record : response.records()) {
+            Map<String, AttributeValue> image = record.eventName() == OperationType.REMOVE
+                    ? record.dynamodb().oldImage()
+                    : record.dynamodb().newImage();
+            if (image == null || image.isEmpty() || DynamoDbCountryRepository.LATEST_SK.equals(image.get("createDate").s())
+                    || isRetirement(record)) {
+                continue;
+            }
+            listener.onCountryChanged(DynamoDbCountryRepository.toCountry(image));
+            delivered++;
+        }
+        if (response.nextShardIterator() == null) {
+            finishedShards.add(shard.getKey());
+        }
+        shard.setValue(response.nextShardIterator());
+        return delivered;
+    }
+
+    private static boolean isRetirement(software.amazon.awssdk.services.dynamodb.model.Record record) {
+        Map<String, AttributeValue> oldImage = record.dynamodb().oldImage();
+        Map<String, AttributeValue> newImage = record.dynamodb().newImage();
+        return record.eventName() == OperationType.MODIFY && oldImage != null && newImage != null
+                && oldImage.containsKey(DynamoDbCountryRepository.CURRENT_PK)
+                && !newImage.containsKey(DynamoDbCountryRepository.CURRENT_PK);
+    }
+
+    private String shardIterator(String shardId, ShardIteratorType type) {
+        return streams.getShardIterator(GetShardIteratorRequest.builder()
+                .streamArn(streamArn)
+                .shardId(shardId)
+                .shardIteratorType(type)
+                .build()).shardIterator();
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            log.warn("Polling the Countries stream failed: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.country.adapters.persistence;
+
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class DynamoDbTableHelper {
+    // Recorded once the LATEST pointers and current-version markers have been backfilled; keyed like a
+    // pointer so that scans, the export and the stream tailer skip it
+    static final String CURRENT_INDEX_MIGRATION = "MIGRATION#current-index";
+    // Building an index over an existing table takes minutes per gigabyte, not seconds
+    private static final Duration ACTIVE_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration MAX_POLL_INTERVAL = Duration.ofSeconds(5);
+
+    public static void createTableIfNotExists(DynamoDbClient client) {
+        String tableName = "Countries";
+        try {
+            DescribeTableResponse existing = client.describeTable(DescribeTableRequest.builder().tableName(tableName).build());
+            // Table exists, make sure indexes and streams added since it was created are present
+            ensureCurrentIndex(client, existing.table());
+            ensureStream(client, existing.table());
+            migrateCurrentVersions(client, tableName);
+            return;
+        } catch (ResourceNotFoundException ignored) {
+            // Table doesn't exist, create it
+        }
+        CreateTableRequest request = CreateTableRequest.builder()
+                .tableName(tableName)
+                .keySchema(
+                        KeySchemaElement.builder().attributeName("alpha2Code").keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName("createDate").keyType(KeyType.RANGE).build()
+                )
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName("alpha2Code").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName("createDate").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName("alpha3Code").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName("numericCode").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName(DynamoDbCountryRepository.CURRENT_PK).attributeType(ScalarAttributeType.S).build()
+                )
+                .billingMode(BillingMode.PAY_PER_REQUEST)
+                .streamSpecification(streamSpecification())
+                .globalSecondaryIndexes(
+                        GlobalSecondaryIndex.builder()
+                                .indexName("GSI-Alpha3")
+                                .keySchema(
+                                        KeySchemaElement.builder().attributeName("alpha3Code").keyType(KeyType.HASH).build(),
+                                        KeySchemaElement.builder().attributeName("createDate").keyType(KeyType.RANGE).build()
+                                )
+                                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                                .build(),
+                        GlobalSecondaryIndex.builder()
+                                .indexName("GSI-Numeric")
+                                .keySchema(
+                                        KeySchemaElement.builder().attributeName("numericCode").keyType(KeyType.HASH).build(),
+                                        KeySchemaElement.builder().attributeName("createDate").keyType(KeyType.RANGE).build()
+                                )
+                                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                                .build(),
+                        currentIndex()
+                )
+                .build();
+        client.createTable(request);
+        waitUntilActive(client, tableName);
+        migrateCurrentVersions(client, tableName);
+    }
+
+    /**
+     * Sparse index holding only the current, non-deleted version of each country, sorted by alpha2Code.
+     * All entries share one partition value, which is fine for a reference data set of a few hundred rows.
+     */
+    private static GlobalSecondaryIndex currentIndex() {
+        return GlobalSecondaryIndex.builder()
+                .indexName(DynamoDbCountryRepository.GSI_CURRENT)
+                .keySchema(
+                        KeySchemaElement.builder().attributeName(DynamoDbCountryRepository.CURRENT_PK).keyType(KeyType.HASH).build(),
+                        KeySchemaElement.builder().attributeName("alpha2Code").keyType(KeyType.RANGE).build()
+                )
+                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                .build();
+    }
+
+    /**
+     * Adds the current-version index to a table created before it existed. The rows it indexes are
+     * marked by {@link #migrateCurrentVersions}, whoever created the index.
+     */
+    private static void ensureCurrentIndex(DynamoDbClient client, TableDescription table) {
+        boolean present = table.hasGlobalSecondaryIndexes() && table.globalSecondaryIndexes().stream()
+                .anyMatch(gsi -> DynamoDbCountryRepository.GSI_CURRENT.equals(gsi.indexName()));
+        if (present) {
+            return;
+        }
+        client.updateTable(UpdateTableRequest.builder()
+                .tableName(table.tableName())
+                .attributeDefinitions(
+                        AttributeDefinition.builder().attributeName("alpha2Code").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName(DynamoDbCountryRepository.CURRENT_PK).attributeType(ScalarAttributeType.S).build()
+                )
+                .globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder()
+                        .create(CreateGlobalSecondaryIndexAction.builder()
+                                .indexName(currentIndex().indexName())
+                                .keySchema(currentIndex().keySchema())
+                                .projection(currentIndex().projection())
+                                .build())
+                        .build())
+                .build());
+        waitUntilActive(client, table.tableName());
+    }
+
+    /**
+     * Writes the LATEST pointers and current-version markers for rows written before they existed, once
+     * per table. Tables whose index came from CloudFormation or an earlier run of this helper need it as
+     * much as tables the helper upgrades itself, so it is tracked by its own marker item rather than by
+     * the index. Running it again is harmless: pointers already holding a newer version are kept.
+     */
+    private static void migrateCurrentVersions(DynamoDbClient client, String tableName) {
+        Map<String, AttributeValue> key = Map.of(
+                "alpha2Code", AttributeValue.builder().s(CURRENT_INDEX_MIGRATION).build(),
+                "createDate", AttributeValue.builder().s(DynamoDbCountryRepository.LATEST_SK).build());
+        if (client.getItem(GetItemRequest.builder().tableName(tableName).key(key).consistentRead(true).build()).hasItem()) {
+            return;
+        }
+        backfillCurrentMarkers(client, tableName);
+        Map<String, AttributeValue> marker = new HashMap<>(key);
+        marker.put("completedAt", AttributeValue.builder().s(Instant.now().toString()).build());
+        client.putItem(PutItemRequest.builder().tableName(tableName).item(marker).build());
+    }
+
+    /**
+     * Change stream used by {@link DynamoDbStreamTailer} to keep other instances' caches up to date.
+     */
+    private static StreamSpecification streamSpecification() {
+        return StreamSpecification.builder()
+                .streamEnabled(true)
+                .streamViewType(StreamViewType.NEW_AND_OLD_IMAGES)
+                .build();
+    }
+
+    private static void ensureStream(DynamoDbClient client, TableDescription table) {
+        if (table.streamSpecification() != null && Boolean.TRUE.equals(table.streamSpecification().streamEnabled())) {
+            return;
+        }
+        client.updateTable(UpdateTableRequest.builder()
+                .tableName(table.tableName())
+                .streamSpecification(streamSpecification())
+                .build());
+        waitUntilActive(client, table.tableName());
+    }
+
+    private static void backfillCurrentMarkers(DynamoDbClient client, String tableName) {
+        Map<String, Map<String, AttributeValue>> newest = new HashMap<>();
+        client.scanPaginator(ScanRequest.builder().tableName(tableName).build()).items().stream()
+                .filter(item -> !DynamoDbCountryRepository.LATEST_SK.equals(item.get("createDate").s()))
+                .forEach(item -> {
+                    String alpha2 = item.get("alpha2Code").s();
+                    Map<String, AttributeValue> seen = newest.get(alpha2);
+                    if (seen == null || Instant.parse(item.get("createDate").s()).isAfter(Instant.parse(seen.get("createDate").s()))) {
+                        newest.put(alpha2, item);
+                    }
+                });
+        newest.values().removeIf(item -> !backfillLatestPointers(client, tableName, item));
+        newest.values().stream()
+                .filter(item -> !item.containsKey("expiryDate") || Boolean.TRUE.equals(item.get("expiryDate").nul()))
+                .filter(item -> !item.containsKey("isDeleted") || !item.get("isDeleted").bool())
+                .forEach(item -> client.updateItem(UpdateItemRequest.builder()
+                        .tableName(tableName)
+                        .key(Map.of("alpha2Code", item.get("alpha2Code"), "createDate", item.get("createDate")))
+                        .updateExpression("SET " + DynamoDbCountryRepository.CURRENT_PK + " = :current")
+                        .expressionAttributeValues(Map.of(":current",
+                                AttributeValue.builder().s(DynamoDbCountryRepository.CURRENT_VALUE).build()))
+                        .build()));
+    }
+
+    /**
+     * Writes the LATEST pointer and alpha3/numeric aliases for the newest version of a country, unless
+     * the pointer already holds a newer one.
+     *
+     * @return whether the scanned version is the newest, so it should carry the current-version marker
+     */
+    private static boolean backfillLatestPointers(DynamoDbClient client, String tableName, Map<String, AttributeValue> newest) {
+        Map<String, AttributeValue> pointer = client.getItem(GetItemRequest.builder()
+                .tableName(tableName)
+                .key(Map.of(
+                        "alpha2Code", newest.get("alpha2Code"),
+                        "createDate", AttributeValue.builder().s(DynamoDbCountryRepository.LATEST_SK).build()))
+                .consistentRead(true)
+                .build()).item();
+        if (pointer != null && pointer.containsKey(DynamoDbCountryRepository.LATEST_PAYLOAD)) {
+            Instant held = Instant.parse(pointer.get(DynamoDbCountryRepository.LATEST_PAYLOAD).m().get("createDate").s());
+            if (held.isAfter(Instant.parse(newest.get("createDate").s()))) {
+                return false;
+            }
+        }
+        Map<String, AttributeValue> version = new HashMap<>(newest);
+        version.remove(DynamoDbCountryRepository.CURRENT_PK);
+        AttributeValue payload = AttributeValue.builder().m(version).build();
+        for (String pointerKey : List.of(version.get("alpha2Code").s(),
+                DynamoDbCountryRepository.ALPHA3_ALIAS_PREFIX + version.get("alpha3Code").s(),
+                DynamoDbCountryRepository.NUMERIC_ALIAS_PREFIX + version.get("numericCode").s())) {
+            client.putItem(PutItemRequest.builder()
+                    .tableName(tableName)
+                    .item(Map.of(
+                            "alpha2Code", AttributeValue.builder().s(pointerKey).build(),
+                            "createDate", AttributeValue.builder().s(DynamoDbCountryRepository.LATEST_SK).build(),
+                            DynamoDbCountryRepository.LATEST_PAYLOAD, payload))
+                    .build());
+        }
+        return true;
+    }
+
+    /**
+     * Waits for the table and all of its indexes to be {@code ACTIVE}, polling with a growing interval.
+     */
+    private static void waitUntilActive(DynamoDbClient client, String tableName) {
+        long deadline = System.nanoTime() + ACTIVE_TIMEOUT.toNanos();
+        long interval = 100;
+        while (true) {
+            TableDescription table = client.describeTable(DescribeTableRequest.builder().tableName(tableName).build()).table();
+            boolean indexesActive = !table.hasGlobalSecondaryIndexes() || table.globalSecondaryIndexes().stream()
+                    .allMatch(gsi -> gsi.indexStatus() == IndexStatus.ACTIVE);
+            if (table.tableStatus() == TableStatus.ACTIVE && indexesActive) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Table " + tableName + " and its indexes did not become active within " + ACTIVE_TIMEOUT);
+            }
+            try {
+                Thread.sleep(interval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for table " + tableName + " to become active", e);
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL.toMillis());
+        }
+    }
+}
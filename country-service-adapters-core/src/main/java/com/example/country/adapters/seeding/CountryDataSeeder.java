@@ -0,0 +1,159 @@
+package com.example.country.adapters.seeding;
+
+import com.example.country.application.HybridLogicalClock;
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * Loads the reference country list into the repository, writing only what changed since the last run.
+ *
+ * <p>Every row gets a content hash of its name and codes. When the hash of the whole dataset matches
+ * the stored {@link SeedManifest}, seeding stops after that one read. Otherwise rows that are new or
+ * whose hash changed are compared with the country's latest version and written only if they differ;
+ * countries seeded last time but missing from the dataset are deleted, unless they have been changed
+ * since. The writes go out as one bulk write, so seeding time grows with the number of chunks rather
+ * than with one round trip per country. A failed chunk fails the whole run and the manifest is not
+ * updated, so the next run picks up where it stopped.
+ */
+public class CountryDataSeeder {
+    private static final Logger log = LoggerFactory.getLogger(CountryDataSeeder.class);
+    
+    private final CountryRepositoryPort repository;
+    private final CsvCountryReader reader;
+    private final SeedManifestStore manifests;
+    private final HybridLogicalClock clock;
+    
+    public CountryDataSeeder(CountryRepositoryPort repository, CsvCountryReader reader) {
+        this(repository, reader, SeedManifestStore.NONE);
+    }
+    
+    public CountryDataSeeder(CountryRepositoryPort repository, CsvCountryReader reader, SeedManifestStore manifests) {
+        this(repository, reader, manifests, new HybridLogicalClock());
+    }
+    
+    public CountryDataSeeder(CountryRepositoryPort repository, CsvCountryReader reader, SeedManifestStore manifests,
+                             HybridLogicalClock clock) {
+        this.repository = repository;
+        this.reader = reader;
+        this.manifests = manifests;
+        this.clock = clock;
+    }
+    
+    public int seedFromCsv(InputStream csvStream) throws Exception {
+        return seedFromCsv(csvStream, progress -> { });
+    }
+    
+    /**
+     * Seeds from CSV, passing the bulk write's progress to {@code listener} after each chunk.
+     *
+     * @return the number of countries written
+     */
+    public int seedFromCsv(InputStream csvStream, Consumer<BulkWriteProgress> listener) throws Exception {
+        log.info("Starting data seeding from CSV...");
+        List<Country> countries = reader.readCountries(csvStream);
+        log.info("Read {} countries from CSV", countries.size());
+        
+        Map<String, String> rowHashes = new TreeMap<>();
+        countries.forEach(country -> rowHashes.put(country.alpha2Code(), contentHash(country)));
+        String datasetHash = sha256(rowHashes.toString());
+        Optional<SeedManifest> previous = manifests.load();
+        if (previous.isPresent() && previous.get().datasetHash().equals(datasetHash)) {
+            log.info("Country data unchanged since last seeding, nothing to write");
+            return 0;
+        }
+        Map<String, String> seededHashes = previous.map(SeedManifest::rowHashes).orElse(Map.of());
+        
+        List<Country> changes = new ArrayList<>(changedRows(countries, seededHashes));
+        changes.addAll(removedRows(rowHashes, seededHashes));
+        int seeded = 0;
+        if (!changes.isEmpty()) {
+            seeded = repository.saveAll(changes, progress -> {
+                log.debug("Seeded chunk {}/{} ({} items written)",
+                        progress.completedChunks(), progress.totalChunks(), progress.itemsWritten());
+                listener.accept(progress);
+            });
+        }
+        manifests.save(new SeedManifest(datasetHash, rowHashes));
+        
+        log.info("Successfully seeded {} countries", seeded);
+        return seeded;
+    }
+    
+    public int seedFromClasspathResource(String resourcePath) throws Exception {
+        return seedFromClasspathResource(resourcePath, progress -> { });
+    }
+    
+    public int seedFromClasspathResource(String resourcePath, Consumer<BulkWriteProgress> listener) throws Exception {
+        InputStream stream = getClass().getClassLoader().getResourceAsStream(resourcePath);
+        if (stream == null) {
+            throw new IllegalArgumentException("Resource not found: " + resourcePath);
+        }
+        return seedFromCsv(stream, listener);
+    }
+    
+    /**
+     * Rows that are new or changed according to the manifest and also differ from what is stored.
+     */
+    private List<Country> changedRows(List<Country> countries, Map<String, String> seededHashes) {
+        List<Country> candidates = countries.stream()
+                .filter(country -> !contentHash(country).equals(seededHashes.get(country.alpha2Code())))
+                .toList();
+        Map<String, Country> current = latest(candidates.stream().map(Country::alpha2Code).toList());
+        return candidates.stream()
+                .filter(country -> !current.containsKey(country.alpha2Code())
+                        || !contentHash(current.get(country.alpha2Code())).equals(contentHash(country)))
+                .toList();
+    }
+    
+    /**
+     * Tombstones for countries seeded last time that the dataset no longer lists, skipping any that
+     * have been changed since they were seeded. Each is stamped after the version it replaces, as
+     * deletes through the service are.
+     */
+    private List<Country> removedRows(Map<String, String> rowHashes, Map<String, String> seededHashes) {
+        List<String> removed = seededHashes.keySet().stream()
+                .filter(alpha2 -> !rowHashes.containsKey(alpha2))
+                .toList();
+        return latest(removed).values().stream()
+                .filter(country -> contentHash(country).equals(seededHashes.get(country.alpha2Code())))
+                .map(country -> Country.of(country.name(), country.alpha2Code(), country.alpha3Code(),
+                        country.numericCode(), clock.tickAfter(country.createDate()), null, true))
+                .toList();
+    }
+    
+    private Map<String, Country> latest(List<String> alpha2Codes) {
+        Map<String, Country> latest = new HashMap<>();
+        if (!alpha2Codes.isEmpty()) {
+            repository.findLatestByAlpha2In(alpha2Codes).forEach(country -> latest.put(country.alpha2Code(), country));
+        }
+        return latest;
+    }
+    
+    static String contentHash(Country country) {
+        return sha256(country.name() + '\u001f' + country.alpha3Code() + '\u001f' + country.numericCode()).substring(0, 16);
+    }
+    
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.country.adapters.seeding;
+
+import com.example.country.application.model.ImportRow;
+import com.example.country.domain.Country;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reads countries from {@code iso2,iso3,iso_num,country,country_common} CSV.
+ *
+ * <p>The streaming methods parse rows lazily as the stream is consumed, so arbitrarily large extracts
+ * are read in constant memory. Gzip input is detected from its magic bytes. Uncompressed files are
+ * memory-mapped rather than read through a stream. Closing the stream closes the input.
+ */
+public class CsvCountryReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int GZIP_MAGIC_1 = 0x1f;
+    private static final int GZIP_MAGIC_2 = 0x8b;
+    
+    public List<Country> readCountries(InputStream csvStream) throws Exception {
+        try (Stream<Country> countries = streamCountries(csvStream)) {
+            return countries.toList();
+        }
+    }
+    
+    /**
+     * Streams the countries of CSV read from {@code csvStream}, which may be gzip-compressed.
+     *
+     * @throws IllegalArgumentException if the input does not start with the header row
+     */
+    public Stream<Country> streamCountries(InputStream csvStream) throws IOException {
+        InputStream in = decompressIfGzip(csvStream);
+        try {
+            return StreamSupport.stream(CsvCountrySpliterator.of(in, BUFFER_SIZE, Instant.now()), false)
+                    .onClose(() -> closeUnchecked(in));
+        } catch (RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Streams the rows of CSV read from {@code csvStream} for a bulk import. Rows that cannot be read
+     * become rejected rows rather than ending the stream.
+     *
+     * @throws IllegalArgumentException if the input does not start with the header row
+     */
+    public Stream<ImportRow> streamImportRows(InputStream csvStream) throws IOException {
+        InputStream in = decompressIfGzip(csvStream);
+        try {
+            return StreamSupport.stream(CsvCountrySpliterator.importRows(in, BUFFER_SIZE), false)
+                    .onClose(() -> closeUnchecked(in));
+        } catch (RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+    
+    /**
+     * Streams the countries of a CSV file. Plain files are memory-mapped; gzip files are streamed.
+     *
+     * @throws IllegalArgumentException if the file does not start with the header row
+     */
+    public Stream<Country> streamCountries(Path csvFile) throws IOException {
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size <= Integer.MAX_VALUE) {
+                // The mapping stays valid after the channel is closed
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                if (size < 2 || (mapped.get(0) & 0xff) != GZIP_MAGIC_1 || (mapped.get(1) & 0xff) != GZIP_MAGIC_2) {
+                    return StreamSupport.stream(CsvCountrySpliterator.of(mapped, Instant.now()), false);
+                }
+            }
+        }
+        return streamCountries(Files.newInputStream(csvFile));
+    }
+    
+    private static InputStream decompressIfGzip(InputStream csvStream) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(csvStream, 2);
+        byte[] magic = in.readNBytes(2);
+        in.unread(magic);
+        if (magic.length == 2 && (magic[0] & 0xff) == GZIP_MAGIC_1 && (magic[1] & 0xff) == GZIP_MAGIC_2) {
+            return new GZIPInputStream(in, BUFFER_SIZE);
+        }
+        return in;
+    }
+    
+    private static void closeUnchecked(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
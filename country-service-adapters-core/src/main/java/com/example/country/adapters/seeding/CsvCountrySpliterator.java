@@ -0,0 +1,312 @@
+package com.example.country.adapters.seeding;
+
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.ImportRow;
+import com.example.country.domain.Country;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Parses {@code iso2,iso3,iso_num,country,...} rows straight from bytes, one row per {@link #tryAdvance}.
+ * Seeding turns rows into countries and fails on the first bad one; imports turn every row into an
+ * {@link ImportRow} and report bad ones.
+ *
+ * <p>Rows are located and split in place in a single buffer: either a memory-mapped file, or a heap
+ * buffer that is refilled from an input stream and only grows when one row does not fit. Only the four
+ * fields a {@link Country} needs are decoded, and padded numeric codes come from a lookup table, so the
+ * per-row allocations are the three code strings, the name and the country itself. Fields may be
+ * quoted, with {@code ""} as an escaped quote. Blank lines are skipped; when seeding, so are rows with
+ * fewer than five fields, as before.
+ */
+final class CsvCountrySpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+    private static final int MIN_FIELDS = 5;
+    private static final int NEEDED_FIELDS = 4;
+    private static final String[] PADDED_NUMERIC = new String[1000];
+
+    static {
+        for (int i = 0; i < PADDED_NUMERIC.length; i++) {
+            PADDED_NUMERIC[i] = String.format("%03d", i);
+        }
+    }
+
+    private final InputStream in;
+    private final Function<CsvCountrySpliterator<T>, T> mapper;
+    private ByteBuffer buffer;
+    private int limit;
+    private int lineStart;
+    private boolean eof;
+    private long row;
+    private int fields;
+    private byte[] scratch = new byte[256];
+    private final int[] fieldStart = new int[NEEDED_FIELDS];
+    private final int[] fieldEnd = new int[NEEDED_FIELDS];
+
+    /**
+     * Parses a buffer that already holds the whole input, such as a mapped file.
+     */
+    static CsvCountrySpliterator<Country> of(ByteBuffer contents, Instant createDate) {
+        return new CsvCountrySpliterator<>(null, contents, parser -> parser.country(createDate));
+    }
+
+    /**
+     * Parses an input stream through a reusable heap buffer of {@code bufferSize} bytes.
+     */
+    static CsvCountrySpliterator<Country> of(InputStream in, int bufferSize, Instant createDate) {
+        return new CsvCountrySpliterator<>(in, heapBuffer(bufferSize), parser -> parser.country(createDate));
+    }
+
+    /**
+     * Parses an input stream into import rows, rejecting rows that cannot be read instead of failing.
+     */
+    static CsvCountrySpliterator<ImportRow> importRows(InputStream in, int bufferSize) {
+        return new CsvCountrySpliterator<>(in, heapBuffer(bufferSize), CsvCountrySpliterator::importRow);
+    }
+
+    private static ByteBuffer heapBuffer(int bufferSize) {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[bufferSize]);
+        buffer.limit(0);
+        return buffer;
+    }
+
+    private CsvCountrySpliterator(InputStream in, ByteBuffer buffer, Function<CsvCountrySpliterator<T>, T> mapper) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+        this.in = in;
+        this.buffer = buffer;
+        this.limit = buffer.limit();
+        this.eof = in == null;
+        this.mapper = mapper;
+        readHeader();
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        while (true) {
+            int lineEnd = findLineEnd();
+            if (lineEnd < 0) {
+                return false;
+            }
+            row++;
+            T value = splitRow(lineStart, lineEnd) ? mapper.apply(this) : null;
+            lineStart = Math.min(lineEnd + 1, limit);
+            if (value != null) {
+                action.accept(value);
+                return true;
+            }
+        }
+    }
+
+    private void readHeader() {
+        int lineEnd = findLineEnd();
+        int start = lineStart;
+        if (lineEnd >= 0 && lineEnd - start >= 3
+                && buffer.get(start) == (byte) 0xEF && buffer.get(start + 1) == (byte) 0xBB && buffer.get(start + 2) == (byte) 0xBF) {
+            start += 3;
+        }
+        if (lineEnd < 0 || lineEnd - start < 4 || buffer.get(start) != 'i' || buffer.get(start + 1) != 's'
+                || buffer.get(start + 2) != 'o' || buffer.get(start + 3) != '2') {
+            throw new IllegalArgumentException("Invalid CSV format: missing header");
+        }
+        lineStart = Math.min(lineEnd + 1, limit);
+        row = 1;
+    }
+
+    /**
+     * Returns the index of the newline ending the row at {@link #lineStart}, or of the end of input for
+     * a last row without one; -1 once the input is exhausted. Newlines inside quotes belong to the field.
+     */
+    private int findLineEnd() {
+        int scan = lineStart;
+        boolean quoted = false;
+        while (true) {
+            if (scan == limit) {
+                if (eof) {
+                    return scan == lineStart ? -1 : scan;
+                }
+                int shift = fill();
+                scan -= shift;
+                continue;
+            }
+            byte b = buffer.get(scan);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                return scan;
+            }
+            scan++;
+        }
+    }
+
+    /**
+     * Moves the unfinished row to the front of the buffer, growing it if the row fills it, and reads
+     * more input behind it. Returns how far the row moved.
+     */
+    private int fill() {
+        byte[] bytes = buffer.array();
+        int shift = lineStart;
+        int kept = limit - lineStart;
+        if (shift == 0 && limit == bytes.length) {
+            bytes = Arrays.copyOf(bytes, bytes.length * 2);
+        } else {
+            System.arraycopy(bytes, lineStart, bytes, 0, kept);
+        }
+        try {
+            int read;
+            do {
+                read = in.read(bytes, kept, bytes.length - kept);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                read = 0;
+            }
+            buffer = ByteBuffer.wrap(bytes);
+            limit = kept + read;
+            lineStart = 0;
+            return shift;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Locates the fields of the row between {@code start} and {@code end}. Returns false for a blank line.
+     */
+    private boolean splitRow(int start, int end) {
+        if (end > start && buffer.get(end - 1) == '\r') {
+            end--;
+        }
+        fields = 0;
+        int fieldFrom = start;
+        boolean quoted = false;
+        boolean blank = true;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == ',' && !quoted) {
+                if (fields < NEEDED_FIELDS) {
+                    fieldStart[fields] = fieldFrom;
+                    fieldEnd[fields] = i;
+                }
+                fields++;
+                fieldFrom = i + 1;
+            }
+            if (!isSpace(b)) {
+                blank = false;
+            }
+        }
+        if (blank) {
+            return false;
+        }
+        if (fields < NEEDED_FIELDS) {
+            fieldStart[fields] = fieldFrom;
+            fieldEnd[fields] = end;
+        }
+        fields++;
+        return true;
+    }
+
+    private Country country(Instant createDate) {
+        if (fields < MIN_FIELDS) {
+            return null;
+        }
+        String alpha2 = decode(0, StandardCharsets.ISO_8859_1);
+        String alpha3 = decode(1, StandardCharsets.ISO_8859_1);
+        String numeric = numeric(2);
+        String name = decode(3, StandardCharsets.UTF_8);
+        return Country.of(name, alpha2, alpha3, numeric, createDate, null, false);
+    }
+
+    private ImportRow importRow() {
+        if (fields < NEEDED_FIELDS) {
+            return ImportRow.rejected(row, "Expected at least " + NEEDED_FIELDS + " fields but found " + fields);
+        }
+        String alpha2 = decode(0, StandardCharsets.ISO_8859_1);
+        String numeric;
+        try {
+            numeric = numeric(2);
+        } catch (NumberFormatException e) {
+            return ImportRow.rejected(row, "Invalid numericCode: " + e.getMessage());
+        }
+        return ImportRow.parsed(row, new CountryInput(
+                decode(3, StandardCharsets.UTF_8), alpha2, decode(1, StandardCharsets.ISO_8859_1), numeric));
+    }
+
+    /**
+     * Decodes a field, dropping surrounding whitespace and quotes and unescaping doubled quotes.
+     */
+    private String decode(int field, Charset charset) {
+        int from = fieldStart[field];
+        int to = fieldEnd[field];
+        while (from < to && isSpace(buffer.get(from))) {
+            from++;
+        }
+        while (to > from && isSpace(buffer.get(to - 1))) {
+            to--;
+        }
+        int length = 0;
+        if (scratch.length < to - from) {
+            scratch = new byte[Math.max(scratch.length * 2, to - from)];
+        }
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                // A doubled quote inside a quoted field stands for one quote character
+                if (i + 1 < to && buffer.get(i + 1) == '"' && i > from) {
+                    scratch[length++] = '"';
+                    i++;
+                }
+                continue;
+            }
+            scratch[length++] = b;
+        }
+        int trimmedFrom = 0;
+        while (trimmedFrom < length && isSpace(scratch[trimmedFrom])) {
+            trimmedFrom++;
+        }
+        while (length > trimmedFrom && isSpace(scratch[length - 1])) {
+            length--;
+        }
+        return new String(scratch, trimmedFrom, length - trimmedFrom, charset);
+    }
+
+    private String numeric(int field) {
+        int from = fieldStart[field];
+        int to = fieldEnd[field];
+        int value = 0;
+        int digits = 0;
+        for (int i = from; i < to; i++) {
+            byte b = buffer.get(i);
+            if (b >= '0' && b <= '9') {
+                if (value > 99_999_999) {
+                    throw new NumberFormatException("Numeric code out of range: " + decode(field, StandardCharsets.ISO_8859_1));
+                }
+                value = value * 10 + (b - '0');
+                digits++;
+            } else if (!isSpace(b) && b != '"') {
+                throw new NumberFormatException("For input string: \"" + decode(field, StandardCharsets.ISO_8859_1) + "\"");
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("For input string: \"" + decode(field, StandardCharsets.ISO_8859_1) + "\"");
+        }
+        return value < PADDED_NUMERIC.length ? PADDED_NUMERIC[value] : Integer.toString(value);
+    }
+
+    /**
+     * Same notion of whitespace as {@link String#trim()}; bytes of multi-byte UTF-8 characters are negative.
+     */
+    private static boolean isSpace(byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
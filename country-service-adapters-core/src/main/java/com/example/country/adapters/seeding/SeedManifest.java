@@ -0,0 +1,15 @@
+package com.example.country.adapters.seeding;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * What the last successful seeding run loaded: a hash of the whole dataset plus a content hash per
+ * alpha2 code, so the next run can tell added, changed and removed rows apart without rereading them.
+ */
+public record SeedManifest(String datasetHash, Map<String, String> rowHashes) {
+    public SeedManifest {
+        Objects.requireNonNull(datasetHash, "datasetHash is required");
+        rowHashes = Map.copyOf(Objects.requireNonNull(rowHashes, "rowHashes are required"));
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.country.adapters.seeding;
+
+import java.util.Optional;
+
+/**
+ * Keeps the {@link SeedManifest} of one dataset between seeding runs.
+ */
+public interface SeedManifestStore {
+    Optional<SeedManifest> load();
+
+    void save(SeedManifest manifest);
+
+    /**
+     * Store for seeders without persistent state: every run diffs the dataset against the table.
+     */
+    SeedManifestStore NONE = new SeedManifestStore() {
+        @Override
+        public Optional<SeedManifest> load() {
+            return Optional.empty();
+        }
+
+        @Override
+        public void save(SeedManifest manifest) {
+        }
+    };
+}
@@ -0,0 +1,101 @@
+package com.example.country.adapters.api;
+
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.json.CountryResponseCache;
+import com.example.country.adapters.json.SerializedJson;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpCachingTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-01T10:15:30.500Z");
+    private static final Country FRANCE = Country.of("France", "FR", "FRA", "250", CREATED, null, false);
+
+    private final HttpCaching caching = new HttpCaching(new CountryResponseCache(new CountryJsonCodec(), 10),
+            Duration.ofMinutes(1), Duration.ofMinutes(5));
+
+    @Test
+    void addsValidatorsAndCacheControl() {
+        SerializedJson json = caching.serialized(FRANCE);
+        Map<String, String> headers = new HashMap<>();
+
+        caching.addHeaders(json, headers::put);
+
+        assertEquals(json.etag(), headers.get("ETag"));
+        assertEquals("Mon, 01 Jan 2024 10:15:30 GMT", headers.get("Last-Modified"));
+        assertEquals("max-age=60, stale-while-revalidate=300", headers.get("Cache-Control"));
+        assertEquals("max-age=0", new HttpCaching(caching.responses(), Duration.ZERO, Duration.ZERO).cacheControl());
+        assertNull(caching.serialized(Map.of("status", 200)));
+
+        Map<String, String> listHeaders = new HashMap<>();
+        caching.addHeaders(caching.serialized(List.of(FRANCE)), listHeaders::put);
+        assertNotNull(listHeaders.get("ETag"));
+        assertNull(listHeaders.get("Last-Modified"), "Deletes do not move a list's newest date forward");
+    }
+
+    @Test
+    void evaluatesIfNoneMatchBeforeIfModifiedSince() {
+        SerializedJson json = caching.serialized(FRANCE);
+
+        assertTrue(HttpCaching.isNotModified(json, json.etag(), null));
+        assertTrue(HttpCaching.isNotModified(json, "\"other\", W/" + json.etag(), null));
+        assertTrue(HttpCaching.isNotModified(json, "*", null));
+        assertFalse(HttpCaching.isNotModified(json, "\"other\"", "Mon, 1 Jan 2024 10:15:30 GMT"),
+                "If-Modified-Since is ignored when If-None-Match is sent");
+
+        assertTrue(HttpCaching.isNotModified(json, null, "Mon, 1 Jan 2024 10:15:30 GMT"));
+        assertFalse(HttpCaching.isNotModified(json, null, "Mon, 1 Jan 2024 10:15:29 GMT"));
+        assertFalse(HttpCaching.isNotModified(json, null, "yesterday"));
+        assertFalse(HttpCaching.isNotModified(json, null, null));
+    }
+
+    @Test
+    void weakensTheEtagOfBodiesLargeEnoughToCompress() {
+        SerializedJson country = caching.serialized(FRANCE);
+        List<Country> countries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            countries.add(Country.of("Country " + i, "C" + (char) ('A' + i), "C" + (char) ('A' + i) + "X",
+                    String.valueOf(100 + i), CREATED, null, false));
+        }
+        SerializedJson list = caching.serialized(countries);
+
+        assertTrue(list.bytes().length >= HttpCaching.COMPRESSION_MIN_SIZE);
+        assertEquals(country.etag(), HttpCaching.compressibleEtag(country));
+        assertEquals("W/" + list.etag(), HttpCaching.compressibleEtag(list));
+        assertTrue(HttpCaching.isNotModified(list, HttpCaching.compressibleEtag(list), null));
+    }
+
+    @Test
+    void answersFromTheCacheOnlyWithinMaxAgeOfAValidation() {
+        String key = HttpCaching.requestKey("/api/v1/countries/code/FR", null);
+        assertNull(caching.notModifiedFromCache(key, "*", null), "Nothing validated yet");
+
+        SerializedJson json = caching.validated(key, FRANCE);
+
+        assertSame(json, caching.notModifiedFromCache(key, json.etag(), null));
+        assertNull(caching.notModifiedFromCache(key, "\"other\"", null));
+        assertNull(caching.notModifiedFromCache(key, null, null));
+        assertNull(new HttpCaching(caching.responses(), Duration.ZERO, Duration.ZERO).notModifiedFromCache(key, json.etag(), null));
+    }
+
+    @Test
+    void forgetsValidationsOnceANewVersionIsServed() {
+        String list = HttpCaching.requestKey("/api/v1/countries", "limit=20");
+        SerializedJson json = caching.validated(list, List.of(FRANCE));
+
+        assertSame(json, caching.notModifiedFromCache(list, json.etag(), null));
+        caching.serialized(Country.of("French Republic", "FR", "FRA", "250", CREATED.plusSeconds(60), null, false));
+
+        assertNull(caching.notModifiedFromCache(list, json.etag(), null));
+        assertEquals("/api/v1/countries?limit=20", list);
+    }
+}
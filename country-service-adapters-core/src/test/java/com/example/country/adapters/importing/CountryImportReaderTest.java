@@ -0,0 +1,59 @@
+package com.example.country.adapters.importing;
+
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.ImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryImportReaderTest {
+
+    private final CountryImportReader reader = new CountryImportReader(new ObjectMapper());
+
+    private static InputStream body(String text) {
+        return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void readsNdjsonRowsReportingLinesThatAreNotCountries() throws Exception {
+        String ndjson = "{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}\n"
+                + "\n"
+                + "{\"name\":\"France\",\n"
+                + "null\n"
+                + "{\"name\":\"Germany\",\"alpha2Code\":\"DE\",\"alpha3Code\":\"DEU\",\"numericCode\":\"276\"}";
+
+        List<ImportRow> rows;
+        try (Stream<ImportRow> stream = reader.read(body(ndjson), "application/x-ndjson; charset=utf-8")) {
+            rows = stream.toList();
+        }
+
+        assertEquals(4, rows.size());
+        assertEquals(ImportRow.parsed(1, new CountryInput("United Kingdom", "GB", "GBR", "826")), rows.get(0));
+        assertEquals(3, rows.get(1).row());
+        assertTrue(rows.get(1).error().startsWith("Invalid JSON"), rows.get(1).error());
+        assertEquals(ImportRow.rejected(4, "Expected a JSON object"), rows.get(2));
+        assertEquals(ImportRow.parsed(5, new CountryInput("Germany", "DE", "DEU", "276")), rows.get(3));
+    }
+
+    @Test
+    void readsCsvInTheSeedLayout() throws Exception {
+        try (Stream<ImportRow> stream = reader.read(body("iso2,iso3,iso_num,country\nGB,GBR,826,United Kingdom\n"), "text/csv")) {
+            assertEquals(List.of(ImportRow.parsed(2, new CountryInput("United Kingdom", "GB", "GBR", "826"))), stream.toList());
+        }
+    }
+
+    @Test
+    void rejectsOtherFormats() {
+        assertFalse(reader.supports("application/json"));
+        assertFalse(reader.supports(null));
+        assertTrue(reader.supports("TEXT/CSV"));
+        assertThrows(IllegalArgumentException.class, () -> reader.read(body("[]"), "application/json"));
+    }
+}
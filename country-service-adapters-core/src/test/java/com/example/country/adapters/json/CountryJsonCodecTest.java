@@ -0,0 +1,121 @@
+package com.example.country.adapters.json;
+
+import com.example.country.application.model.CountryInput;
+import com.example.country.domain.Country;
+import com.fasterxml.jackson.annotation.JsonGetter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryJsonCodecTest {
+
+    /**
+     * The reflective mapping the codec replaces, as configured in the bootstrap module.
+     */
+    abstract static class CountryJacksonMixIn {
+        @JsonGetter("name") abstract String name();
+        @JsonGetter("alpha2Code") abstract String alpha2Code();
+        @JsonGetter("alpha3Code") abstract String alpha3Code();
+        @JsonGetter("numericCode") abstract String numericCode();
+        @JsonGetter("createDate") abstract Instant createDate();
+        @JsonGetter("expiryDate") abstract Instant expiryDate();
+        @JsonGetter("isDeleted") abstract boolean isDeleted();
+    }
+
+    private final CountryJsonCodec codec = new CountryJsonCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .addMixIn(Country.class, CountryJacksonMixIn.class);
+
+    @Test
+    void writesTheSameJsonAsTheReflectiveMapping() throws Exception {
+        List<Country> countries = List.of(
+                Country.of("United Kingdom", "GB", "GBR", "826", Instant.parse("2024-01-01T00:00:00Z"), null, false),
+                Country.of("Côte d'Ivoire \"CI\"", "CI", "CIV", "384", Instant.parse("2024-02-29T12:34:56.789Z"),
+                        Instant.parse("2025-03-01T00:00:00.000001Z"), true));
+
+        for (Country country : countries) {
+            assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(country)),
+                    objectMapper.readTree(codec.writeValueAsString(country)));
+        }
+        assertEquals(objectMapper.readTree(objectMapper.writeValueAsString(countries)),
+                objectMapper.readTree(codec.writeValueAsBytes(countries)));
+    }
+
+    @Test
+    void formatsInstantsLikeIsoInstant() {
+        SplittableRandom random = new SplittableRandom(42);
+        char[] buffer = new char[IsoInstantFormat.MAX_LENGTH];
+        List<Instant> edges = List.of(Instant.EPOCH, Instant.parse("0000-01-01T00:00:00Z"), Instant.parse("1969-12-31T23:59:59.999999999Z"),
+                Instant.parse("2000-02-29T00:00:00.100Z"), Instant.parse("9999-12-31T23:59:59.000001Z"));
+        for (Instant instant : edges) {
+            assertEquals(instant.toString(), new String(buffer, 0, IsoInstantFormat.format(instant, buffer)));
+        }
+        for (int i = 0; i < 100_000; i++) {
+            long seconds = random.nextLong(-62_167_219_200L, 253_402_300_800L);
+            int nanos = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            Instant instant = Instant.ofEpochSecond(seconds, nanos);
+            assertEquals(instant.toString(), new String(buffer, 0, IsoInstantFormat.format(instant, buffer)));
+        }
+        assertEquals(-1, IsoInstantFormat.format(Instant.parse("+10000-01-01T00:00:00Z"), buffer));
+        assertEquals(-1, IsoInstantFormat.format(Instant.parse("-0001-12-31T23:59:59Z"), buffer));
+    }
+
+    @Test
+    void writesInstantsOutsideFourDigitYears() throws Exception {
+        Country country = Country.of("Future", "FU", "FUT", "999", Instant.parse("+10000-01-01T00:00:00Z"), null, false);
+
+        assertEquals("+10000-01-01T00:00:00Z", objectMapper.readTree(codec.writeValueAsString(country)).get("createDate").asText());
+    }
+
+    @Test
+    void readsCountryInputSkippingUnknownFields() throws Exception {
+        String json = "{\"extra\":{\"nested\":[1,2]},\"name\":\"France\",\"alpha2Code\":\"FR\",\"alpha3Code\":\"FRA\",\"numericCode\":250}";
+
+        assertEquals(new CountryInput("France", "FR", "FRA", "250"), codec.readInput(json));
+        assertNull(codec.readInput("null"));
+        assertThrows(JsonProcessingException.class, () -> codec.readInput("{\"name\":[\"France\"]}"));
+        assertThrows(JsonProcessingException.class, () -> codec.readInput("{\"name\":"));
+    }
+
+    @Test
+    void readsWhatItWrites() throws Exception {
+        List<Country> countries = List.of(
+                Country.of("United Kingdom", "GB", "GBR", "826", Instant.parse("2024-01-01T00:00:00Z"), null, false),
+                Country.of("France", "FR", "FRA", "250", Instant.parse("2024-01-01T00:00:00.5Z"),
+                        Instant.parse("2024-06-01T00:00:00Z"), true));
+
+        List<Country> read = codec.readCountries(new ByteArrayInputStream(codec.writeValueAsBytes(countries)));
+
+        assertEquals(2, read.size());
+        for (int i = 0; i < countries.size(); i++) {
+            assertEquals(codec.writeValueAsString(countries.get(i)), codec.writeValueAsString(read.get(i)));
+        }
+        CountryInput input = new CountryInput("France", "FR", "FRA", "250");
+        assertEquals(input, codec.readInput(new ByteArrayInputStream(codec.writeValueAsString(input).getBytes(StandardCharsets.UTF_8))));
+        assertThrows(JsonProcessingException.class, () -> codec.readCountry(new ByteArrayInputStream(
+                "{\"name\":\"France\",\"alpha2Code\":\"fr\"}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void rejectsValuesThatAreNotCountries() {
+        assertThrows(IllegalArgumentException.class, () -> codec.writeValueAsString(List.of("GB")));
+        assertThrows(IllegalArgumentException.class, () -> codec.writeValueAsString("GB"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.country.adapters.json;
+
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryResponseCacheTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final CountryJsonCodec codec = new CountryJsonCodec();
+    private final CountryResponseCache responses = new CountryResponseCache(codec, 2);
+
+    @Test
+    void servesStoredBytesForTheSameVersion() {
+        Country country = Country.of("France", "FR", "FRA", "250", CREATED, null, false);
+
+        SerializedJson first = responses.country(country);
+        SerializedJson second = responses.country(Country.of("France", "FR", "FRA", "250", CREATED, null, false));
+
+        assertSame(first, second, "An equal version should be served from the cache");
+        assertEquals(codec.writeValueAsString(country), new String(first.bytes(), StandardCharsets.UTF_8));
+        assertEquals(codec.writeValueAsString(country), first.text());
+        assertEquals(1, responses.hits());
+        assertEquals(1, responses.misses());
+    }
+
+    @Test
+    void replacesEntriesOnceANewVersionIsServed() {
+        SerializedJson first = responses.country(Country.of("France", "FR", "FRA", "250", CREATED, null, false));
+        SerializedJson renamed = responses.country(Country.of("French Republic", "FR", "FRA", "250", CREATED.plusSeconds(1), null, false));
+        SerializedJson expired = responses.country(Country.of("French Republic", "FR", "FRA", "250", CREATED.plusSeconds(1),
+                CREATED.plusSeconds(2), false));
+
+        assertNotEquals(first.etag(), renamed.etag());
+        assertNotEquals(renamed.etag(), expired.etag());
+        assertTrue(renamed.text().contains("French Republic"));
+        assertEquals(0, responses.hits());
+    }
+
+    @Test
+    void validatesListsElementByElement() {
+        List<Country> page = new ArrayList<>(List.of(
+                Country.of("France", "FR", "FRA", "250", CREATED, null, false),
+                Country.of("Germany", "DE", "DEU", "276", CREATED, null, false),
+                Country.of("United Kingdom", "GB", "GBR", "826", CREATED, null, false)));
+
+        SerializedJson first = responses.countries(page);
+        assertSame(first, responses.countries(List.copyOf(page)));
+
+        // Same size and end points, but the middle country has a new version
+        page.set(1, Country.of("Federal Republic of Germany", "DE", "DEU", "276", CREATED.plusSeconds(1), null, false));
+        SerializedJson changed = responses.countries(page);
+
+        assertNotEquals(first.etag(), changed.etag());
+        assertEquals(codec.writeValueAsString(page), changed.text());
+        assertEquals("[]", responses.countries(List.of()).text());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedEntry() {
+        Country france = Country.of("France", "FR", "FRA", "250", CREATED, null, false);
+        SerializedJson first = responses.country(france);
+        responses.country(Country.of("Germany", "DE", "DEU", "276", CREATED, null, false));
+        responses.country(france);
+        responses.country(Country.of("Spain", "ES", "ESP", "724", CREATED, null, false));
+
+        assertSame(first, responses.country(france));
+        assertEquals(2, responses.hits());
+        assertThrows(IllegalArgumentException.class, () -> new CountryResponseCache(codec, 0));
+    }
+
+    @Test
+    void derivesAStrongEtagFromTheContent() {
+        SerializedJson json = responses.country(Country.of("France", "FR", "FRA", "250", CREATED, null, false));
+
+        assertTrue(json.etag().matches("\"[A-Za-z0-9_-]{22}\""), json.etag());
+        assertEquals(json.etag(), new CountryResponseCache(codec, 1)
+                .country(Country.of("France", "FR", "FRA", "250", CREATED, null, false)).etag());
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unprocessed keys cannot be provoked against LocalStack, so the retry loop is exercised with a mocked client.
+ */
+class DynamoDbCountryRepositoryBatchGetTest {
+
+    private static Map<String, AttributeValue> pointer(String alpha2) {
+        Map<String, AttributeValue> version = Map.of(
+                "alpha2Code", AttributeValue.builder().s(alpha2).build(),
+                "createDate", AttributeValue.builder().s("2025-01-01T00:00:00Z").build(),
+                "name", AttributeValue.builder().s("Name " + alpha2).build(),
+                "alpha3Code", AttributeValue.builder().s(alpha2 + "X").build(),
+                "numericCode", AttributeValue.builder().s("999").build(),
+                "isDeleted", AttributeValue.builder().bool(false).build());
+        return Map.of(
+                "alpha2Code", AttributeValue.builder().s(alpha2).build(),
+                "createDate", AttributeValue.builder().s("LATEST").build(),
+                "country", AttributeValue.builder().m(version).build());
+    }
+
+    private static Map<String, KeysAndAttributes> unprocessed(String alpha2) {
+        return Map.of("Countries", KeysAndAttributes.builder()
+                .keys(List.of(Map.of(
+                        "alpha2Code", AttributeValue.builder().s(alpha2).build(),
+                        "createDate", AttributeValue.builder().s("LATEST").build())))
+                .build());
+    }
+
+    @Test
+    void retriesUnprocessedKeys() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        List<BatchGetItemRequest> requests = new ArrayList<>();
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            requests.add(invocation.getArgument(0));
+            return requests.size() == 1
+                    ? BatchGetItemResponse.builder().responses(Map.of("Countries", List.of(pointer("GB")))).unprocessedKeys(unprocessed("FR")).build()
+                    : BatchGetItemResponse.builder().responses(Map.of("Countries", List.of(pointer("FR")))).build();
+        });
+
+        List<Country> found = new DynamoDbCountryRepository(dynamoDb).findLatestByAlpha2In(List.of("FR", "GB"));
+
+        assertEquals(List.of("FR", "GB"), found.stream().map(Country::alpha2Code).toList());
+        assertEquals(2, requests.size());
+        assertTrue(requests.get(0).requestItems().get("Countries").consistentRead());
+        assertEquals(1, requests.get(1).requestItems().get("Countries").keys().size());
+    }
+
+    @Test
+    void splitsLargeLookupsIntoBatchesOfOneHundred() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class))).thenReturn(BatchGetItemResponse.builder().build());
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            codes.add("C" + i);
+        }
+
+        new DynamoDbCountryRepository(dynamoDb).findLatestByAlpha2In(codes);
+
+        verify(dynamoDb, times(3)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+
+    @Test
+    void givesUpWhenKeysStayUnprocessed() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder().unprocessedKeys(unprocessed("FR")).build());
+
+        assertThrows(IllegalStateException.class,
+                () -> new DynamoDbCountryRepository(dynamoDb).findLatestByAlpha2In(List.of("FR")));
+        verify(dynamoDb, times(5)).batchGetItem(any(BatchGetItemRequest.class));
+    }
+}
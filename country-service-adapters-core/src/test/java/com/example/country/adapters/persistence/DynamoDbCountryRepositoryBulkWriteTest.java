@@ -0,0 +1,188 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.application.exception.CountryAlreadyExistsException;
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unprocessed items cannot be provoked against LocalStack, so chunking and retries are exercised with a mocked client.
+ */
+class DynamoDbCountryRepositoryBulkWriteTest {
+
+    private static final Instant BASE = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static Country country(String alpha2, String alpha3, Instant createDate) {
+        String numeric = String.format("%03d", (alpha2.charAt(0) - 'A') * 26 + alpha2.charAt(1) - 'A');
+        return Country.of("Name " + alpha2, alpha2, alpha3, numeric, createDate, null, false);
+    }
+
+    private static List<Country> countries(int count) {
+        List<Country> countries = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String alpha2 = "" + (char) ('A' + i / 26) + (char) ('A' + i % 26);
+            countries.add(country(alpha2, alpha2 + "X", BASE));
+        }
+        return countries;
+    }
+
+    private static Map<String, AttributeValue> pointer(Country country) {
+        Map<String, AttributeValue> version = Map.of(
+                "alpha2Code", AttributeValue.builder().s(country.alpha2Code()).build(),
+                "createDate", AttributeValue.builder().s(country.createDate().toString()).build(),
+                "name", AttributeValue.builder().s(country.name()).build(),
+                "alpha3Code", AttributeValue.builder().s(country.alpha3Code()).build(),
+                "numericCode", AttributeValue.builder().s(country.numericCode()).build(),
+                "isDeleted", AttributeValue.builder().bool(false).build());
+        return Map.of(
+                "alpha2Code", AttributeValue.builder().s(country.alpha2Code()).build(),
+                "createDate", AttributeValue.builder().s("LATEST").build(),
+                "country", AttributeValue.builder().m(version).build());
+    }
+
+    private static DynamoDbClient clientWithLatest(Country... latest) {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        List<Map<String, AttributeValue>> pointers = new ArrayList<>();
+        for (Country country : latest) {
+            pointers.add(pointer(country));
+        }
+        when(dynamoDb.batchGetItem(any(BatchGetItemRequest.class)))
+                .thenReturn(BatchGetItemResponse.builder().responses(Map.of("Countries", pointers)).build());
+        return dynamoDb;
+    }
+
+    private static List<Map<String, AttributeValue>> puts(DynamoDbClient dynamoDb) {
+        List<Map<String, AttributeValue>> items = new ArrayList<>();
+        mockingDetails(dynamoDb).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("batchWriteItem"))
+                .map(invocation -> (BatchWriteItemRequest) invocation.getArgument(0))
+                .flatMap(request -> request.requestItems().get("Countries").stream())
+                .forEach(write -> items.add(write.putRequest().item()));
+        return items;
+    }
+
+    @Test
+    void writesVersionsAndPointersInChunksOfTwentyFive() {
+        DynamoDbClient dynamoDb = clientWithLatest();
+        when(dynamoDb.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+        List<BulkWriteProgress> progress = Collections.synchronizedList(new ArrayList<>());
+
+        int saved = new DynamoDbCountryRepository(dynamoDb).saveAll(countries(10), progress::add);
+
+        assertEquals(10, saved);
+        assertEquals(40, puts(dynamoDb).size(), "Each country is one version, one pointer and two aliases");
+        assertEquals(List.of(1, 2), progress.stream().map(BulkWriteProgress::completedChunks).toList());
+        assertEquals(new BulkWriteProgress(2, 2, 40), progress.get(1));
+        verify(dynamoDb, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void retriesUnprocessedItems() {
+        DynamoDbClient dynamoDb = clientWithLatest();
+        AtomicBoolean throttled = new AtomicBoolean();
+        when(dynamoDb.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            if (throttled.compareAndSet(false, true)) {
+                return BatchWriteItemResponse.builder()
+                        .unprocessedItems(Map.of("Countries", List.of(request.requestItems().get("Countries").get(0))))
+                        .build();
+            }
+            return BatchWriteItemResponse.builder().build();
+        });
+
+        new DynamoDbCountryRepository(dynamoDb).saveAll(countries(2), progress -> { });
+
+        verify(dynamoDb, times(2)).batchWriteItem(any(BatchWriteItemRequest.class));
+        assertEquals(9, puts(dynamoDb).size());
+    }
+
+    @Test
+    void givesUpWhenItemsStayUnprocessed() {
+        DynamoDbClient dynamoDb = clientWithLatest();
+        when(dynamoDb.batchWriteItem(any(BatchWriteItemRequest.class))).thenAnswer(invocation -> {
+            BatchWriteItemRequest request = invocation.getArgument(0);
+            return BatchWriteItemResponse.builder().unprocessedItems(request.requestItems()).build();
+        });
+
+        assertThrows(IllegalStateException.class,
+                () -> new DynamoDbCountryRepository(dynamoDb).saveAll(countries(1), progress -> { }));
+        verify(dynamoDb, times(5)).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void replacingTheCurrentVersionClearsItsMarkerAndReleasesChangedCodes() {
+        Country previous = country("GB", "GBR", BASE);
+        DynamoDbClient dynamoDb = clientWithLatest(previous);
+        when(dynamoDb.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+
+        new DynamoDbCountryRepository(dynamoDb).saveAll(List.of(country("GB", "GBX", BASE.plusSeconds(1))), progress -> { });
+
+        List<Map<String, AttributeValue>> puts = puts(dynamoDb);
+        assertEquals(5, puts.size());
+        Map<String, AttributeValue> retired = puts.stream()
+                .filter(item -> item.get("createDate").s().equals(BASE.toString()))
+                .findFirst().orElseThrow();
+        assertFalse(retired.containsKey("currentPartition"));
+        assertEquals(BASE.plusSeconds(1).toString(), retired.get("expiryDate").s(),
+                "The stream image of the replaced version must not look current");
+        assertTrue(puts.stream().anyMatch(item -> item.get("createDate").s().equals(BASE.plusSeconds(1).toString())
+                && item.containsKey("currentPartition")));
+        verify(dynamoDb).deleteItem(argThat((DeleteItemRequest request) ->
+                request.key().get("alpha2Code").s().equals("ALPHA3#GBR")));
+    }
+
+    @Test
+    void olderVersionLeavesPointersAlone() {
+        DynamoDbClient dynamoDb = clientWithLatest(country("GB", "GBR", BASE));
+        when(dynamoDb.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(BatchWriteItemResponse.builder().build());
+
+        new DynamoDbCountryRepository(dynamoDb).saveAll(List.of(country("GB", "GBR", BASE.minusSeconds(1))), progress -> { });
+
+        List<Map<String, AttributeValue>> puts = puts(dynamoDb);
+        assertEquals(1, puts.size());
+        assertFalse(puts.get(0).containsKey("currentPartition"));
+        verify(dynamoDb, never()).deleteItem(any(DeleteItemRequest.class));
+    }
+
+    @Test
+    void refusesCodesHeldByAnotherLiveCountry() {
+        DynamoDbClient dynamoDb = clientWithLatest(country("FR", "FRA", BASE));
+
+        CountryAlreadyExistsException e = assertThrows(CountryAlreadyExistsException.class, () ->
+                new DynamoDbCountryRepository(dynamoDb).saveAll(List.of(country("XF", "FRA", BASE.plusSeconds(1))), progress -> { }));
+
+        assertTrue(e.getMessage().contains("alpha3Code FRA"));
+        verify(dynamoDb, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void refusesTwoCountriesTakingTheSameCode() {
+        DynamoDbClient dynamoDb = clientWithLatest();
+
+        assertThrows(CountryAlreadyExistsException.class, () -> new DynamoDbCountryRepository(dynamoDb).saveAll(
+                List.of(country("XA", "XAX", BASE), country("XB", "XAX", BASE)), progress -> { }));
+        verify(dynamoDb, never()).batchWriteItem(any(BatchWriteItemRequest.class));
+    }
+
+    @Test
+    void rejectsSeveralVersionsOfOneCountry() {
+        DynamoDbClient dynamoDb = clientWithLatest();
+
+        assertThrows(IllegalArgumentException.class, () -> new DynamoDbCountryRepository(dynamoDb).saveAll(
+                List.of(country("GB", "GBR", BASE), country("GB", "GBR", BASE.plusSeconds(1))), progress -> { }));
+        verifyNoInteractions(dynamoDb);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.paginators.ScanIterable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Exercises the parallel scan with a mocked client that serves two pages per segment.
+ */
+class DynamoDbCountryRepositoryExportTest {
+
+    private static Map<String, AttributeValue> version(String alpha2, int second) {
+        return Map.of(
+                "alpha2Code", AttributeValue.builder().s(alpha2).build(),
+                "createDate", AttributeValue.builder().s("2025-01-01T00:00:0" + second + "Z").build(),
+                "name", AttributeValue.builder().s("Name " + alpha2).build(),
+                "alpha3Code", AttributeValue.builder().s(alpha2 + "X").build(),
+                "numericCode", AttributeValue.builder().s("999").build(),
+                "isDeleted", AttributeValue.builder().bool(false).build());
+    }
+
+    private static DynamoDbClient pagedClient(Set<Integer> segmentsScanned) {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        when(dynamoDb.scanPaginator(any(ScanRequest.class))).thenAnswer(invocation -> new ScanIterable(dynamoDb, invocation.getArgument(0)));
+        when(dynamoDb.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            ScanRequest request = invocation.getArgument(0);
+            segmentsScanned.add(request.segment());
+            String alpha2 = "S" + (char) ('A' + request.segment());
+            if (!request.hasExclusiveStartKey()) {
+                return ScanResponse.builder()
+                        .items(List.of(version(alpha2, 1)))
+                        .lastEvaluatedKey(version(alpha2, 1))
+                        .build();
+            }
+            return ScanResponse.builder().items(List.of(version(alpha2, 2))).build();
+        });
+        return dynamoDb;
+    }
+
+    @Test
+    void scansEverySegmentToTheEnd() {
+        Set<Integer> segmentsScanned = ConcurrentHashMap.newKeySet();
+        DynamoDbClient dynamoDb = pagedClient(segmentsScanned);
+        List<Country> exported = new ArrayList<>();
+
+        long count = new DynamoDbCountryRepository(dynamoDb).exportAll(4, exported::add);
+
+        assertEquals(8, count);
+        assertEquals(8, exported.size());
+        assertEquals(Set.of(0, 1, 2, 3), segmentsScanned);
+        verify(dynamoDb, times(8)).scan(argThat((ScanRequest request) ->
+                request.totalSegments() == 4 && request.filterExpression() != null));
+    }
+
+    @Test
+    void sinkFailureStopsExport() {
+        DynamoDbClient dynamoDb = pagedClient(ConcurrentHashMap.newKeySet());
+
+        IllegalStateException failure = assertThrows(IllegalStateException.class,
+                () -> new DynamoDbCountryRepository(dynamoDb).exportAll(2, country -> {
+                    throw new IllegalStateException("client went away");
+                }));
+        assertEquals("client went away", failure.getMessage());
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.country.adapters.persistence;
 
+import com.example.country.application.exception.CountryAlreadyExistsException;
+import com.example.country.application.model.CountryPage;
 import com.example.country.application.ports.CountryRepositoryPort;
 import com.example.country.domain.Country;
 import org.junit.jupiter.api.AfterEach;
@@ -83,12 +85,27 @@ class DynamoDbCountryRepositoryTest {
                         ))
                         .build();
                 dynamoDb.deleteItem(deleteRequest);
+                // Versions also own the alpha3/numeric alias items that point at them
+                if (item.containsKey("alpha3Code")) {
+                    deleteLatestItem("ALPHA3#" + item.get("alpha3Code").s());
+                    deleteLatestItem("NUMERIC#" + item.get("numericCode").s());
+                }
             }
         } catch (Exception e) {
             // Ignore cleanup errors - test may have already cleaned up or data may not exist
         }
     }
 
+    private void deleteLatestItem(String pointerKey) {
+        dynamoDb.deleteItem(DeleteItemRequest.builder()
+                .tableName("Countries")
+                .key(Map.of(
+                        "alpha2Code", AttributeValue.builder().s(pointerKey).build(),
+                        "createDate", AttributeValue.builder().s("LATEST").build()
+                ))
+                .build());
+    }
+
     /**
      * Generate unique test codes to avoid conflicts between tests.
      * Codes must match ISO 3166 format: alpha2 [A-Z]{2}, alpha3 [A-Z]{3}, numeric [0-9]{3}
@@ -418,4 +435,273 @@ class DynamoDbCountryRepositoryTest {
         assertTrue(found.isPresent());
         assertEquals(v3.createDate(), found.get().createDate());
     }
+
+    private List<Country> readAllPages(int pageSize) {
+        List<Country> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            CountryPage page = repository.listLatestPage(pageSize, cursor);
+            all.addAll(page.items());
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    @Test
+    void listLatestPageFollowsCursorInAlpha2Order() {
+        List<String> codes = List.of("QA", "QB", "QC");
+        testAlpha2Codes.addAll(codes);
+        Instant base = Instant.now();
+        for (int i = 0; i < codes.size(); i++) {
+            repository.saveNewVersion(Country.of("Country " + i, codes.get(i), codes.get(i) + "Q", String.format("9%02d", i),
+                    base.plusSeconds(i), null, false));
+        }
+
+        List<Country> all = readAllPages(1);
+
+        List<String> alpha2Codes = all.stream().map(Country::alpha2Code).toList();
+        assertEquals(alpha2Codes.stream().sorted().toList(), alpha2Codes, "Pages should be in alpha2 order");
+        assertEquals(alpha2Codes.stream().distinct().count(), alpha2Codes.size(), "No country should appear twice");
+        assertTrue(alpha2Codes.containsAll(codes));
+    }
+
+    @Test
+    void supersededAndDeletedVersionsLeaveCurrentIndex() {
+        testAlpha2Codes.addAll(List.of("QD", "QE"));
+        Instant base = Instant.now();
+        repository.saveNewVersion(Country.of("Before", "QD", "QDQ", "951", base, null, false));
+        repository.saveNewVersion(Country.of("After", "QD", "QDQ", "951", base.plusSeconds(1), null, false));
+        repository.saveNewVersion(Country.of("Gone", "QE", "QEQ", "952", base, null, false));
+        repository.saveNewVersion(Country.of("Gone", "QE", "QEQ", "952", base.plusSeconds(1), null, true));
+
+        List<Country> all = readAllPages(50);
+
+        List<Country> qd = all.stream().filter(c -> c.alpha2Code().equals("QD")).toList();
+        assertEquals(1, qd.size(), "Only the newest version should be listed");
+        assertEquals("After", qd.get(0).name());
+        assertTrue(all.stream().noneMatch(c -> c.alpha2Code().equals("QE")), "Deleted country should not be listed");
+    }
+
+    @Test
+    void listLatestPageRejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> repository.listLatestPage(10, "not-a-cursor"));
+    }
+
+    @Test
+    void pointerResolvesAllCodesWithoutAppearingInHistory() {
+        testAlpha2Codes.add("QF");
+        Instant base = Instant.now();
+        repository.saveNewVersion(Country.of("First", "QF", "QFQ", "953", base, null, false));
+        repository.saveNewVersion(Country.of("Second", "QF", "QFQ", "953", base.plusSeconds(1), null, false));
+
+        assertEquals("Second", repository.findLatestByAlpha2("QF").orElseThrow().name());
+        assertEquals("Second", repository.findLatestByAlpha3("QFQ").orElseThrow().name());
+        assertEquals("Second", repository.findLatestByNumeric("953").orElseThrow().name());
+        assertEquals(2, repository.historyByAlpha2("QF").size(), "Pointer item must not be returned as a version");
+    }
+
+    @Test
+    void olderVersionSavedLaterDoesNotMovePointer() {
+        testAlpha2Codes.add("QG");
+        Instant base = Instant.now();
+        repository.saveNewVersion(Country.of("Newer", "QG", "QGQ", "954", base.plusSeconds(1), null, false));
+        repository.saveNewVersion(Country.of("Older", "QG", "QGQ", "954", base, null, false));
+
+        assertEquals("Newer", repository.findLatestByAlpha2("QG").orElseThrow().name());
+        assertEquals(1, readAllPages(50).stream().filter(c -> c.alpha2Code().equals("QG")).count());
+    }
+
+    @Test
+    void changedCodesMoveAliases() {
+        testAlpha2Codes.add("QH");
+        Instant base = Instant.now();
+        repository.saveNewVersion(Country.of("Renamed", "QH", "QHQ", "955", base, null, false));
+        repository.saveNewVersion(Country.of("Renamed", "QH", "QHR", "956", base.plusSeconds(1), null, false));
+
+        assertTrue(repository.findLatestByAlpha3("QHQ").isEmpty());
+        assertTrue(repository.findLatestByNumeric("955").isEmpty());
+        assertEquals("QH", repository.findLatestByAlpha3("QHR").orElseThrow().alpha2Code());
+        assertEquals("QH", repository.findLatestByNumeric("956").orElseThrow().alpha2Code());
+        // Cleanup only sees the aliases of versions still in the partition
+        deleteLatestItem("ALPHA3#QHQ");
+        deleteLatestItem("NUMERIC#955");
+    }
+
+    @Test
+    void tombstoneHidesCountryFromAllLookups() {
+        testAlpha2Codes.add("QI");
+        Instant base = Instant.now();
+        repository.saveNewVersion(Country.of("Gone", "QI", "QIQ", "957", base, null, false));
+        repository.saveNewVersion(Country.of("Gone", "QI", "QIQ", "957", base.plusSeconds(1), null, true));
+
+        assertTrue(repository.findLatestByAlpha2("QI").isEmpty());
+        assertTrue(repository.findLatestByAlpha3("QIQ").isEmpty());
+        assertTrue(repository.findLatestByNumeric("957").isEmpty());
+    }
+
+    @Test
+    void supersedeStampsExpiryOnPreviousVersion() {
+        testAlpha2Codes.add("QJ");
+        Instant base = Instant.now();
+        Country first = repository.saveNewVersion(Country.of("First", "QJ", "QJQ", "958", base, null, false));
+        Country second = repository.supersede(first, Country.of("Second", "QJ", "QJQ", "958", base.plusSeconds(1), null, false));
+
+        List<Country> history = repository.historyByAlpha2("QJ");
+        assertEquals(2, history.size());
+        assertNull(history.get(0).expiryDate());
+        assertEquals(second.createDate(), history.get(1).expiryDate());
+        assertEquals("Second", repository.findLatestByAlpha3("QJQ").orElseThrow().name());
+        assertEquals(1, readAllPages(50).stream().filter(c -> c.alpha2Code().equals("QJ")).count());
+    }
+
+    @Test
+    void supersedeRejectsStalePreviousVersion() {
+        testAlpha2Codes.add("QK");
+        Instant base = Instant.now();
+        Country first = repository.saveNewVersion(Country.of("First", "QK", "QKQ", "959", base, null, false));
+        repository.supersede(first, Country.of("Second", "QK", "QKQ", "959", base.plusSeconds(1), null, false));
+
+        assertThrows(ConcurrentModificationException.class, () ->
+                repository.supersede(first, Country.of("Third", "QK", "QKQ", "959", base.plusSeconds(2), null, false)));
+        assertEquals("Second", repository.findLatestByAlpha2("QK").orElseThrow().name());
+        assertEquals(2, repository.historyByAlpha2("QK").size(), "Cancelled transaction must not write a version");
+    }
+
+    @Test
+    void supersedeRejectsCodesHeldByAnotherLiveCountry() {
+        testAlpha2Codes.addAll(List.of("QV", "QW"));
+        Instant base = Instant.now();
+        repository.saveIfAbsent(Country.of("Holder", "QV", "QVQ", "969", base, null, false));
+        Country other = repository.saveIfAbsent(Country.of("Other", "QW", "QWQ", "970", base, null, false));
+
+        CountryAlreadyExistsException alpha3 = assertThrows(CountryAlreadyExistsException.class, () ->
+                repository.supersede(other, Country.of("Other", "QW", "QVQ", "970", base.plusSeconds(1), null, false)));
+        assertTrue(alpha3.getMessage().contains("alpha3Code QVQ"));
+        assertThrows(CountryAlreadyExistsException.class, () ->
+                repository.supersede(other, Country.of("Other", "QW", "QWQ", "969", base.plusSeconds(1), null, false)));
+
+        assertEquals("QV", repository.findLatestByAlpha3("QVQ").orElseThrow().alpha2Code());
+        assertEquals("QV", repository.findLatestByNumeric("969").orElseThrow().alpha2Code());
+        assertEquals(1, repository.historyByAlpha2("QW").size(), "Cancelled update must not write a version");
+        // Updating the holder afterwards keeps its own aliases
+        Country holder = repository.findLatestByAlpha2("QV").orElseThrow();
+        repository.supersede(holder, Country.of("Holder Renamed", "QV", "QVQ", "969", base.plusSeconds(2), null, false));
+        assertEquals("Holder Renamed", repository.findLatestByAlpha3("QVQ").orElseThrow().name());
+    }
+
+    @Test
+    void findLatestHoldingCodesResolvesLiveAliasesOnly() {
+        testAlpha2Codes.addAll(List.of("QX", "QY"));
+        Instant base = Instant.now();
+        repository.saveIfAbsent(Country.of("Live", "QX", "QXQ", "971", base, null, false));
+        Country gone = repository.saveIfAbsent(Country.of("Gone", "QY", "QYQ", "972", base, null, false));
+        repository.supersede(gone, Country.of("Gone", "QY", "QYQ", "972", base.plusSeconds(1), null, true));
+
+        List<Country> holders = repository.findLatestHoldingCodes(List.of("QXQ", "QYQ", "QZQ"), List.of("971", "972"));
+
+        assertEquals(List.of("QX"), holders.stream().map(Country::alpha2Code).toList());
+    }
+
+    @Test
+    void saveNewVersionNeverOverwritesAnExistingVersion() {
+        testAlpha2Codes.add("QL");
+        Instant createDate = Instant.now();
+        repository.saveNewVersion(Country.of("First", "QL", "QLQ", "960", createDate, null, false));
+
+        assertThrows(ConcurrentModificationException.class, () ->
+                repository.saveNewVersion(Country.of("Second", "QL", "QLQ", "960", createDate, null, false)));
+        assertEquals("First", repository.findLatestByAlpha2("QL").orElseThrow().name());
+    }
+
+    @Test
+    void saveIfAbsentRejectsCodesHeldByLiveCountry() {
+        testAlpha2Codes.addAll(List.of("QM", "QN"));
+        Instant base = Instant.now();
+        repository.saveIfAbsent(Country.of("Taken", "QM", "QMQ", "961", base, null, false));
+
+        CountryAlreadyExistsException alpha3 = assertThrows(CountryAlreadyExistsException.class, () ->
+                repository.saveIfAbsent(Country.of("Clash", "QN", "QMQ", "962", base.plusSeconds(1), null, false)));
+        assertTrue(alpha3.getMessage().contains("alpha3Code QMQ"));
+        assertThrows(CountryAlreadyExistsException.class, () ->
+                repository.saveIfAbsent(Country.of("Clash", "QM", "QNQ", "962", base.plusSeconds(1), null, false)));
+        assertTrue(repository.findLatestByAlpha2("QN").isEmpty(), "Cancelled create must not leave a pointer");
+        assertTrue(repository.historyByAlpha2("QN").isEmpty(), "Cancelled create must not leave a version");
+    }
+
+    @Test
+    void saveIfAbsentReusesCodesOfDeletedCountry() {
+        testAlpha2Codes.add("QO");
+        Instant base = Instant.now();
+        Country first = repository.saveIfAbsent(Country.of("First", "QO", "QOQ", "963", base, null, false));
+        repository.supersede(first, Country.of("First", "QO", "QOQ", "963", base.plusSeconds(1), null, true));
+
+        repository.saveIfAbsent(Country.of("Again", "QO", "QOQ", "963", base.plusSeconds(2), null, false));
+
+        assertEquals("Again", repository.findLatestByNumeric("963").orElseThrow().name());
+    }
+
+    @Test
+    void findLatestByAlpha2InResolvesLiveCountriesInRequestOrder() {
+        testAlpha2Codes.addAll(List.of("QP", "QQ"));
+        Instant base = Instant.now();
+        repository.saveIfAbsent(Country.of("Batch One", "QP", "QPQ", "964", base, null, false));
+        Country gone = repository.saveIfAbsent(Country.of("Batch Two", "QQ", "QQQ", "965", base, null, false));
+        repository.supersede(gone, Country.of("Batch Two", "QQ", "QQQ", "965", base.plusSeconds(1), null, true));
+
+        List<Country> found = repository.findLatestByAlpha2In(List.of("QQ", "QV", "QP", "QP"));
+
+        assertEquals(List.of("QP"), found.stream().map(Country::alpha2Code).toList(),
+                "Deleted and unknown codes are left out, duplicates collapse");
+    }
+
+    @Test
+    void findLatestByAlpha2InSpansSeveralBatches() {
+        List<String> codes = new ArrayList<>();
+        for (char first = 'A'; first <= 'Z' && codes.size() < 150; first++) {
+            for (char second = 'A'; second <= 'Z' && codes.size() < 150; second++) {
+                codes.add("" + first + second);
+            }
+        }
+
+        assertEquals(repository.findLatestByAlpha2In(codes).size(),
+                codes.stream().filter(code -> repository.findLatestByAlpha2(code).isPresent()).count());
+    }
+
+    @Test
+    void exportAllStreamsEveryVersionButNoPointers() {
+        testAlpha2Codes.add("QR");
+        Instant base = Instant.now();
+        Country first = repository.saveIfAbsent(Country.of("Export", "QR", "QRQ", "966", base, null, false));
+        repository.supersede(first, Country.of("Exported", "QR", "QRQ", "966", base.plusSeconds(1), null, false));
+        List<Country> exported = Collections.synchronizedList(new ArrayList<>());
+
+        repository.exportAll(3, exported::add);
+
+        List<Country> versions = exported.stream().filter(c -> c.alpha2Code().equals("QR")).toList();
+        assertEquals(2, versions.size());
+        assertTrue(exported.stream().noneMatch(c -> c.alpha2Code().startsWith("ALPHA3#") || c.alpha2Code().startsWith("NUMERIC#")));
+    }
+
+    @Test
+    void saveAllWritesPointersAndReplacesEarlierVersions() {
+        testAlpha2Codes.addAll(List.of("QT", "QU"));
+        Instant base = Instant.now();
+        repository.saveAll(List.of(
+                Country.of("Bulk One", "QT", "QTQ", "967", base, null, false),
+                Country.of("Bulk Two", "QU", "QUQ", "968", base, null, false)), progress -> { });
+
+        repository.saveAll(List.of(
+                Country.of("Bulk One Renamed", "QT", "QTR", "967", base.plusSeconds(1), null, false),
+                Country.of("Bulk Two Stale", "QU", "QUQ", "968", base.minusSeconds(1), null, false)), progress -> { });
+
+        assertEquals("Bulk One Renamed", repository.findLatestByAlpha3("QTR").orElseThrow().name());
+        assertTrue(repository.findLatestByAlpha3("QTQ").isEmpty(), "Released alias should be removed");
+        assertEquals("Bulk Two", repository.findLatestByAlpha2("QU").orElseThrow().name(), "Older version must not move the pointer");
+        assertEquals(2, repository.historyByAlpha2("QT").size());
+        assertEquals(2, repository.historyByAlpha2("QU").size());
+        List<Country> current = readAllPages(100).stream()
+                .filter(c -> c.alpha2Code().equals("QT") || c.alpha2Code().equals("QU"))
+                .toList();
+        assertEquals(List.of("Bulk One Renamed", "Bulk Two"), current.stream().map(Country::name).sorted().toList());
+    }
 }
@@ -0,0 +1,41 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.adapters.seeding.SeedManifest;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DynamoDbSeedManifestStoreTest {
+
+    @Test
+    void savedManifestLoadsBack() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        DynamoDbSeedManifestStore store = new DynamoDbSeedManifestStore(dynamoDb, "countries.csv");
+        SeedManifest manifest = new SeedManifest("abc", Map.of("GB", "1234", "FR", "5678"));
+
+        store.save(manifest);
+
+        ArgumentCaptor<PutItemRequest> put = ArgumentCaptor.forClass(PutItemRequest.class);
+        verify(dynamoDb).putItem(put.capture());
+        assertEquals("SEED#countries.csv", put.getValue().item().get("alpha2Code").s());
+        assertEquals("LATEST", put.getValue().item().get("createDate").s(),
+                "The manifest must use the pointer sort key so scans and the stream tailer skip it");
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().item(put.getValue().item()).build());
+        assertEquals(manifest, store.load().orElseThrow());
+    }
+
+    @Test
+    void missingManifestLoadsEmpty() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+
+        assertTrue(new DynamoDbSeedManifestStore(dynamoDb, "countries.csv").load().isEmpty());
+    }
+}
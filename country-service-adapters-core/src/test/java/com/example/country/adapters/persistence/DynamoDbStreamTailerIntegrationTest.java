@@ -0,0 +1,75 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.application.cache.CachingCountryRepository;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two caches over the same LocalStack table, standing in for two service instances. A write made
+ * through one must reach the other through the table's stream, well before its cache entries expire.
+ */
+@Tag("integration")
+@Testcontainers
+class DynamoDbStreamTailerIntegrationTest {
+    @Container
+    static LocalStackContainer localStack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:latest"))
+            .withServices(LocalStackContainer.Service.DYNAMODB);
+
+    private static DynamoDbClient dynamoDb;
+    private static DynamoDbStreamsClient streams;
+
+    @BeforeAll
+    static void setUp() {
+        URI endpoint = URI.create(localStack.getEndpointOverride(LocalStackContainer.Service.DYNAMODB).toString());
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test"));
+        dynamoDb = DynamoDbClient.builder()
+                .endpointOverride(endpoint)
+                .credentialsProvider(credentials)
+                .region(Region.of(localStack.getRegion()))
+                .build();
+        streams = DynamoDbStreamsClient.builder()
+                .endpointOverride(endpoint)
+                .credentialsProvider(credentials)
+                .region(Region.of(localStack.getRegion()))
+                .build();
+        DynamoDbTestHelper.createTable(dynamoDb);
+    }
+
+    @Test
+    void writeOnOneInstanceInvalidatesAnothersCache() {
+        CachingCountryRepository writer = new CachingCountryRepository(new DynamoDbCountryRepository(dynamoDb), Duration.ofHours(1), 100);
+        CachingCountryRepository reader = new CachingCountryRepository(new DynamoDbCountryRepository(dynamoDb), Duration.ofHours(1), 100);
+        Country original = writer.saveIfAbsent(Country.of("Streamland", "QS", "QSS", "951", Instant.now(), null, false));
+
+        try (DynamoDbStreamTailer tailer = new DynamoDbStreamTailer(dynamoDb, streams, reader)) {
+            tailer.poll();
+            assertEquals("Streamland", reader.findLatestByAlpha2("QS").orElseThrow().name());
+
+            Country renamed = Country.of("Renamed", "QS", "QSS", "951", Instant.now(), null, false);
+            writer.supersede(original, renamed);
+
+            await().atMost(Duration.ofSeconds(15)).pollInterval(Duration.ofMillis(200)).until(() -> {
+                tailer.poll();
+                return "Renamed".equals(reader.findLatestByAlpha2("QS").orElseThrow().name());
+            });
+        }
+    }
+}
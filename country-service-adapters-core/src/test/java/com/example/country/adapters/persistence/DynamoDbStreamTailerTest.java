@@ -0,0 +1,158 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.application.ports.CountryChangeListener;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class DynamoDbStreamTailerTest {
+    private static final String STREAM_ARN = "arn:aws:dynamodb:us-east-1:000000000000:table/Countries/stream/1";
+
+    private DynamoDbClient dynamoDb;
+    private DynamoDbStreamsClient streams;
+    private RecordingListener listener;
+    private DynamoDbStreamTailer tailer;
+
+    private static class RecordingListener implements CountryChangeListener {
+        private final List<Country> changes = new ArrayList<>();
+        private int missed;
+        @Override public void onCountryChanged(Country version) { changes.add(version); }
+        @Override public void onChangesMissed() { missed++; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        dynamoDb = mock(DynamoDbClient.class);
+        streams = mock(DynamoDbStreamsClient.class);
+        listener = new RecordingListener();
+        tailer = new DynamoDbStreamTailer(dynamoDb, streams, listener);
+        when(dynamoDb.describeTable(any(DescribeTableRequest.class))).thenReturn(DescribeTableResponse.builder()
+                .table(TableDescription.builder().tableName("Countries").latestStreamArn(STREAM_ARN).build())
+                .build());
+        when(streams.getShardIterator(any(GetShardIteratorRequest.class))).thenAnswer(invocation -> {
+            GetShardIteratorRequest request = invocation.getArgument(0);
+            return GetShardIteratorResponse.builder()
+                    .shardIterator(request.shardId() + ":" + request.shardIteratorTypeAsString())
+                    .build();
+        });
+    }
+
+    private static Shard shard(String id, boolean closed) {
+        return Shard.builder()
+                .shardId(id)
+                .sequenceNumberRange(SequenceNumberRange.builder()
+                        .startingSequenceNumber("1")
+                        .endingSequenceNumber(closed ? "9" : null)
+                        .build())
+                .build();
+    }
+
+    private void shards(Shard... shards) {
+        when(streams.describeStream(any(DescribeStreamRequest.class))).thenReturn(DescribeStreamResponse.builder()
+                .streamDescription(StreamDescription.builder().streamArn(STREAM_ARN).shards(shards).build())
+                .build());
+    }
+
+    private void records(String iterator, String next, software.amazon.awssdk.services.dynamodb.model.Record... records) {
+        when(streams.getRecords(argThat((GetRecordsRequest request) -> request != null && iterator.equals(request.shardIterator()))))
+                .thenReturn(GetRecordsResponse.builder().records(records).nextShardIterator(next).build());
+    }
+
+    private static Map<String, AttributeValue> version(String alpha2, String createDate, boolean deleted) {
+        return Map.of(
+                "alpha2Code", AttributeValue.builder().s(alpha2).build(),
+                "createDate", AttributeValue.builder().s(createDate).build(),
+                "name", AttributeValue.builder().s("Name " + alpha2).build(),
+                "alpha3Code", AttributeValue.builder().s(alpha2 + "X").build(),
+                "numericCode", AttributeValue.builder().s("999").build(),
+                "isDeleted", AttributeValue.builder().bool(deleted).build());
+    }
+
+    private static software.amazon.awssdk.services.dynamodb.model.Record record(OperationType type, Map<String, AttributeValue> oldImage, Map<String, AttributeValue> newImage) {
+        return software.amazon.awssdk.services.dynamodb.model.Record.builder()
+                .eventName(type)
+                .dynamodb(StreamRecord.builder().oldImage(oldImage).newImage(newImage).build())
+                .build();
+    }
+
+    @Test
+    void deliversVersionItemsAndSkipsPointers() {
+        shards(shard("s1", false), shard("s0", true));
+        Map<String, AttributeValue> pointer = Map.of(
+                "alpha2Code", AttributeValue.builder().s("GB").build(),
+                "createDate", AttributeValue.builder().s("LATEST").build(),
+                "country", AttributeValue.builder().m(version("GB", "2025-01-01T00:00:00Z", false)).build());
+        records("s1:LATEST", "s1:next",
+                record(OperationType.INSERT, null, version("GB", "2025-01-01T00:00:00Z", false)),
+                record(OperationType.INSERT, null, pointer),
+                record(OperationType.REMOVE, version("FR", "2025-01-01T00:00:00Z", true), null));
+
+        assertEquals(2, tailer.poll());
+
+        assertEquals(List.of("GB", "FR"), listener.changes.stream().map(Country::alpha2Code).toList());
+        assertTrue(listener.changes.get(1).isDeleted());
+        verify(streams, never()).getShardIterator(argThat((GetShardIteratorRequest request) -> "s0".equals(request.shardId())));
+    }
+
+    @Test
+    void skipsVersionsThatWereOnlyRetired() {
+        shards(shard("s1", false));
+        Map<String, AttributeValue> current = new HashMap<>(version("FR", "2025-01-01T00:00:00Z", false));
+        current.put("currentPartition", AttributeValue.builder().s("CURRENT").build());
+        records("s1:LATEST", "s1:next",
+                record(OperationType.INSERT, null, version("FR", "2025-01-02T00:00:00Z", true)),
+                record(OperationType.MODIFY, current, version("FR", "2025-01-01T00:00:00Z", false)));
+
+        assertEquals(1, tailer.poll());
+
+        assertTrue(listener.changes.get(0).isDeleted());
+    }
+
+    @Test
+    void readsChildShardsFromTheStartOnceParentCloses() {
+        shards(shard("s1", false));
+        records("s1:LATEST", null);
+        tailer.poll();
+
+        shards(shard("s1", true), shard("s2", false));
+        records("s2:TRIM_HORIZON", "s2:next", record(OperationType.MODIFY, null, version("DE", "2025-01-01T00:00:00Z", false)));
+
+        assertEquals(1, tailer.poll());
+        assertEquals("DE", listener.changes.get(0).alpha2Code());
+        verify(streams, times(1)).getShardIterator(argThat((GetShardIteratorRequest request) -> "s1".equals(request.shardId())));
+    }
+
+    @Test
+    void expiredIteratorTriggersResync() {
+        shards(shard("s1", false));
+        when(streams.getRecords(any(GetRecordsRequest.class)))
+                .thenThrow(ExpiredIteratorException.builder().message("expired").build());
+
+        assertEquals(0, tailer.poll());
+
+        assertEquals(1, listener.missed);
+        verify(streams, times(2)).getShardIterator(argThat((GetShardIteratorRequest request) -> "s1".equals(request.shardId())));
+    }
+
+    @Test
+    void failsWhenStreamIsNotEnabled() {
+        when(dynamoDb.describeTable(any(DescribeTableRequest.class))).thenReturn(DescribeTableResponse.builder()
+                .table(TableDescription.builder().tableName("Countries").build())
+                .build());
+
+        assertThrows(IllegalStateException.class, () -> tailer.poll());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.country.adapters.persistence;
 
+import com.example.country.domain.Country;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.testcontainers.containers.localstack.LocalStackContainer;
@@ -10,9 +11,15 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.DeleteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.DescribeTableRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 
 import java.net.URI;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -70,8 +77,56 @@ class DynamoDbTableHelperTest {
         assertTrue(table.keySchema().stream().anyMatch(ks -> ks.attributeName().equals("createDate") && ks.keyType().toString().equals("RANGE")));
         
         // Verify GSIs exist
-        assertEquals(2, table.globalSecondaryIndexes().size());
+        assertEquals(3, table.globalSecondaryIndexes().size());
         assertTrue(table.globalSecondaryIndexes().stream().anyMatch(gsi -> gsi.indexName().equals("GSI-Alpha3")));
         assertTrue(table.globalSecondaryIndexes().stream().anyMatch(gsi -> gsi.indexName().equals("GSI-Numeric")));
+        assertTrue(table.globalSecondaryIndexes().stream().anyMatch(gsi -> gsi.indexName().equals("GSI-Current")));
+
+        // Verify the change stream carries both images
+        assertTrue(table.streamSpecification().streamEnabled());
+        assertEquals("NEW_AND_OLD_IMAGES", table.streamSpecification().streamViewTypeAsString());
+        assertNotNull(table.latestStreamArn());
+    }
+
+    @Test
+    void shouldBackfillPointersWhenTheCurrentIndexAlreadyExists() {
+        // As left by CloudFormation or an earlier upgrade: GSI-Current present, rows written before pointers existed
+        DynamoDbTableHelper.createTableIfNotExists(dynamoDb);
+        dynamoDb.deleteItem(DeleteItemRequest.builder().tableName("Countries")
+                .key(Map.of("alpha2Code", s(DynamoDbTableHelper.CURRENT_INDEX_MIGRATION), "createDate", s("LATEST")))
+                .build());
+        putVersion("MX", "Mexico (old)", "MEX", "484", "2024-01-01T00:00:00Z", "2024-02-01T00:00:00Z");
+        putVersion("MX", "Mexico", "MEX", "484", "2024-02-01T00:00:00Z", null);
+        putVersion("PE", "Peru", "PER", "604", "2024-01-01T00:00:00Z", null);
+        DynamoDbCountryRepository repository = new DynamoDbCountryRepository(dynamoDb);
+        assertTrue(repository.findLatestByAlpha2("MX").isEmpty());
+
+        DynamoDbTableHelper.createTableIfNotExists(dynamoDb);
+
+        assertEquals("Mexico", repository.findLatestByAlpha2("MX").orElseThrow().name());
+        assertEquals("Peru", repository.findLatestByAlpha3("PER").orElseThrow().name());
+        assertEquals(Instant.parse("2024-02-01T00:00:00Z"), repository.findLatestByNumeric("484").orElseThrow().createDate());
+        assertTrue(repository.listLatest(300, 0).stream().anyMatch(country -> country.alpha2Code().equals("PE")));
+
+        // Already migrated: a newer version written since is not overwritten by a second run
+        repository.saveNewVersion(Country.of("United Mexican States", "MX", "MEX", "484",
+                Instant.parse("2024-03-01T00:00:00Z"), null, false));
+        DynamoDbTableHelper.createTableIfNotExists(dynamoDb);
+        assertEquals("United Mexican States", repository.findLatestByAlpha2("MX").orElseThrow().name());
+    }
+
+    private void putVersion(String alpha2, String name, String alpha3, String numeric, String createDate, String expiryDate) {
+        Map<String, AttributeValue> item = new HashMap<>(Map.of(
+                "alpha2Code", s(alpha2), "createDate", s(createDate), "name", s(name),
+                "alpha3Code", s(alpha3), "numericCode", s(numeric),
+                "isDeleted", AttributeValue.builder().bool(false).build()));
+        if (expiryDate != null) {
+            item.put("expiryDate", s(expiryDate));
+        }
+        dynamoDb.putItem(PutItemRequest.builder().tableName("Countries").item(item).build());
+    }
+
+    private static AttributeValue s(String value) {
+        return AttributeValue.builder().s(value).build();
     }
 }
@@ -0,0 +1,136 @@
+package com.example.country.adapters.persistence;
+
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the LATEST pointer lookup (one strongly consistent GetItem) with the Query-based lookup it
+ * replaced (newest row of the partition or GSI, deleted/expired rows filtered on the client).
+ *
+ * Latency figures from LocalStack are only indicative, so they are logged rather than asserted.
+ * The assertions cover what the pointer is meant to guarantee: the same answer as the Query path
+ * for live countries, and a read cost that does not depend on how much history a country has.
+ */
+@Tag("integration")
+@Testcontainers
+class LatestLookupBenchmarkIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(LatestLookupBenchmarkIntegrationTest.class);
+    private static final int ITERATIONS = 200;
+    private static final int DEEP_HISTORY_VERSIONS = 100;
+
+    @Container
+    static LocalStackContainer localStack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:latest"))
+            .withServices(LocalStackContainer.Service.DYNAMODB);
+
+    private static DynamoDbClient dynamoDb;
+    private static DynamoDbCountryRepository repository;
+
+    @BeforeAll
+    static void setUp() {
+        dynamoDb = DynamoDbClient.builder()
+                .endpointOverride(URI.create(localStack.getEndpointOverride(LocalStackContainer.Service.DYNAMODB).toString()))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .region(Region.of(localStack.getRegion()))
+                .build();
+        DynamoDbTestHelper.createTable(dynamoDb);
+        repository = new DynamoDbCountryRepository(dynamoDb);
+
+        Instant base = Instant.now().minusSeconds(DEEP_HISTORY_VERSIONS);
+        repository.saveNewVersion(Country.of("Shallow", "BS", "BSS", "991", base, null, false));
+        for (int i = 0; i < DEEP_HISTORY_VERSIONS; i++) {
+            repository.saveNewVersion(Country.of("Deep " + i, "BD", "BDD", "992", base.plusSeconds(i), null, false));
+        }
+    }
+
+    @Test
+    void pointerLookupMatchesQueryLookup() {
+        for (String alpha2 : new String[]{"BS", "BD"}) {
+            Country viaPointer = repository.findLatestByAlpha2(alpha2).orElseThrow();
+            Map<String, AttributeValue> viaQuery = legacyQuery(alpha2).items().get(0);
+            assertEquals(viaQuery.get("createDate").s(), viaPointer.createDate().toString());
+            assertEquals(viaQuery.get("name").s(), viaPointer.name());
+            assertEquals(viaPointer.createDate(), repository.findLatestByAlpha3(viaPointer.alpha3Code()).orElseThrow().createDate());
+            assertEquals(viaPointer.createDate(), repository.findLatestByNumeric(viaPointer.numericCode()).orElseThrow().createDate());
+        }
+    }
+
+    @Test
+    void pointerReadCostDoesNotDependOnHistoryDepth() {
+        double shallow = pointerGet("BS").consumedCapacity().capacityUnits();
+        double deep = pointerGet("BD").consumedCapacity().capacityUnits();
+        log.info("GetItem LATEST consumed capacity: shallow={} RCU, deep={} RCU", shallow, deep);
+        assertEquals(shallow, deep);
+    }
+
+    @Test
+    void benchmarkPointerAgainstQuery() {
+        long queryNanos = time(() -> legacyQuery("BD"));
+        long pointerNanos = time(() -> pointerGet("BD"));
+        double queryCapacity = legacyQuery("BD").consumedCapacity().capacityUnits();
+        double pointerCapacity = pointerGet("BD").consumedCapacity().capacityUnits();
+
+        log.info("Query newest version: {} us/op, {} RCU/op (eventually consistent)",
+                queryNanos / ITERATIONS / 1_000, queryCapacity);
+        log.info("GetItem LATEST pointer: {} us/op, {} RCU/op (strongly consistent)",
+                pointerNanos / ITERATIONS / 1_000, pointerCapacity);
+        assertTrue(pointerCapacity > 0);
+    }
+
+    private static long time(Supplier<?> lookup) {
+        for (int i = 0; i < ITERATIONS / 10; i++) {
+            lookup.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            lookup.get();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * The lookup used before the pointer existed, restricted to version rows.
+     */
+    private static QueryResponse legacyQuery(String alpha2Code) {
+        return dynamoDb.query(QueryRequest.builder()
+                .tableName("Countries")
+                .keyConditionExpression("alpha2Code = :pk AND createDate < :latest")
+                .expressionAttributeValues(Map.of(
+                        ":pk", AttributeValue.builder().s(alpha2Code).build(),
+                        ":latest", AttributeValue.builder().s(DynamoDbCountryRepository.LATEST_SK).build()))
+                .scanIndexForward(false)
+                .limit(1)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build());
+    }
+
+    private static GetItemResponse pointerGet(String alpha2Code) {
+        return dynamoDb.getItem(GetItemRequest.builder()
+                .tableName("Countries")
+                .key(Map.of(
+                        "alpha2Code", AttributeValue.builder().s(alpha2Code).build(),
+                        "createDate", AttributeValue.builder().s(DynamoDbCountryRepository.LATEST_SK).build()))
+                .consistentRead(true)
+                .returnConsumedCapacity(ReturnConsumedCapacity.TOTAL)
+                .build());
+    }
+}
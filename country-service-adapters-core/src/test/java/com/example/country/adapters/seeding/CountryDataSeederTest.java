@@ -0,0 +1,250 @@
+package com.example.country.adapters.seeding;
+
+import com.example.country.application.HybridLogicalClock;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CountryDataSeederTest {
+
+    private CountryDataSeeder seeder;
+    private CountryRepositoryPort repository;
+    private CsvCountryReader reader;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(CountryRepositoryPort.class);
+        reader = mock(CsvCountryReader.class);
+        seeder = new CountryDataSeeder(repository, reader);
+    }
+
+    @Test
+    void shouldSeedCountriesFromCsv() throws Exception {
+        String csv = "iso2,iso3,iso_num,country,country_common\n" +
+                "GB,GBR,826,United Kingdom of Great Britain and Northern Ireland (the),United Kingdom\n" +
+                "US,USA,840,United States of America (the),United States of America";
+        
+        InputStream stream = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+        
+        Country country1 = Country.of("United Kingdom of Great Britain and Northern Ireland (the)", 
+                "GB", "GBR", "826", Instant.now(), null, false);
+        Country country2 = Country.of("United States of America (the)", 
+                "US", "USA", "840", Instant.now(), null, false);
+        
+        when(reader.readCountries(stream)).thenReturn(List.of(country1, country2));
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        int seeded = seeder.seedFromCsv(stream);
+
+        assertEquals(2, seeded);
+        verify(repository).saveAll(eq(List.of(country1, country2)), any());
+        verify(repository, never()).saveNewVersion(any(Country.class));
+    }
+
+    @Test
+    void shouldFailWhenBulkWriteFails() throws Exception {
+        String csv = "iso2,iso3,iso_num,country,country_common\n" +
+                "GB,GBR,826,United Kingdom of Great Britain and Northern Ireland (the),United Kingdom";
+        
+        InputStream stream = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+        
+        Country country1 = Country.of("United Kingdom of Great Britain and Northern Ireland (the)", 
+                "GB", "GBR", "826", Instant.now(), null, false);
+        
+        when(reader.readCountries(stream)).thenReturn(List.of(country1));
+        when(repository.saveAll(anyList(), any())).thenThrow(new IllegalStateException("BatchWriteItem left items unprocessed"));
+
+        assertThrows(IllegalStateException.class, () -> seeder.seedFromCsv(stream));
+    }
+
+    @Test
+    void shouldSeedOneByOneThroughDefaultBulkWrite() throws Exception {
+        CountryRepositoryPort defaultRepository = mock(CountryRepositoryPort.class, CALLS_REAL_METHODS);
+        CountryDataSeeder defaultSeeder = new CountryDataSeeder(defaultRepository, reader);
+        InputStream stream = new ByteArrayInputStream(new byte[0]);
+        Country country1 = Country.of("United Kingdom of Great Britain and Northern Ireland (the)", 
+                "GB", "GBR", "826", Instant.now(), null, false);
+        Country country2 = Country.of("United States of America (the)", 
+                "US", "USA", "840", Instant.now(), null, false);
+        when(reader.readCountries(stream)).thenReturn(List.of(country1, country2));
+        doAnswer(invocation -> invocation.getArgument(0)).when(defaultRepository).saveNewVersion(any(Country.class));
+
+        int seeded = defaultSeeder.seedFromCsv(stream);
+
+        assertEquals(2, seeded);
+        verify(defaultRepository).saveNewVersion(country1);
+        verify(defaultRepository).saveNewVersion(country2);
+    }
+
+    @Test
+    void shouldSeedFromClasspathResource() throws Exception {
+        // Create a new seeder with the actual reader for this test
+        CsvCountryReader csvReader = new CsvCountryReader();
+        CountryDataSeeder realSeeder = new CountryDataSeeder(repository, csvReader);
+        
+        Country country = Country.of("United Kingdom of Great Britain and Northern Ireland (the)", 
+                "GB", "GBR", "826", Instant.now(), null, false);
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        try {
+            int seeded = realSeeder.seedFromClasspathResource("countries_iso3166b.csv");
+            assertTrue(seeded >= 0); // Actual count depends on CSV file
+            verify(repository).saveAll(anyList(), any());
+        } catch (IllegalArgumentException e) {
+            // If the resource doesn't exist in test classpath, that's acceptable
+            // Just verify that the method properly handles the case
+            assertTrue(e.getMessage().contains("Resource not found"));
+        }
+    }
+
+    @Test
+    void shouldThrowExceptionWhenClasspathResourceNotFound() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            seeder.seedFromClasspathResource("non-existent-file.csv");
+        });
+    }
+
+    @Test
+    void shouldHandleEmptyCsvFile() throws Exception {
+        String csv = "iso2,iso3,iso_num,country,country_common\n";
+        InputStream stream = new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+        
+        when(reader.readCountries(stream)).thenReturn(List.of());
+
+        int seeded = seeder.seedFromCsv(stream);
+
+        assertEquals(0, seeded);
+        verify(repository, never()).saveNewVersion(any(Country.class));
+        verify(repository, never()).saveAll(anyList(), any());
+    }
+
+    private static class InMemoryManifestStore implements SeedManifestStore {
+        private SeedManifest manifest;
+        @Override public Optional<SeedManifest> load() { return Optional.ofNullable(manifest); }
+        @Override public void save(SeedManifest manifest) { this.manifest = manifest; }
+    }
+
+    private static Country row(String name, String alpha2, String alpha3, String numeric) {
+        return Country.of(name, alpha2, alpha3, numeric, Instant.now(), null, false);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteNothingWhenDatasetIsUnchanged() throws Exception {
+        InMemoryManifestStore manifests = new InMemoryManifestStore();
+        CountryDataSeeder incremental = new CountryDataSeeder(repository, reader, manifests);
+        InputStream first = new ByteArrayInputStream(new byte[0]);
+        InputStream second = new ByteArrayInputStream(new byte[0]);
+        when(reader.readCountries(first)).thenReturn(List.of(row("United Kingdom", "GB", "GBR", "826")));
+        when(reader.readCountries(second)).thenReturn(List.of(row("United Kingdom", "GB", "GBR", "826")));
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        assertEquals(1, incremental.seedFromCsv(first));
+        assertEquals(0, incremental.seedFromCsv(second));
+
+        verify(repository, times(1)).saveAll(anyList(), any());
+        verify(repository, times(1)).findLatestByAlpha2In(anyCollection());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteOnlyChangedAndAddedRows() throws Exception {
+        InMemoryManifestStore manifests = new InMemoryManifestStore();
+        CountryDataSeeder incremental = new CountryDataSeeder(repository, reader, manifests);
+        InputStream first = new ByteArrayInputStream(new byte[0]);
+        InputStream second = new ByteArrayInputStream(new byte[0]);
+        Country renamed = row("Britain", "GB", "GBR", "826");
+        Country added = row("France", "FR", "FRA", "250");
+        when(reader.readCountries(first)).thenReturn(List.of(row("United Kingdom", "GB", "GBR", "826"), row("United States", "US", "USA", "840")));
+        when(reader.readCountries(second)).thenReturn(List.of(renamed, row("United States", "US", "USA", "840"), added));
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        incremental.seedFromCsv(first);
+        clearInvocations(repository);
+
+        int seeded = incremental.seedFromCsv(second);
+
+        assertEquals(2, seeded);
+        verify(repository).saveAll(eq(List.of(renamed, added)), any());
+        verify(repository).findLatestByAlpha2In(List.of("GB", "FR"));
+    }
+
+    @Test
+    void shouldSkipRowsThatMatchStoredCountriesWithoutManifest() throws Exception {
+        InputStream stream = new ByteArrayInputStream(new byte[0]);
+        Country unchanged = row("United Kingdom", "GB", "GBR", "826");
+        Country changed = row("United States", "US", "USA", "840");
+        when(reader.readCountries(stream)).thenReturn(List.of(unchanged, changed));
+        when(repository.findLatestByAlpha2In(anyCollection())).thenReturn(List.of(
+                Country.of("United Kingdom", "GB", "GBR", "826", Instant.parse("2024-01-01T00:00:00Z"), null, false),
+                Country.of("USA", "US", "USA", "840", Instant.parse("2024-01-01T00:00:00Z"), null, false)));
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        assertEquals(1, seeder.seedFromCsv(stream));
+        verify(repository).saveAll(eq(List.of(changed)), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldDeleteRemovedRowsUnlessChangedSinceSeeding() throws Exception {
+        InMemoryManifestStore manifests = new InMemoryManifestStore();
+        CountryDataSeeder incremental = new CountryDataSeeder(repository, reader, manifests);
+        InputStream first = new ByteArrayInputStream(new byte[0]);
+        InputStream second = new ByteArrayInputStream(new byte[0]);
+        when(reader.readCountries(first)).thenReturn(List.of(
+                row("United Kingdom", "GB", "GBR", "826"), row("Yugoslavia", "YU", "YUG", "891"), row("Zaire", "ZR", "ZAR", "180")));
+        when(reader.readCountries(second)).thenReturn(List.of(row("United Kingdom", "GB", "GBR", "826")));
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        incremental.seedFromCsv(first);
+        clearInvocations(repository);
+        when(repository.findLatestByAlpha2In(anyCollection())).thenReturn(List.of(
+                row("Yugoslavia", "YU", "YUG", "891"), row("Zaire (renamed through the API)", "ZR", "ZAR", "180")));
+
+        assertEquals(1, incremental.seedFromCsv(second));
+
+        ArgumentCaptor<List<Country>> written = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(written.capture(), any());
+        assertEquals(1, written.getValue().size());
+        assertEquals("YU", written.getValue().get(0).alpha2Code());
+        assertTrue(written.getValue().get(0).isDeleted());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStampTombstonesAfterTheVersionTheyReplace() throws Exception {
+        InMemoryManifestStore manifests = new InMemoryManifestStore();
+        Instant frozen = Instant.parse("2024-01-01T00:00:00Z");
+        CountryDataSeeder incremental = new CountryDataSeeder(repository, reader, manifests,
+                new HybridLogicalClock(Clock.fixed(frozen, ZoneOffset.UTC)));
+        InputStream first = new ByteArrayInputStream(new byte[0]);
+        InputStream second = new ByteArrayInputStream(new byte[0]);
+        when(reader.readCountries(first)).thenReturn(List.of(row("United Kingdom", "GB", "GBR", "826"), row("Yugoslavia", "YU", "YUG", "891")));
+        when(reader.readCountries(second)).thenReturn(List.of(row("United Kingdom", "GB", "GBR", "826")));
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+        incremental.seedFromCsv(first);
+        clearInvocations(repository);
+        // Written by an instance whose clock runs ahead of this one
+        Instant ahead = frozen.plusSeconds(60);
+        when(repository.findLatestByAlpha2In(anyCollection())).thenReturn(List.of(
+                Country.of("Yugoslavia", "YU", "YUG", "891", ahead, null, false)));
+
+        incremental.seedFromCsv(second);
+
+        ArgumentCaptor<List<Country>> written = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(written.capture(), any());
+        assertTrue(written.getValue().get(0).createDate().isAfter(ahead));
+    }
+}
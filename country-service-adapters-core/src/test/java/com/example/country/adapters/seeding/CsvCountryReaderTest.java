@@ -1,11 +1,21 @@
 package com.example.country.adapters.seeding;
 
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.ImportRow;
 import com.example.country.domain.Country;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -154,4 +164,94 @@ class CsvCountryReaderTest {
         assertEquals(1, countries.size());
         assertEquals("042", countries.get(0).numericCode());
     }
+
+    private static final String TWO_ROWS = "iso2,iso3,iso_num,country,country_common\r\n" +
+            "GB,GBR,826,\"United Kingdom of Great Britain and Northern Ireland (the)\",United Kingdom\r\n" +
+            "CI,CIV,384,\"C\u00f4te d'Ivoire, the \"\"Ivory Coast\"\"\",Ivory Coast\r\n";
+
+    private static byte[] gzip(String csv) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(csv.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void assertTwoRows(List<Country> countries) {
+        assertEquals(List.of("GB", "CI"), countries.stream().map(Country::alpha2Code).toList());
+        assertEquals("United Kingdom of Great Britain and Northern Ireland (the)", countries.get(0).name());
+        assertEquals("C\u00f4te d'Ivoire, the \"Ivory Coast\"", countries.get(1).name());
+        assertEquals("384", countries.get(1).numericCode());
+    }
+
+    @Test
+    void streamsGzipInput() throws Exception {
+        try (Stream<Country> countries = new CsvCountryReader().streamCountries(new ByteArrayInputStream(gzip(TWO_ROWS)))) {
+            assertTwoRows(countries.toList());
+        }
+    }
+
+    @Test
+    void streamsMappedAndGzipFiles(@TempDir Path dir) throws Exception {
+        Path plain = Files.writeString(dir.resolve("countries.csv"), TWO_ROWS);
+        Path compressed = Files.write(dir.resolve("countries.csv.gz"), gzip(TWO_ROWS));
+        CsvCountryReader reader = new CsvCountryReader();
+
+        try (Stream<Country> countries = reader.streamCountries(plain)) {
+            assertTwoRows(countries.toList());
+        }
+        try (Stream<Country> countries = reader.streamCountries(compressed)) {
+            assertTwoRows(countries.toList());
+        }
+    }
+
+    @Test
+    void parsesRowsSpanningBufferRefills() throws Exception {
+        StringBuilder csv = new StringBuilder("iso2,iso3,iso_num,country,country_common\n");
+        for (int i = 0; i < 500; i++) {
+            csv.append("A").append((char) ('A' + i % 26)).append(",AA").append((char) ('A' + i % 26))
+                    .append(',').append(i).append(",Country number ").append(i).append(",Common\n");
+        }
+        // A buffer smaller than one row forces both compaction and growth
+        CsvCountrySpliterator<Country> rows = CsvCountrySpliterator.of(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), 8, Instant.EPOCH);
+
+        List<Country> countries = StreamSupport.stream(rows, false).toList();
+
+        assertEquals(500, countries.size());
+        assertEquals("Country number 499", countries.get(499).name());
+        assertEquals("007", countries.get(7).numericCode());
+    }
+
+    @Test
+    void rejectsNonNumericCodes() {
+        String csv = "iso2,iso3,iso_num,country,country_common\n" +
+                "GB,GBR,8x6,United Kingdom,United Kingdom";
+
+        assertThrows(NumberFormatException.class, () -> new CsvCountryReader().readCountries(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void streamsImportRowsReportingUnreadableOnes() throws Exception {
+        String csv = "iso2,iso3,iso_num,country\n" +
+                "GB,GBR,826,United Kingdom\n" +
+                "\n" +
+                "FR,FRA\n" +
+                "DE,DEU,2x6,Germany\n" +
+                "US,USA,840,\"United States of America (the)\"";
+
+        List<ImportRow> rows;
+        try (Stream<ImportRow> stream = new CsvCountryReader().streamImportRows(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+            rows = stream.toList();
+        }
+
+        assertEquals(4, rows.size());
+        assertEquals(ImportRow.parsed(2, new CountryInput("United Kingdom", "GB", "GBR", "826")), rows.get(0));
+        assertEquals(ImportRow.rejected(4, "Expected at least 4 fields but found 2"), rows.get(1));
+        assertEquals(5, rows.get(2).row());
+        assertTrue(rows.get(2).isRejected());
+        assertEquals(ImportRow.parsed(6, new CountryInput("United States of America (the)", "US", "USA", "840")), rows.get(3));
+    }
 }
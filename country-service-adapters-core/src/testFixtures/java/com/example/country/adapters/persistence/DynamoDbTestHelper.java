@@ -23,9 +23,14 @@ public class DynamoDbTestHelper {
                         AttributeDefinition.builder().attributeName("alpha2Code").attributeType(ScalarAttributeType.S).build(),
                         AttributeDefinition.builder().attributeName("createDate").attributeType(ScalarAttributeType.S).build(),
                         AttributeDefinition.builder().attributeName("alpha3Code").attributeType(ScalarAttributeType.S).build(),
-                        AttributeDefinition.builder().attributeName("numericCode").attributeType(ScalarAttributeType.S).build()
+                        AttributeDefinition.builder().attributeName("numericCode").attributeType(ScalarAttributeType.S).build(),
+                        AttributeDefinition.builder().attributeName("currentPartition").attributeType(ScalarAttributeType.S).build()
                 )
                 .billingMode(BillingMode.PAY_PER_REQUEST)
+                .streamSpecification(StreamSpecification.builder()
+                        .streamEnabled(true)
+                        .streamViewType(StreamViewType.NEW_AND_OLD_IMAGES)
+                        .build())
                 .globalSecondaryIndexes(
                         GlobalSecondaryIndex.builder()
                                 .indexName("GSI-Alpha3")
@@ -42,6 +47,14 @@ public class DynamoDbTestHelper {
                                         KeySchemaElement.builder().attributeName("createDate").keyType(KeyType.RANGE).build()
                                 )
                                 .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
+                                .build(),
+                        GlobalSecondaryIndex.builder()
+                                .indexName("GSI-Current")
+                                .keySchema(
+                                        KeySchemaElement.builder().attributeName("currentPartition").keyType(KeyType.HASH).build(),
+                                        KeySchemaElement.builder().attributeName("alpha2Code").keyType(KeyType.RANGE).build()
+                                )
+                                .projection(Projection.builder().projectionType(ProjectionType.ALL).build())
                                 .build()
                 )
                 .build();
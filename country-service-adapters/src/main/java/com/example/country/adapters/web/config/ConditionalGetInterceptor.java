@@ -0,0 +1,38 @@
+package com.example.country.adapters.web.config;
+
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.adapters.json.SerializedJson;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Objects;
+
+/**
+ * Answers a conditional GET with {@code 304 Not Modified} before the controller, and so the repository,
+ * is reached when {@link HttpCaching} can check the validators from its cache. Registered after the
+ * servlet filters, so only authenticated requests get this far.
+ */
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+    private final HttpCaching caching;
+
+    public ConditionalGetInterceptor(HttpCaching caching) {
+        this.caching = Objects.requireNonNull(caching);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!"GET".equals(request.getMethod())) {
+            return true;
+        }
+        SerializedJson json = caching.notModifiedFromCache(HttpCaching.requestKey(request.getRequestURI(), request.getQueryString()),
+                request.getHeader(HttpHeaders.IF_NONE_MATCH), request.getHeader(HttpHeaders.IF_MODIFIED_SINCE));
+        if (json == null) {
+            return true;
+        }
+        response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        caching.addHeaders(json, HttpCaching.compressibleEtag(json), response::setHeader);
+        return false;
+    }
+}
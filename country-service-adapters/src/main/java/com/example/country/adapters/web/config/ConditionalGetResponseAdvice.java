@@ -0,0 +1,69 @@
+package com.example.country.adapters.web.config;
+
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.adapters.json.SerializedJson;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+/**
+ * Adds validators and {@code Cache-Control} to successful GET responses written by
+ * {@link CountryJsonHttpMessageConverter}, and turns them into {@code 304 Not Modified} when the
+ * request's validators still match. Also records the validation for {@link ConditionalGetInterceptor}.
+ */
+@RestControllerAdvice
+public class ConditionalGetResponseAdvice implements ResponseBodyAdvice<Object> {
+    private final HttpCaching caching;
+
+    public ConditionalGetResponseAdvice(HttpCaching caching) {
+        this.caching = Objects.requireNonNull(caching);
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return CountryJsonHttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (request.getMethod() != HttpMethod.GET || !(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)
+                || servletResponse.getServletResponse().getStatus() != HttpStatus.OK.value()) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        SerializedJson json = caching.validated(HttpCaching.requestKey(httpRequest.getRequestURI(), httpRequest.getQueryString()), body);
+        if (json == null) {
+            return body;
+        }
+        caching.addHeaders(json, HttpCaching.compressibleEtag(json), response.getHeaders()::set);
+        if (HttpCaching.isNotModified(json, httpRequest.getHeader(HttpHeaders.IF_NONE_MATCH),
+                httpRequest.getHeader(HttpHeaders.IF_MODIFIED_SINCE))) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            // Nothing is written for a null body, so the headers have to be sent here
+            try {
+                response.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        }
+        return body;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.country.adapters.web.config;
+
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.json.CountryResponseCache;
+import com.example.country.adapters.json.SerializedJson;
+import com.example.country.application.model.CountryInput;
+import com.example.country.domain.Country;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes {@link Country}, lists of countries and {@link CountryInput} with {@link CountryJsonCodec} and reads
+ * them back, ahead of the Jackson converter. Anything else, such as error bodies and import reports,
+ * is left to Jackson.
+ *
+ * <p>Countries and lists are written from a {@link CountryResponseCache}, so a response already served
+ * for the same versions is copied out as stored bytes, with the stored hash as its {@code ETag}. The tag
+ * is weak on bodies large enough for {@code server.compression}, which skips strongly tagged responses.
+ */
+public class CountryJsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    private final CountryJsonCodec codec;
+    private final CountryResponseCache responses;
+
+    public CountryJsonHttpMessageConverter(CountryJsonCodec codec) {
+        this(codec, new CountryResponseCache(codec, CountryResponseCache.DEFAULT_MAX_ENTRIES));
+    }
+
+    public CountryJsonHttpMessageConverter(CountryJsonCodec codec, CountryResponseCache responses) {
+        // No default charset: JSON is UTF-8, and Jackson's converter leaves the parameter off as well
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.codec = codec;
+        this.responses = responses;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == Country.class || clazz == CountryInput.class;
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return (supports(type) || isCountryCollection(type, true)) && canRead(mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return (supports(type) || isCountryCollection(type, false)) && canWrite(mediaType);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        try {
+            if (type == CountryInput.class) {
+                return codec.readInput(inputMessage.getBody());
+            }
+            if (type == Country.class) {
+                return codec.readCountry(inputMessage.getBody());
+            }
+            return codec.readCountries(inputMessage.getBody());
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage) throws IOException {
+        SerializedJson json;
+        if (value instanceof Country country) {
+            json = responses.country(country);
+        } else if (value instanceof List<?> list && isCountryCollection(type, false)) {
+            json = responses.countries((List<? extends Country>) list);
+        } else {
+            codec.writeValue(outputMessage.getBody(), value);
+            return;
+        }
+        // Headers can only change until the body is opened; a handler that set its own tag keeps it
+        HttpHeaders headers = outputMessage.getHeaders();
+        if (headers.getETag() == null) {
+            headers.setETag(HttpCaching.compressibleEtag(json));
+        }
+        headers.setContentLength(json.bytes().length);
+        outputMessage.getBody().write(json.bytes());
+    }
+
+    private boolean supports(Type type) {
+        return type instanceof Class<?> clazz && supports(clazz);
+    }
+
+    /**
+     * Only declared element types are trusted; a raw collection may hold anything. Read countries come
+     * back as an {@link ArrayList}.
+     */
+    private static boolean isCountryCollection(Type type, boolean reading) {
+        if (!(type instanceof ParameterizedType parameterized) || !(parameterized.getRawType() instanceof Class<?> raw)
+                || parameterized.getActualTypeArguments()[0] != Country.class) {
+            return false;
+        }
+        return reading ? raw.isAssignableFrom(ArrayList.class) : Collection.class.isAssignableFrom(raw);
+    }
+}
@@ -1,32 +1,47 @@
 package com.example.country.adapters.web.controller;
 
 import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.importing.CountryImportReader;
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
 import com.example.country.domain.Country;
 import com.example.country.adapters.web.exception.GlobalExceptionHandler.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 @RestController
 @RequestMapping("/api/v1/countries")
 public class CountryController {
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final CountryApi countryApi;
+    private final CountryImportReader importReader;
 
-    public CountryController(CountryApi countryApi) {
+    public CountryController(CountryApi countryApi, CountryImportReader importReader) {
         this.countryApi = countryApi;
+        this.importReader = importReader;
     }
 
     @GetMapping
-    @Operation(summary = "Get All Countries (Paginated)", description = "Retrieves a paginated list of the latest version of all country records.")
-    @ApiResponse(responseCode = "200", description = "A paginated list of countries")
+    @Operation(summary = "Get All Countries (Paginated)", description = "Retrieves a paginated list of the latest version of all country records, or the countries with the given `codes`.")
+    @ApiResponse(responseCode = "200", description = "A paginated list of countries",
+                 headers = @Header(name = NEXT_CURSOR_HEADER, description = "Cursor for the next page. Only sent when paging with `cursor` and more results remain.",
+                                   schema = @Schema(type = "string")))
     @ApiResponse(responseCode = "401", description = "Unauthorized. The API key is missing or invalid.",
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Internal Server Error",
@@ -37,8 +52,25 @@ public class CountryController {
             @RequestParam(name = "limit", defaultValue = "20") int limit,
             @Parameter(description = "The number of countries to skip before starting to collect the result set.",
                       schema = @Schema(type = "integer", defaultValue = "0", minimum = "0"))
-            @RequestParam(name = "offset", defaultValue = "0") int offset) {
-        return ResponseEntity.ok(countryApi.listCountries(limit, offset));
+            @RequestParam(name = "offset", defaultValue = "0") int offset,
+            @Parameter(description = "Opaque keyset cursor. Pass an empty value to start, then the value of the `X-Next-Cursor` header. Takes precedence over `offset`.",
+                      schema = @Schema(type = "string"))
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @Parameter(description = "Comma-separated alpha-2 codes to look up in one request (at most 100). Unknown codes are left out of the result. Takes precedence over paging.",
+                      schema = @Schema(type = "string", example = "GB,FR,DE"))
+            @RequestParam(name = "codes", required = false) List<String> codes) {
+        if (codes != null) {
+            return ResponseEntity.ok(countryApi.getByAlpha2In(codes));
+        }
+        if (cursor == null) {
+            return ResponseEntity.ok(countryApi.listCountries(limit, offset));
+        }
+        CountryPage page = countryApi.listCountriesPage(limit, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasMore()) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
     }
 
     @PostMapping
@@ -57,6 +89,25 @@ public class CountryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(created);
     }
 
+    @PostMapping(value = "/import", consumes = {CountryImportReader.CSV, CountryImportReader.NDJSON})
+    @Operation(summary = "Bulk Import Countries", description = "Streams CSV (the seed file layout, optionally gzip-compressed) or newline-delimited `CountryInput` JSON and writes each valid row as a new version of its country, in chunks, while the body is still being read. Rows that cannot be parsed, validated or written, or that take an alpha3 or numeric code held by another live country, are listed in the report; they do not fail the import.")
+    @ApiResponse(responseCode = "200", description = "The import report")
+    @ApiResponse(responseCode = "400", description = "Bad Request. The CSV header row is missing.",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized. The API key is missing or invalid.",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "415", description = "Unsupported Media Type. Send `text/csv` or `application/x-ndjson`.",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "500", description = "Internal Server Error",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<ImportReport> importCountries(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        try (Stream<ImportRow> rows = importReader.read(body, contentType)) {
+            return ResponseEntity.ok(countryApi.importCountries(rows));
+        }
+    }
+
     @GetMapping("/code/{alpha2Code}")
     @Operation(summary = "Get Country by 2-Letter Code", description = "Retrieves the latest version of a country by its ISO 3166-1 alpha-2 code.")
     @ApiResponse(responseCode = "200", description = "The requested country data")
@@ -80,6 +131,8 @@ public class CountryController {
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Not Found",
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Conflict. The country was modified concurrently; retry the request.",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Internal Server Error",
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     public ResponseEntity<Country> updateByAlpha2(
@@ -96,6 +149,8 @@ public class CountryController {
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "404", description = "Not Found",
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "409", description = "Conflict. The country was modified concurrently; retry the request.",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     @ApiResponse(responseCode = "500", description = "Internal Server Error",
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     public ResponseEntity<Void> deleteByAlpha2(@PathVariable("alpha2Code") String alpha2Code) {
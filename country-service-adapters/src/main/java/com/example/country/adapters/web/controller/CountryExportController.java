@@ -0,0 +1,75 @@
+package com.example.country.adapters.web.controller;
+
+import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.export.CountryCsvWriter;
+import com.example.country.adapters.export.CountryExportWriter;
+import com.example.country.adapters.export.CountryNdjsonWriter;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.web.exception.GlobalExceptionHandler.ErrorResponse;
+import com.example.country.application.CountryServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+@RestController
+@RequestMapping("/api/v1/countries")
+public class CountryExportController {
+    private final CountryApi countryApi;
+    private final CountryJsonCodec codec;
+
+    public CountryExportController(CountryApi countryApi, CountryJsonCodec codec) {
+        this.countryApi = countryApi;
+        this.codec = codec;
+    }
+
+    @GetMapping(value = "/export", produces = {CountryNdjsonWriter.CONTENT_TYPE, CountryCsvWriter.CONTENT_TYPE})
+    @Operation(summary = "Export Countries", description = "Streams every current country in one response, as newline-delimited JSON or CSV. Only the current version of each country that is not deleted is exported, ordered by alpha-2 code. This replaces paging through `GET /api/v1/countries`. With `history=true` every stored version is exported instead, including history and deleted countries, in no particular order.")
+    @ApiResponse(responseCode = "200", description = "One country version per line")
+    @ApiResponse(responseCode = "400", description = "Bad Request",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    @ApiResponse(responseCode = "401", description = "Unauthorized. The API key is missing or invalid.",
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<StreamingResponseBody> exportCountries(
+            @Parameter(description = "Number of parallel scan segments used to read the table. Only used when exporting history.",
+                      schema = @Schema(type = "integer", defaultValue = "4", minimum = "1", maximum = "16"))
+            @RequestParam(name = "segments", defaultValue = "4") int segments,
+            @Parameter(description = "Output format.",
+                      schema = @Schema(type = "string", defaultValue = "ndjson", allowableValues = {"ndjson", "csv"}))
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @Parameter(description = "Whether to export every stored version rather than only current countries.",
+                      schema = @Schema(type = "boolean", defaultValue = "false"))
+            @RequestParam(name = "history", defaultValue = "false") boolean history) {
+        // Checked up front: once streaming has started the status can no longer change
+        if (segments < 1 || segments > CountryServiceImpl.MAX_EXPORT_SEGMENTS) {
+            throw new IllegalArgumentException("segments must be between 1 and " + CountryServiceImpl.MAX_EXPORT_SEGMENTS);
+        }
+        boolean csv = switch (format.toLowerCase(Locale.ROOT)) {
+            case "ndjson" -> false;
+            case "csv" -> true;
+            default -> throw new IllegalArgumentException("format must be ndjson or csv");
+        };
+        StreamingResponseBody body = out -> {
+            CountryExportWriter writer = csv ? new CountryCsvWriter(out) : new CountryNdjsonWriter(codec, out);
+            if (history) {
+                countryApi.exportAll(segments, writer);
+            } else {
+                countryApi.exportLatest(writer);
+            }
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(csv ? CountryCsvWriter.CONTENT_TYPE : CountryNdjsonWriter.CONTENT_TYPE))
+                .body(body);
+    }
+}
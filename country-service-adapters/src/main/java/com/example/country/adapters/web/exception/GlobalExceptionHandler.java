@@ -1,14 +1,17 @@
 package com.example.country.adapters.web.exception;
 
+import com.example.country.application.exception.CountryAlreadyExistsException;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.time.Instant;
+import java.util.ConcurrentModificationException;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -67,6 +70,32 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    @ExceptionHandler({CountryAlreadyExistsException.class, ConcurrentModificationException.class})
+    @ApiResponse(responseCode = "409", description = "Conflict", 
+                 content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    public ResponseEntity<Map<String, Object>> handleConflict(RuntimeException ex, jakarta.servlet.http.HttpServletRequest request) {
+        Map<String, Object> body = Map.of(
+                "timestamp", Instant.now().toString(),
+                "status", HttpStatus.CONFLICT.value(),
+                "error", "Conflict",
+                "message", ex.getMessage() != null ? ex.getMessage() : "Resource conflict",
+                "path", request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
+    }
+
+    @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
+    public ResponseEntity<Map<String, Object>> handleUnsupportedMediaType(HttpMediaTypeNotSupportedException ex, jakarta.servlet.http.HttpServletRequest request) {
+        Map<String, Object> body = Map.of(
+                "timestamp", Instant.now().toString(),
+                "status", HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(),
+                "error", "Unsupported Media Type",
+                "message", ex.getMessage() != null ? ex.getMessage() : "Unsupported media type",
+                "path", request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.UNSUPPORTED_MEDIA_TYPE).body(body);
+    }
+
     @ExceptionHandler(Exception.class)
     @ApiResponse(responseCode = "500", description = "Internal Server Error", 
                  content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -0,0 +1,94 @@
+package com.example.country.adapters.web.config;
+
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.json.CountryResponseCache;
+import com.example.country.adapters.json.SerializedJson;
+import com.example.country.domain.Country;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConditionalGetInterceptorTest {
+
+    private static final Country FRANCE = Country.of("France", "FR", "FRA", "250",
+            Instant.parse("2024-01-01T00:00:00Z"), null, false);
+
+    private final HttpCaching caching = new HttpCaching(new CountryResponseCache(new CountryJsonCodec(), 10),
+            Duration.ofMinutes(1), Duration.ZERO);
+    private final ConditionalGetInterceptor interceptor = new ConditionalGetInterceptor(caching);
+    private final ConditionalGetResponseAdvice advice = new ConditionalGetResponseAdvice(caching);
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        response = mock(HttpServletResponse.class);
+        when(request.getMethod()).thenReturn("GET");
+        when(request.getRequestURI()).thenReturn("/api/v1/countries/code/FR");
+        when(response.getStatus()).thenReturn(200);
+    }
+
+    @Test
+    void passesRequestsThroughUntilTheResponseHasBeenValidated() {
+        when(request.getHeader("If-None-Match")).thenReturn("*");
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        verify(response, never()).setStatus(anyInt());
+    }
+
+    @Test
+    void addsValidatorsAndAnswersMatchingRequestsBeforeTheController() {
+        ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+
+        Object body = advice.beforeBodyWrite(FRANCE, null, MediaType.APPLICATION_JSON, CountryJsonHttpMessageConverter.class,
+                new ServletServerHttpRequest(request), output);
+
+        assertSame(FRANCE, body);
+        String etag = output.getHeaders().getETag();
+        assertNotNull(etag);
+        assertEquals("max-age=60", output.getHeaders().getCacheControl());
+        assertEquals(Instant.parse("2024-01-01T00:00:00Z").toEpochMilli(), output.getHeaders().getLastModified());
+
+        when(request.getHeader("If-None-Match")).thenReturn(etag);
+
+        assertFalse(interceptor.preHandle(request, response, new Object()));
+        verify(response).setStatus(304);
+        verify(response).setHeader("ETag", etag);
+    }
+
+    @Test
+    void turnsMatchingResponsesIntoNotModified() {
+        SerializedJson json = caching.serialized(FRANCE);
+        when(request.getHeader("If-None-Match")).thenReturn(json.etag());
+
+        Object body = advice.beforeBodyWrite(FRANCE, null, MediaType.APPLICATION_JSON, CountryJsonHttpMessageConverter.class,
+                new ServletServerHttpRequest(request), new ServletServerHttpResponse(response));
+
+        assertNull(body);
+        verify(response).setStatus(304);
+    }
+
+    @Test
+    void leavesOtherMethodsAndStatusesAlone() {
+        when(request.getMethod()).thenReturn("POST");
+        when(request.getHeader("If-None-Match")).thenReturn("*");
+        ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+
+        assertTrue(interceptor.preHandle(request, response, new Object()));
+        assertSame(FRANCE, advice.beforeBodyWrite(FRANCE, null, MediaType.APPLICATION_JSON,
+                CountryJsonHttpMessageConverter.class, new ServletServerHttpRequest(request), output));
+        assertNull(output.getHeaders().getCacheControl());
+    }
+}
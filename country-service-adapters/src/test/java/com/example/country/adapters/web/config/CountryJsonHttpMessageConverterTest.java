@@ -0,0 +1,104 @@
+package com.example.country.adapters.web.config;
+
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.json.CountryResponseCache;
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.ImportReport;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountryJsonHttpMessageConverterTest {
+
+    private static final Type COUNTRY_LIST = new ParameterizedTypeReference<List<Country>>() {}.getType();
+    private static final Type STRING_LIST = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+    private final CountryJsonHttpMessageConverter converter = new CountryJsonHttpMessageConverter(new CountryJsonCodec());
+
+    private record Input(InputStream getBody, HttpHeaders getHeaders) implements HttpInputMessage {
+        Input(String body) {
+            this(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), new HttpHeaders());
+        }
+    }
+
+    private record Output(ByteArrayOutputStream getBody, HttpHeaders getHeaders) implements HttpOutputMessage {
+        Output() {
+            this(new ByteArrayOutputStream(), new HttpHeaders());
+        }
+    }
+
+    @Test
+    void handlesOnlyCountryTypes() {
+        assertTrue(converter.canWrite(Country.class, Country.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canWrite(COUNTRY_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canRead(CountryInput.class, null, MediaType.APPLICATION_JSON));
+        assertTrue(converter.canRead(COUNTRY_LIST, null, MediaType.APPLICATION_JSON));
+
+        assertFalse(converter.canWrite(List.class, List.class, MediaType.APPLICATION_JSON), "Raw lists are left to Jackson");
+        assertFalse(converter.canWrite(STRING_LIST, List.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(ImportReport.class, ImportReport.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(Map.class, Map.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(Country.class, Country.class, MediaType.TEXT_PLAIN));
+    }
+
+    @Test
+    void writesCountryListAsJson() throws Exception {
+        Output output = new Output();
+
+        converter.write(List.of(Country.of("France", "FR", "FRA", "250", Instant.parse("2024-01-01T00:00:00Z"), null, false)),
+                COUNTRY_LIST, MediaType.APPLICATION_JSON, output);
+
+        assertEquals(MediaType.APPLICATION_JSON, output.getHeaders().getContentType());
+        assertNotNull(output.getHeaders().getETag());
+        assertEquals("[{\"name\":\"France\",\"alpha2Code\":\"FR\",\"alpha3Code\":\"FRA\",\"numericCode\":\"250\","
+                + "\"createDate\":\"2024-01-01T00:00:00Z\",\"expiryDate\":null,\"isDeleted\":false}]",
+                output.getBody().toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writesRepeatedCountriesFromTheResponseCache() throws Exception {
+        CountryResponseCache responses = new CountryResponseCache(new CountryJsonCodec(), 10);
+        CountryJsonHttpMessageConverter cached = new CountryJsonHttpMessageConverter(new CountryJsonCodec(), responses);
+        Country country = Country.of("France", "FR", "FRA", "250", Instant.parse("2024-01-01T00:00:00Z"), null, false);
+        Output first = new Output();
+        Output second = new Output();
+        Output tagged = new Output();
+        tagged.getHeaders().setETag("\"handler\"");
+
+        cached.write(country, Country.class, MediaType.APPLICATION_JSON, first);
+        cached.write(country, Country.class, MediaType.APPLICATION_JSON, second);
+        cached.write(country, Country.class, MediaType.APPLICATION_JSON, tagged);
+
+        assertEquals(1, responses.misses());
+        assertEquals(2, responses.hits());
+        assertEquals(first.getBody().toString(StandardCharsets.UTF_8), second.getBody().toString(StandardCharsets.UTF_8));
+        assertEquals(first.getHeaders().getETag(), second.getHeaders().getETag());
+        assertEquals(first.getBody().size(), first.getHeaders().getContentLength());
+        assertEquals("\"handler\"", tagged.getHeaders().getETag(), "An ETag set by the handler is kept");
+    }
+
+    @Test
+    void readsCountryInputAndRejectsMalformedJson() throws Exception {
+        Input input = new Input("{\"name\":\"France\",\"alpha2Code\":\"FR\",\"alpha3Code\":\"FRA\",\"numericCode\":\"250\"}");
+
+        assertEquals(new CountryInput("France", "FR", "FRA", "250"), converter.read(CountryInput.class, null, input));
+        assertThrows(HttpMessageNotReadableException.class, () -> converter.read(CountryInput.class, null,
+                new Input("{\"name\":")));
+    }
+}
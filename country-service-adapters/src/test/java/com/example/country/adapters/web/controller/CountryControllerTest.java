@@ -1,15 +1,23 @@
 package com.example.country.adapters.web.controller;
 
 import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.importing.CountryImportReader;
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.country.domain.Country;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -22,7 +30,7 @@ class CountryControllerTest {
     @BeforeEach
     void setUp() {
         countryApi = mock(CountryApi.class);
-        controller = new CountryController(countryApi);
+        controller = new CountryController(countryApi, new CountryImportReader(new ObjectMapper()));
     }
 
     @Test
@@ -30,7 +38,7 @@ class CountryControllerTest {
         Country country = Country.of("United Kingdom", "GB", "GBR", "826", Instant.now(), null, false);
         when(countryApi.listCountries(20, 0)).thenReturn(List.of(country));
 
-        ResponseEntity<List<Country>> response = controller.getAllCountries(20, 0);
+        ResponseEntity<List<Country>> response = controller.getAllCountries(20, 0, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -39,6 +47,42 @@ class CountryControllerTest {
         verify(countryApi).listCountries(20, 0);
     }
 
+    @Test
+    void shouldGetCountriesPageWithNextCursorHeader() {
+        Country country = Country.of("United Kingdom", "GB", "GBR", "826", Instant.now(), null, false);
+        when(countryApi.listCountriesPage(1, "")).thenReturn(new CountryPage(List.of(country), "next-token"));
+
+        ResponseEntity<List<Country>> response = controller.getAllCountries(1, 0, "", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("next-token", response.getHeaders().getFirst("X-Next-Cursor"));
+        verify(countryApi, never()).listCountries(anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldOmitNextCursorHeaderOnLastPage() {
+        Country country = Country.of("United Kingdom", "GB", "GBR", "826", Instant.now(), null, false);
+        when(countryApi.listCountriesPage(20, "token")).thenReturn(new CountryPage(List.of(country), null));
+
+        ResponseEntity<List<Country>> response = controller.getAllCountries(20, 0, "token", null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(response.getHeaders().containsKey("X-Next-Cursor"));
+    }
+
+    @Test
+    void shouldLookUpSeveralCodesAtOnce() {
+        Country country = Country.of("United Kingdom", "GB", "GBR", "826", Instant.now(), null, false);
+        when(countryApi.getByAlpha2In(List.of("GB", "XX"))).thenReturn(List.of(country));
+
+        ResponseEntity<List<Country>> response = controller.getAllCountries(20, 0, null, List.of("GB", "XX"));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(List.of(country), response.getBody());
+        verify(countryApi, never()).listCountries(anyInt(), anyInt());
+    }
+
     @Test
     void shouldCreateCountry() {
         CountryInput input = new CountryInput("United Kingdom", "GB", "GBR", "826");
@@ -130,4 +174,23 @@ class CountryControllerTest {
         assertEquals("826", response.getBody().numericCode());
         verify(countryApi).getByNumeric("826");
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldImportCountriesFromCsvBody() throws Exception {
+        String csv = "iso2,iso3,iso_num,country\nGB,GBR,826,United Kingdom\nFR,FRA\n";
+        when(countryApi.importCountries(any())).thenAnswer(invocation -> {
+            List<ImportRow> rows = ((Stream<ImportRow>) invocation.getArgument(0)).toList();
+            assertEquals(2, rows.size());
+            assertTrue(rows.get(1).isRejected());
+            return new ImportReport(1, 1, List.of(new ImportReport.RowError(3, null, rows.get(1).error())));
+        });
+
+        ResponseEntity<ImportReport> response = controller.importCountries("text/csv",
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().imported());
+        assertEquals(3, response.getBody().errors().get(0).row());
+    }
 }
@@ -0,0 +1,103 @@
+package com.example.country.adapters.web.controller;
+
+import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Parameter;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CountryExportControllerTest {
+
+    private CountryApi countryApi;
+    private CountryExportController controller;
+
+    @BeforeEach
+    void setUp() {
+        countryApi = mock(CountryApi.class);
+        controller = new CountryExportController(countryApi, new CountryJsonCodec());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamOneCountryPerLine() throws Exception {
+        when(countryApi.exportAll(eq(4), any())).thenAnswer(invocation -> {
+            Consumer<Country> sink = invocation.getArgument(1);
+            sink.accept(Country.of("United Kingdom", "GB", "GBR", "826", Instant.parse("2024-01-01T00:00:00Z"), null, false));
+            sink.accept(Country.of("France", "FR", "FRA", "250", Instant.parse("2024-01-01T00:00:00Z"), null, false));
+            return 2L;
+        });
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportCountries(4, "ndjson", true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"GB\""));
+        assertTrue(lines[1].contains("\"FR\""));
+        assertTrue(lines[1].startsWith("{"), "Lines carry no separator from the previous value");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldStreamCurrentCountriesAsCsv() throws Exception {
+        when(countryApi.exportLatest(any())).thenAnswer(invocation -> {
+            Consumer<Country> sink = invocation.getArgument(0);
+            sink.accept(Country.of("Korea, Republic of", "KR", "KOR", "410", Instant.parse("2024-01-01T00:00:00Z"), null, false));
+            sink.accept(Country.of("Country \"X\"", "XX", "XXX", "999", Instant.parse("2024-01-02T00:00:00Z"), null, false));
+            return 2L;
+        });
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportCountries(4, "CSV", false);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        assertEquals("text/csv", response.getHeaders().getContentType().toString());
+        assertEquals("iso2,iso3,iso_num,country,create_date,expiry_date,is_deleted\n"
+                + "KR,KOR,410,\"Korea, Republic of\",2024-01-01T00:00:00Z,,false\n"
+                + "XX,XXX,999,\"Country \"\"X\"\"\",2024-01-02T00:00:00Z,,false\n", out.toString(StandardCharsets.UTF_8));
+        verify(countryApi, never()).exportAll(anyInt(), any());
+    }
+
+    @Test
+    void shouldExportOnlyCurrentCountriesByDefault() throws Exception {
+        Parameter history = Arrays.stream(CountryExportController.class
+                        .getMethod("exportCountries", int.class, String.class, boolean.class).getParameters())
+                .filter(parameter -> "history".equals(parameter.getAnnotation(RequestParam.class).name()))
+                .findFirst().orElseThrow();
+        boolean bare = Boolean.parseBoolean(history.getAnnotation(RequestParam.class).defaultValue());
+        when(countryApi.exportLatest(any())).thenReturn(0L);
+
+        controller.exportCountries(4, "ndjson", bare).getBody().writeTo(new ByteArrayOutputStream());
+
+        assertFalse(bare);
+        verify(countryApi).exportLatest(any());
+        verify(countryApi, never()).exportAll(anyInt(), any());
+    }
+
+    @Test
+    void shouldRejectSegmentsOutOfRangeBeforeStreaming() {
+        assertThrows(IllegalArgumentException.class, () -> controller.exportCountries(0, "ndjson", true));
+        assertThrows(IllegalArgumentException.class, () -> controller.exportCountries(17, "ndjson", true));
+        assertThrows(IllegalArgumentException.class, () -> controller.exportCountries(4, "xml", true));
+        verifyNoInteractions(countryApi);
+    }
+}
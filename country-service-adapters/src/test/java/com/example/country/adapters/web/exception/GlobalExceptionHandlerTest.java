@@ -1,11 +1,13 @@
 package com.example.country.adapters.web.exception;
 
+import com.example.country.application.exception.CountryAlreadyExistsException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.util.ConcurrentModificationException;
 import java.util.Map;
 import java.util.NoSuchElementException;
 
@@ -52,6 +54,33 @@ class GlobalExceptionHandlerTest {
         assertEquals("Resource not found", body.get("message"));
     }
 
+    @Test
+    void shouldHandleConcurrentModificationException() {
+        ConcurrentModificationException ex = new ConcurrentModificationException("Country GB was modified concurrently");
+
+        ResponseEntity<Map<String, Object>> response = handler.handleConflict(ex, request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        Map<String, Object> body = response.getBody();
+        assertNotNull(body);
+        assertEquals(409, body.get("status"));
+        assertEquals("Conflict", body.get("error"));
+        assertEquals("Country GB was modified concurrently", body.get("message"));
+    }
+
+    @Test
+    void shouldHandleCountryAlreadyExistsException() {
+        CountryAlreadyExistsException ex = new CountryAlreadyExistsException("Country with alpha2Code GB already exists");
+
+        ResponseEntity<Map<String, Object>> response = handler.handleConflict(ex, request);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        Map<String, Object> body = response.getBody();
+        assertNotNull(body);
+        assertEquals(409, body.get("status"));
+        assertEquals("Country with alpha2Code GB already exists", body.get("message"));
+    }
+
     @Test
     void shouldHandleIllegalArgumentException() {
         IllegalArgumentException ex = new IllegalArgumentException("Invalid alpha2Code");
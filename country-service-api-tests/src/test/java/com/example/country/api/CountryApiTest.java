@@ -58,6 +58,40 @@ class CountryApiTest extends BaseApiTest {
         }
     }
     
+    @Test
+    @DisplayName("GET /api/v1/countries?codes= - Look up several countries in one request")
+    void testGetCountriesByCodes() {
+        List<Map<String, Object>> listed = given()
+                .spec(requestSpec)
+                .queryParam("limit", 2)
+                .when()
+                .get("/countries")
+                .then()
+                .statusCode(200)
+                .extract()
+                .jsonPath()
+                .getList("");
+        if (listed.isEmpty()) {
+            // Skip test if no countries available
+            return;
+        }
+        List<String> codes = listed.stream().map(country -> (String) country.get("alpha2Code")).toList();
+
+        List<String> found = given()
+                .spec(requestSpec)
+                .queryParam("codes", String.join(",", codes) + ",ZZ")
+                .when()
+                .get("/countries")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .extract()
+                .jsonPath()
+                .getList("alpha2Code");
+
+        assertEquals(codes, found, "Listed countries should be returned in request order, unknown codes left out");
+    }
+
     @Test
     @DisplayName("GET /api/v1/countries/code/{alpha2Code} - Get country by alpha-2 code")
     void testGetCountryByAlpha2Code() {
@@ -352,19 +386,11 @@ class CountryApiTest extends BaseApiTest {
         // Generate unique test country codes that match ISO 3166 patterns
         // Use valid patterns: alpha2 (2 uppercase letters), alpha3 (3 uppercase letters), numeric (3 digits)
         long timestamp = System.currentTimeMillis();
-        // Use last 2 digits for alpha2, ensuring it's uppercase letters
-        String alpha2Suffix = String.format("%02d", timestamp % 100);
-        char[] alpha2Chars = {(char)('A' + (timestamp % 26)), (char)('A' + ((timestamp / 26) % 26))};
-        String alpha2 = new String(alpha2Chars);
-        // Use last 3 digits for alpha3
-        char[] alpha3Chars = {
-            (char)('A' + (timestamp % 26)),
-            (char)('A' + ((timestamp / 26) % 26)),
-            (char)('A' + ((timestamp / 676) % 26))
-        };
-        String alpha3 = new String(alpha3Chars);
-        // Use last 3 digits for numeric code (padded to 3 digits)
-        String numeric = String.format("%03d", timestamp % 1000);
+        // Codes must not be held by a live country, otherwise create answers 409
+        String[] codes = unusedCodes(timestamp);
+        String alpha2 = codes[0];
+        String alpha3 = codes[1];
+        String numeric = codes[2];
         
         String requestBody = String.format("""
                 {
@@ -408,15 +434,10 @@ class CountryApiTest extends BaseApiTest {
     void testUpdateCountry() {
         // First create a country with valid ISO 3166 patterns
         long timestamp = System.currentTimeMillis();
-        char[] alpha2Chars = {(char)('A' + ((timestamp + 100) % 26)), (char)('A' + (((timestamp + 100) / 26) % 26))};
-        String alpha2 = new String(alpha2Chars);
-        char[] alpha3Chars = {
-            (char)('A' + ((timestamp + 100) % 26)),
-            (char)('A' + (((timestamp + 100) / 26) % 26)),
-            (char)('A' + (((timestamp + 100) / 676) % 26))
-        };
-        String alpha3 = new String(alpha3Chars);
-        String numeric = String.format("%03d", (timestamp + 100) % 1000);
+        String[] codes = unusedCodes(timestamp + 100);
+        String alpha2 = codes[0];
+        String alpha3 = codes[1];
+        String numeric = codes[2];
         
         String createBody = String.format("""
                 {
@@ -463,15 +484,10 @@ class CountryApiTest extends BaseApiTest {
     void testDeleteCountry() {
         // First create a country with valid ISO 3166 patterns
         long timestamp = System.currentTimeMillis();
-        char[] alpha2Chars = {(char)('A' + ((timestamp + 200) % 26)), (char)('A' + (((timestamp + 200) / 26) % 26))};
-        String alpha2 = new String(alpha2Chars);
-        char[] alpha3Chars = {
-            (char)('A' + ((timestamp + 200) % 26)),
-            (char)('A' + (((timestamp + 200) / 26) % 26)),
-            (char)('A' + (((timestamp + 200) / 676) % 26))
-        };
-        String alpha3 = new String(alpha3Chars);
-        String numeric = String.format("%03d", (timestamp + 200) % 1000);
+        String[] codes = unusedCodes(timestamp + 200);
+        String alpha2 = codes[0];
+        String alpha3 = codes[1];
+        String numeric = codes[2];
         
         String createBody = String.format("""
                 {
@@ -519,15 +535,10 @@ class CountryApiTest extends BaseApiTest {
     void testGetCountryHistory() {
         // First create and update a country to create history with valid ISO 3166 patterns
         long timestamp = System.currentTimeMillis();
-        char[] alpha2Chars = {(char)('A' + ((timestamp + 300) % 26)), (char)('A' + (((timestamp + 300) / 26) % 26))};
-        String alpha2 = new String(alpha2Chars);
-        char[] alpha3Chars = {
-            (char)('A' + ((timestamp + 300) % 26)),
-            (char)('A' + (((timestamp + 300) / 26) % 26)),
-            (char)('A' + (((timestamp + 300) / 676) % 26))
-        };
-        String alpha3 = new String(alpha3Chars);
-        String numeric = String.format("%03d", (timestamp + 300) % 1000);
+        String[] codes = unusedCodes(timestamp + 300);
+        String alpha2 = codes[0];
+        String alpha3 = codes[1];
+        String numeric = codes[2];
         
         String createBody = String.format("""
                 {
@@ -630,5 +641,29 @@ class CountryApiTest extends BaseApiTest {
                 .body("status", equalTo(401))
                 .body("error", equalTo("Unauthorized"));
     }
+    
+    /**
+     * Derives ISO 3166 shaped codes from a seed and moves on until none of them is held by a live country.
+     */
+    private String[] unusedCodes(long seed) {
+        for (long candidate = seed; ; candidate++) {
+            String alpha2 = "" + (char) ('A' + (candidate % 26)) + (char) ('A' + ((candidate / 26) % 26));
+            String alpha3 = alpha2 + (char) ('A' + ((candidate / 676) % 26));
+            String numeric = String.format("%03d", candidate % 1000);
+            if (isUnused("/countries/code/{code}", alpha2)
+                    && isUnused("/countries/code3/{code}", alpha3)
+                    && isUnused("/countries/number/{code}", numeric)) {
+                return new String[]{alpha2, alpha3, numeric};
+            }
+        }
+    }
+    
+    private boolean isUnused(String path, String code) {
+        return given()
+                .spec(requestSpec)
+                .pathParam("code", code)
+                .when()
+                .get(path)
+                .statusCode() == 404;
+    }
 }
-
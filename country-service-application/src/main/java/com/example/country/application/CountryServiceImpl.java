@@ -1,34 +1,62 @@
 package com.example.country.application;
 
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
 import com.example.country.application.ports.CountryRepositoryPort;
 import com.example.country.application.ports.CountryServicePort;
 import com.example.country.domain.Country;
 
-import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 public class CountryServiceImpl implements CountryServicePort {
+    private static final System.Logger log = System.getLogger(CountryServiceImpl.class.getName());
+    private static final int MAX_WRITE_ATTEMPTS = 3;
+    static final int IMPORT_CHUNK_SIZE = 100;
+    static final int MAX_BATCH_LOOKUP = 100;
+    public static final int MAX_EXPORT_SEGMENTS = 16;
+    static final int EXPORT_PAGE_SIZE = 1000;
+
     private final CountryRepositoryPort repository;
+    private final HybridLogicalClock clock;
 
     public CountryServiceImpl(CountryRepositoryPort repository) {
+        this(repository, new HybridLogicalClock());
+    }
+
+    public CountryServiceImpl(CountryRepositoryPort repository, HybridLogicalClock clock) {
         this.repository = Objects.requireNonNull(repository);
+        this.clock = Objects.requireNonNull(clock);
     }
 
     @Override
     public Country create(CountryInput input) {
-        Country country = Country.of(
-                input.name(),
-                input.alpha2Code(),
-                input.alpha3Code(),
-                input.numericCode(),
-                Instant.now(),
-                null,
-                false
-        );
-        return repository.saveNewVersion(country);
+        return withRetry(() -> {
+            Country country = Country.of(
+                    input.name(),
+                    input.alpha2Code(),
+                    input.alpha3Code(),
+                    input.numericCode(),
+                    clock.now(),
+                    null,
+                    false
+            );
+            return repository.saveIfAbsent(country);
+        });
     }
 
     @Override
@@ -49,44 +77,259 @@ public class CountryServiceImpl implements CountryServicePort {
                 .orElseThrow(() -> new NoSuchElementException("Country not found: " + numericCode));
     }
 
+    /**
+     * Looks up several countries at once. Unknown codes are left out of the result rather than failing the request.
+     */
+    @Override
+    public List<Country> getByAlpha2In(Collection<String> alpha2Codes) {
+        List<String> codes = alpha2Codes.stream()
+                .map(String::trim)
+                .filter(code -> !code.isEmpty())
+                .distinct()
+                .toList();
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("At least one code is required");
+        }
+        if (codes.size() > MAX_BATCH_LOOKUP) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_LOOKUP + " codes can be looked up at once");
+        }
+        return repository.findLatestByAlpha2In(codes);
+    }
+
     @Override
     public List<Country> listAll(int limit, int offset) {
         return repository.listLatest(limit, offset);
     }
 
+    @Override
+    public CountryPage listPage(int limit, String cursor) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("limit must be at least 1");
+        }
+        // An empty cursor starts keyset pagination from the first page
+        String start = cursor == null || cursor.isBlank() ? null : cursor;
+        return repository.listLatestPage(limit, start);
+    }
+
     @Override
     public Country updateByAlpha2(String alpha2Code, CountryInput input) {
-        // Retrieve to ensure existence
-        Country latest = getByAlpha2(alpha2Code);
-        Country updated = Country.of(
-                input.name(),
-                alpha2Code,
-                input.alpha3Code(),
-                input.numericCode(),
-                Instant.now(),
-                null,
-                latest.isDeleted() // preserve deletion flag if necessary, but typically false on update
-        );
-        return repository.saveNewVersion(updated);
+        return withRetry(() -> {
+            // The version read here is the one the write expects to replace
+            Country latest = getByAlpha2(alpha2Code);
+            Country updated = Country.of(
+                    input.name(),
+                    alpha2Code,
+                    input.alpha3Code(),
+                    input.numericCode(),
+                    clock.tickAfter(latest.createDate()),
+                    null,
+                    latest.isDeleted() // preserve deletion flag if necessary, but typically false on update
+            );
+            return repository.supersede(latest, updated);
+        });
     }
 
     @Override
     public void deleteByAlpha2(String alpha2Code) {
-        Country latest = getByAlpha2(alpha2Code);
-        Country deleted = Country.of(
-                latest.name(),
-                latest.alpha2Code(),
-                latest.alpha3Code(),
-                latest.numericCode(),
-                Instant.now(),
-                null,
-                true
-        );
-        repository.saveNewVersion(deleted);
+        withRetry(() -> {
+            Country latest = getByAlpha2(alpha2Code);
+            Country deleted = Country.of(
+                    latest.name(),
+                    latest.alpha2Code(),
+                    latest.alpha3Code(),
+                    latest.numericCode(),
+                    clock.tickAfter(latest.createDate()),
+                    null,
+                    true
+            );
+            return repository.supersede(latest, deleted);
+        });
+    }
+
+    /**
+     * Retries when another writer superseded the version this write was based on or took its version key.
+     */
+    private Country withRetry(Supplier<Country> write) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return write.get();
+            } catch (ConcurrentModificationException e) {
+                if (attempt >= MAX_WRITE_ATTEMPTS) {
+                    throw e;
+                }
+            }
+        }
     }
 
     @Override
     public List<Country> historyByAlpha2(String alpha2Code) {
         return repository.historyByAlpha2(alpha2Code);
     }
+
+    @Override
+    public long exportAll(int segments, Consumer<Country> sink) {
+        if (segments < 1 || segments > MAX_EXPORT_SEGMENTS) {
+            throw new IllegalArgumentException("segments must be between 1 and " + MAX_EXPORT_SEGMENTS);
+        }
+        return repository.exportAll(segments, sink);
+    }
+
+    /**
+     * Streams the current version of every country that is not deleted, one keyset page at a time,
+     * so only a single page is held in memory however many countries there are.
+     */
+    @Override
+    public long exportLatest(Consumer<Country> sink) {
+        long exported = 0;
+        String cursor = null;
+        do {
+            CountryPage page = repository.listLatestPage(EXPORT_PAGE_SIZE, cursor);
+            for (Country country : page.items()) {
+                sink.accept(country);
+                exported++;
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return exported;
+    }
+
+    /**
+     * Validates and writes rows as they are pulled from {@code rows}, one chunk of
+     * {@value #IMPORT_CHUNK_SIZE} countries at a time, so the payload is never held in memory and
+     * parsing waits while a chunk is written. Each valid row becomes a new current version of its
+     * country, replacing whatever was there, deleted or not. Invalid rows, and the rows of a chunk
+     * whose write failed, are reported rather than failing the import.
+     */
+    @Override
+    public ImportReport importCountries(Stream<ImportRow> rows) {
+        ImportChunk chunk = new ImportChunk();
+        Iterator<ImportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            ImportRow row = iterator.next();
+            if (row.isRejected()) {
+                chunk.reject(row.row(), null, row.error());
+                continue;
+            }
+            CountryInput input = row.input();
+            Country country;
+            try {
+                country = Country.of(
+                        input.name(),
+                        input.alpha2Code(),
+                        input.alpha3Code(),
+                        input.numericCode(),
+                        clock.now(),
+                        null,
+                        false
+                );
+            } catch (IllegalArgumentException | NullPointerException e) {
+                // Country.of reports missing fields with a NullPointerException naming the field
+                chunk.reject(row.row(), input.alpha2Code(), e.getMessage());
+                continue;
+            }
+            // A bulk write takes one version per country, so a repeated code starts the next chunk
+            if (chunk.contains(country.alpha2Code())) {
+                chunk.write();
+            }
+            chunk.add(row.row(), country);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                chunk.write();
+            }
+        }
+        chunk.write();
+        return chunk.report();
+    }
+
+    /**
+     * The countries waiting to be written, plus the running totals of an import.
+     */
+    private final class ImportChunk {
+        private final List<Country> countries = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        private final List<Long> rowNumbers = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        private final Set<String> codes = new HashSet<>();
+        private final List<ImportReport.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        boolean contains(String alpha2Code) {
+            return codes.contains(alpha2Code);
+        }
+
+        int size() {
+            return countries.size();
+        }
+
+        void add(long row, Country country) {
+            countries.add(country);
+            rowNumbers.add(row);
+            codes.add(country.alpha2Code());
+        }
+
+        void reject(long row, String alpha2Code, String message) {
+            rejected++;
+            if (errors.size() < ImportReport.MAX_REPORTED_ERRORS) {
+                errors.add(new ImportReport.RowError(row, alpha2Code, message));
+            }
+        }
+
+        void write() {
+            if (countries.isEmpty()) {
+                return;
+            }
+            try {
+                rejectTakenCodes();
+                if (!countries.isEmpty()) {
+                    imported += repository.saveAll(countries, progress -> { });
+                }
+            } catch (RuntimeException e) {
+                log.log(System.Logger.Level.WARNING, "Import of " + countries.size() + " countries failed: " + e.getMessage());
+                for (int i = 0; i < countries.size(); i++) {
+                    reject(rowNumbers.get(i), countries.get(i).alpha2Code(), "Write failed: " + e.getMessage());
+                }
+            }
+            countries.clear();
+            rowNumbers.clear();
+            codes.clear();
+        }
+
+        /**
+         * Drops and reports the rows whose alpha3 or numeric code is held by another live country, or by
+         * an earlier row of the chunk for another country. A bulk write does not check the codes it takes,
+         * so this is the check {@code create} gets from {@code saveIfAbsent}.
+         */
+        private void rejectTakenCodes() {
+            Map<String, String> alpha3Holders = new HashMap<>();
+            Map<String, String> numericHolders = new HashMap<>();
+            for (Country holder : repository.findLatestHoldingCodes(
+                    countries.stream().map(Country::alpha3Code).toList(),
+                    countries.stream().map(Country::numericCode).toList())) {
+                alpha3Holders.put(holder.alpha3Code(), holder.alpha2Code());
+                numericHolders.put(holder.numericCode(), holder.alpha2Code());
+            }
+            int kept = 0;
+            for (int i = 0; i < countries.size(); i++) {
+                Country country = countries.get(i);
+                String alpha2 = country.alpha2Code();
+                if (!alpha2.equals(alpha3Holders.getOrDefault(country.alpha3Code(), alpha2))) {
+                    reject(rowNumbers.get(i), alpha2, "Country with alpha3Code " + country.alpha3Code() + " already exists");
+                    continue;
+                }
+                if (!alpha2.equals(numericHolders.getOrDefault(country.numericCode(), alpha2))) {
+                    reject(rowNumbers.get(i), alpha2, "Country with numericCode " + country.numericCode() + " already exists");
+                    continue;
+                }
+                alpha3Holders.put(country.alpha3Code(), alpha2);
+                numericHolders.put(country.numericCode(), alpha2);
+                countries.set(kept, country);
+                rowNumbers.set(kept, rowNumbers.get(i));
+                kept++;
+            }
+            countries.subList(kept, countries.size()).clear();
+            rowNumbers.subList(kept, rowNumbers.size()).clear();
+        }
+
+        ImportReport report() {
+            return new ImportReport(imported, rejected, errors);
+        }
+    }
 }
@@ -0,0 +1,73 @@
+package com.example.country.application;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Hybrid logical clock issuing version timestamps ({@code createDate}) that are unique and strictly
+ * increasing within a process, and that never fall behind a version observed from storage.
+ *
+ * <p>Timestamps keep the wall clock to microsecond precision and carry a logical counter (1-999) in
+ * the sub-microsecond digits. The counter orders writes that land in the same microsecond, or while
+ * the wall clock stands still or steps backwards. Because the counter is never zero, every timestamp
+ * prints with nine fraction digits, so ISO-8601 sort keys built from {@link Instant#toString()} sort
+ * lexically in the same order as the instants themselves.
+ */
+public class HybridLogicalClock {
+    private static final long MAX_COUNTER = 999;
+
+    private final Clock clock;
+    private long lastMicros = Long.MIN_VALUE;
+    private long lastCounter;
+
+    public HybridLogicalClock() {
+        this(Clock.systemUTC());
+    }
+
+    public HybridLogicalClock(Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Returns a timestamp later than every one previously issued by this clock.
+     */
+    public Instant now() {
+        return tickAfter(null);
+    }
+
+    /**
+     * Returns a timestamp later than every one previously issued by this clock and later than
+     * {@code observed}, typically the {@code createDate} of the version about to be superseded.
+     */
+    public synchronized Instant tickAfter(Instant observed) {
+        long micros = toMicros(clock.instant());
+        long counter = 1;
+        if (lastMicros >= micros) {
+            micros = lastMicros;
+            counter = lastCounter + 1;
+        }
+        if (observed != null) {
+            long observedMicros = toMicros(observed);
+            long observedCounter = Math.floorMod(observed.getNano(), 1_000);
+            if (observedMicros > micros) {
+                micros = observedMicros;
+                counter = observedCounter + 1;
+            } else if (observedMicros == micros) {
+                counter = Math.max(counter, observedCounter + 1);
+            }
+        }
+        if (counter > MAX_COUNTER) {
+            // Borrow the next microsecond rather than wrap around
+            micros++;
+            counter = 1;
+        }
+        lastMicros = micros;
+        lastCounter = counter;
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000), Math.floorMod(micros, 1_000_000) * 1_000 + counter);
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000), instant.getNano() / 1_000);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.country.application.cache;
+
+/**
+ * Point-in-time counters of a {@link CachingCountryRepository}.
+ *
+ * @param hits      lookups answered from the cache
+ * @param misses    lookups that went to the underlying repository, including expired entries
+ * @param evictions entries dropped to stay within the size bound
+ * @param size      entries currently held
+ */
+public record CacheStats(long hits, long misses, long evictions, int size) {
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+}
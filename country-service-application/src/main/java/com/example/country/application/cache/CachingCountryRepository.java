@@ -0,0 +1,281 @@
+package com.example.country.application.cache;
+
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.ports.CountryChangeListener;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache in front of another {@link CountryRepositoryPort}.
+ *
+ * <p>Alpha2, alpha3, numeric, list, page and history lookups are cached as separate entries, each
+ * expiring {@code ttl} after it was loaded. The least recently used entry is evicted once
+ * {@code maxEntries} is reached. Every write invalidates the entries it can affect: all list and
+ * page entries, plus the point and history entries of the country written. Empty lookups are
+ * cached too, so repeated requests for unknown codes do not reach the repository.
+ *
+ * <p>Invalidation covers writes made through this instance. Other processes' writes become visible
+ * when entries expire, or as soon as they are delivered through {@link CountryChangeListener};
+ * changes are passed on to the delegate when it is a listener too.
+ */
+public class CachingCountryRepository implements CountryRepositoryPort, CountryChangeListener {
+    private static final String ALPHA2 = "alpha2:";
+    private static final String ALPHA3 = "alpha3:";
+    private static final String NUMERIC = "numeric:";
+    private static final String HISTORY = "history:";
+    private static final String LIST = "list:";
+    private static final String PAGE = "page:";
+
+    private final CountryRepositoryPort delegate;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries;
+    private long hits;
+    private long misses;
+    private long evictions;
+    // Bumped on every invalidation so loads that raced with a write are not stored
+    private long generation;
+
+    private record Entry(Object value, Instant expiresAt) {
+    }
+
+    public CachingCountryRepository(CountryRepositoryPort delegate, Duration ttl, int maxEntries) {
+        this(delegate, ttl, maxEntries, Clock.systemUTC());
+    }
+
+    public CachingCountryRepository(CountryRepositoryPort delegate, Duration ttl, int maxEntries, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.ttl = Objects.requireNonNull(ttl);
+        this.clock = Objects.requireNonNull(clock);
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be at least 1");
+        }
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    @Override
+    public Country saveNewVersion(Country country) {
+        try {
+            return delegate.saveNewVersion(country);
+        } finally {
+            invalidate(country);
+        }
+    }
+
+    /**
+     * A bulk write can touch any entry, so the whole cache is dropped afterwards.
+     */
+    @Override
+    public int saveAll(List<Country> countries, Consumer<BulkWriteProgress> progress) {
+        try {
+            return delegate.saveAll(countries, progress);
+        } finally {
+            invalidateAll();
+        }
+    }
+
+    @Override
+    public Country saveIfAbsent(Country country) {
+        try {
+            return delegate.saveIfAbsent(country);
+        } finally {
+            invalidate(country);
+        }
+    }
+
+    @Override
+    public Country supersede(Country previous, Country next) {
+        try {
+            return delegate.supersede(previous, next);
+        } finally {
+            invalidate(previous, next);
+        }
+    }
+
+    @Override
+    public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+        return cached(ALPHA2 + alpha2Code, () -> delegate.findLatestByAlpha2(alpha2Code));
+    }
+
+    @Override
+    public Optional<Country> findLatestByAlpha3(String alpha3Code) {
+        return cached(ALPHA3 + alpha3Code, () -> delegate.findLatestByAlpha3(alpha3Code));
+    }
+
+    @Override
+    public Optional<Country> findLatestByNumeric(String numericCode) {
+        return cached(NUMERIC + numericCode, () -> delegate.findLatestByNumeric(numericCode));
+    }
+
+    /**
+     * Not cached: the answer decides whether a write may take the codes.
+     */
+    @Override
+    public List<Country> findLatestHoldingCodes(Collection<String> alpha3Codes, Collection<String> numericCodes) {
+        return delegate.findLatestHoldingCodes(alpha3Codes, numericCodes);
+    }
+
+    /**
+     * Serves each code from its alpha2 entry and loads only the missing ones, in a single delegate call.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Country> findLatestByAlpha2In(Collection<String> alpha2Codes) {
+        List<String> codes = alpha2Codes.stream().distinct().toList();
+        Map<String, Optional<Country>> resolved = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        long loadGeneration;
+        synchronized (this) {
+            Instant now = clock.instant();
+            for (String code : codes) {
+                Entry entry = entries.get(ALPHA2 + code);
+                if (entry != null && now.isBefore(entry.expiresAt())) {
+                    hits++;
+                    resolved.put(code, (Optional<Country>) entry.value());
+                } else {
+                    if (entry != null) {
+                        entries.remove(ALPHA2 + code);
+                    }
+                    misses++;
+                    missing.add(code);
+                }
+            }
+            loadGeneration = generation;
+        }
+        if (!missing.isEmpty()) {
+            Map<String, Country> loaded = new HashMap<>();
+            delegate.findLatestByAlpha2In(missing).forEach(country -> loaded.put(country.alpha2Code(), country));
+            synchronized (this) {
+                Instant expiresAt = clock.instant().plus(ttl);
+                for (String code : missing) {
+                    Optional<Country> value = Optional.ofNullable(loaded.get(code));
+                    resolved.put(code, value);
+                    if (loadGeneration == generation) {
+                        entries.put(ALPHA2 + code, new Entry(value, expiresAt));
+                    }
+                }
+            }
+        }
+        return codes.stream().map(resolved::get).flatMap(Optional::stream).toList();
+    }
+
+    @Override
+    public List<Country> listLatest(int limit, int offset) {
+        return cached(LIST + limit + ":" + offset, () -> List.copyOf(delegate.listLatest(limit, offset)));
+    }
+
+    @Override
+    public CountryPage listLatestPage(int limit, String cursor) {
+        return cached(PAGE + limit + ":" + cursor, () -> delegate.listLatestPage(limit, cursor));
+    }
+
+    @Override
+    public long exportAll(int segments, Consumer<Country> sink) {
+        return delegate.exportAll(segments, sink);
+    }
+
+    @Override
+    public List<Country> historyByAlpha2(String alpha2Code) {
+        return cached(HISTORY + alpha2Code, () -> List.copyOf(delegate.historyByAlpha2(alpha2Code)));
+    }
+
+    @Override
+    public void onCountryChanged(Country version) {
+        if (delegate instanceof CountryChangeListener listener) {
+            listener.onCountryChanged(version);
+        }
+        invalidate(version);
+    }
+
+    @Override
+    public void onChangesMissed() {
+        if (delegate instanceof CountryChangeListener listener) {
+            listener.onChangesMissed();
+        }
+        invalidateAll();
+    }
+
+    public synchronized CacheStats stats() {
+        return new CacheStats(hits, misses, evictions, entries.size());
+    }
+
+    /**
+     * Drops every cached entry, e.g. after the underlying data was changed by another process.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry != null && clock.instant().isBefore(entry.expiresAt())) {
+                hits++;
+                return (T) entry.value();
+            }
+            if (entry != null) {
+                entries.remove(key);
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+        T value = loader.get();
+        synchronized (this) {
+            if (loadGeneration == generation) {
+                entries.put(key, new Entry(value, clock.instant().plus(ttl)));
+            }
+        }
+        return value;
+    }
+
+    private synchronized void invalidate(Country... countries) {
+        generation++;
+        entries.entrySet().removeIf(entry -> {
+            String key = entry.getKey();
+            if (key.startsWith(LIST) || key.startsWith(PAGE)) {
+                return true;
+            }
+            for (Country country : countries) {
+                if (key.equals(ALPHA2 + country.alpha2Code())
+                        || key.equals(ALPHA3 + country.alpha3Code())
+                        || key.equals(NUMERIC + country.numericCode())
+                        || key.equals(HISTORY + country.alpha2Code())
+                        || entry.getValue().value() instanceof Optional<?> cachedCountry
+                        && cachedCountry.filter(c -> ((Country) c).alpha2Code().equals(country.alpha2Code())).isPresent()) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+}
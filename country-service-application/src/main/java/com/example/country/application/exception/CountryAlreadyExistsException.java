@@ -0,0 +1,16 @@
+package com.example.country.application.exception;
+
+import java.io.Serial;
+
+/**
+ * Thrown when a created, updated or imported country would take an alpha2, alpha3 or numeric code held
+ * by another live country.
+ */
+public class CountryAlreadyExistsException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public CountryAlreadyExistsException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.country.application.model;
+
+/**
+ * Progress of a bulk write, reported after each chunk completes. What an item is depends on the
+ * adapter: the DynamoDB adapter counts version, pointer and alias items, the default implementation
+ * counts countries.
+ */
+public record BulkWriteProgress(int completedChunks, int totalChunks, long itemsWritten) {
+    public boolean isComplete() {
+        return completedChunks == totalChunks;
+    }
+}
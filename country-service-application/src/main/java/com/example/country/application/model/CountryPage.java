@@ -0,0 +1,20 @@
+package com.example.country.application.model;
+
+import com.example.country.domain.Country;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * One page of the latest countries, plus the opaque cursor to request the next page.
+ * The cursor is {@code null} once the last page has been returned.
+ */
+public record CountryPage(List<Country> items, String nextCursor) {
+    public CountryPage {
+        items = List.copyOf(Objects.requireNonNull(items, "items are required"));
+    }
+
+    public boolean hasMore() {
+        return nextCursor != null;
+    }
+}
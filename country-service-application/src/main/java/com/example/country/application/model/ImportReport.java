@@ -0,0 +1,40 @@
+package com.example.country.application.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of a bulk import. Every rejected row is counted, but only the first
+ * {@link #MAX_REPORTED_ERRORS} are listed so the report stays small however large the payload.
+ */
+@Schema(name = "ImportReport", description = "The outcome of a bulk import.")
+public record ImportReport(
+        @Schema(description = "The number of rows written as new country versions.")
+        long imported,
+
+        @Schema(description = "The number of rows that were not written.")
+        long rejected,
+
+        @Schema(description = "The rejected rows, in payload order. Truncated after 1000 entries.")
+        List<RowError> errors
+) {
+    public static final int MAX_REPORTED_ERRORS = 1000;
+
+    public ImportReport {
+        errors = List.copyOf(Objects.requireNonNull(errors, "errors are required"));
+    }
+
+    @Schema(name = "ImportRowError", description = "A row that was not imported and why.")
+    public record RowError(
+            @Schema(description = "The position of the row in the payload, counting from 1. For CSV the header is row 1.")
+            long row,
+
+            @Schema(description = "The alpha-2 code of the row, when it could be read.")
+            String alpha2Code,
+
+            @Schema(description = "Why the row was rejected.")
+            String message
+    ) {}
+}
@@ -0,0 +1,20 @@
+package com.example.country.application.model;
+
+/**
+ * One row of a bulk import as parsed by an adapter: either the input for a country, or the reason
+ * the row could not be parsed. {@code row} is the position of the row in the payload, counting from 1.
+ */
+public record ImportRow(long row, CountryInput input, String error) {
+
+    public static ImportRow parsed(long row, CountryInput input) {
+        return new ImportRow(row, input, null);
+    }
+
+    public static ImportRow rejected(long row, String error) {
+        return new ImportRow(row, null, error);
+    }
+
+    public boolean isRejected() {
+        return error != null;
+    }
+}
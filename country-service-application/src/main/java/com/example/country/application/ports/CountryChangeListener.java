@@ -0,0 +1,21 @@
+package com.example.country.application.ports;
+
+import com.example.country.domain.Country;
+
+/**
+ * Receives country versions written by any instance, e.g. from a change stream on the table, so
+ * that local caches and snapshots can follow writes they did not make themselves.
+ */
+public interface CountryChangeListener {
+    /**
+     * Called for every version item written or updated, including tombstones and versions that
+     * have just been given an expiry date. Versions may arrive more than once.
+     */
+    void onCountryChanged(Country version);
+
+    /**
+     * Called when changes may have been missed, e.g. after the stream position expired.
+     * Anything derived from earlier reads should be discarded.
+     */
+    void onChangesMissed();
+}
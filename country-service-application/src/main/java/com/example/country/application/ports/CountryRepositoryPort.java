@@ -1,15 +1,158 @@
 package com.example.country.application.ports;
 
+import com.example.country.application.exception.CountryAlreadyExistsException;
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.model.CountryPage;
 import com.example.country.domain.Country;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface CountryRepositoryPort {
+    /**
+     * Stores a version of a country. Versions are never overwritten.
+     *
+     * @throws java.util.ConcurrentModificationException if a version with the same {@code createDate} already exists
+     */
     Country saveNewVersion(Country country);
+
+    /**
+     * Stores many versions at once, e.g. when loading reference data. Each version becomes the latest
+     * of its country unless a newer one is already stored, as with {@link #saveNewVersion}. Adapters may
+     * skip the per-version existence check, so saving a version that is already stored can overwrite it.
+     * {@code progress} is called after each chunk and never concurrently. The default implementation
+     * saves one version at a time and reports each as a chunk; adapters should batch the writes.
+     * Adapters need not guard against concurrent writers of the same countries, so bulk writes suit a
+     * single writer such as the seeder; callers sharing the store should check codes with
+     * {@link #findLatestHoldingCodes} first.
+     *
+     * @return the number of versions saved
+     * @throws IllegalArgumentException if two versions belong to the same country
+     * @throws CountryAlreadyExistsException if an adapter that checks codes finds one held by another live country
+     */
+    default int saveAll(List<Country> countries, Consumer<BulkWriteProgress> progress) {
+        if (countries.stream().map(Country::alpha2Code).distinct().count() < countries.size()) {
+            throw new IllegalArgumentException("Bulk writes take at most one version per country");
+        }
+        int saved = 0;
+        for (Country country : countries) {
+            saveNewVersion(country);
+            saved++;
+            progress.accept(new BulkWriteProgress(saved, countries.size(), saved));
+        }
+        return saved;
+    }
+
+    /**
+     * Stores the first version of a new country, provided none of its codes is held by a live country.
+     * Codes of deleted countries may be reused. The default implementation checks with three lookups
+     * before saving and is not atomic; adapters should make the check part of the write.
+     *
+     * @throws CountryAlreadyExistsException if the alpha2, alpha3 or numeric code is already in use
+     */
+    default Country saveIfAbsent(Country country) {
+        if (findLatestByAlpha2(country.alpha2Code()).filter(c -> !c.isDeleted()).isPresent()) {
+            throw new CountryAlreadyExistsException("Country with alpha2Code " + country.alpha2Code() + " already exists");
+        }
+        if (findLatestByAlpha3(country.alpha3Code()).filter(c -> !c.isDeleted()).isPresent()) {
+            throw new CountryAlreadyExistsException("Country with alpha3Code " + country.alpha3Code() + " already exists");
+        }
+        if (findLatestByNumeric(country.numericCode()).filter(c -> !c.isDeleted()).isPresent()) {
+            throw new CountryAlreadyExistsException("Country with numericCode " + country.numericCode() + " already exists");
+        }
+        return saveNewVersion(country);
+    }
+
+    /**
+     * Saves {@code next} as the latest version in place of {@code previous}, setting the previous
+     * version's {@code expiryDate} to {@code next.createDate()} in the same atomic write.
+     * The default implementation has no way to check or stamp the previous version and simply saves {@code next}.
+     *
+     * @throws java.util.ConcurrentModificationException if {@code previous} is no longer the latest version
+     * @throws CountryAlreadyExistsException if {@code next} takes an alpha3 or numeric code held by another live country
+     */
+    default Country supersede(Country previous, Country next) {
+        return saveNewVersion(next);
+    }
+
     Optional<Country> findLatestByAlpha2(String alpha2Code);
     Optional<Country> findLatestByAlpha3(String alpha3Code);
     Optional<Country> findLatestByNumeric(String numericCode);
+
+    /**
+     * Resolves the latest version of each of the given alpha2 codes, as {@link #findLatestByAlpha2} would.
+     * Codes that resolve to nothing are left out; the result follows the order of {@code alpha2Codes}
+     * without duplicates. The default implementation performs one lookup per code; adapters should batch them.
+     */
+    default List<Country> findLatestByAlpha2In(Collection<String> alpha2Codes) {
+        return alpha2Codes.stream()
+                .distinct()
+                .map(this::findLatestByAlpha2)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * The live countries holding any of the given alpha3 or numeric codes, each listed once in no
+     * particular order. Used to check the codes a bulk write takes, so decorators should read through to
+     * the store rather than answer from a cache. The default implementation performs one lookup per code;
+     * adapters should batch them.
+     */
+    default List<Country> findLatestHoldingCodes(Collection<String> alpha3Codes, Collection<String> numericCodes) {
+        Map<String, Country> holders = new LinkedHashMap<>();
+        Stream.concat(
+                        alpha3Codes.stream().distinct().map(this::findLatestByAlpha3),
+                        numericCodes.stream().distinct().map(this::findLatestByNumeric))
+                .flatMap(Optional::stream)
+                .filter(country -> !country.isDeleted())
+                .forEach(country -> holders.putIfAbsent(country.alpha2Code(), country));
+        return List.copyOf(holders.values());
+    }
+
     List<Country> listLatest(int limit, int offset);
+
+    /**
+     * Keyset pagination over the latest countries in alpha2 order.
+     * The default implementation falls back to offset paging and encodes the offset as the cursor;
+     * index-backed adapters should override it with a real continuation token.
+     *
+     * @param limit  maximum number of countries to return
+     * @param cursor cursor returned with the previous page, or {@code null} for the first page
+     */
+    default CountryPage listLatestPage(int limit, String cursor) {
+        int offset = cursor == null ? 0 : Integer.parseInt(cursor);
+        List<Country> items = listLatest(limit, offset);
+        return new CountryPage(items, items.size() < limit ? null : String.valueOf(offset + limit));
+    }
+
     List<Country> historyByAlpha2(String alpha2Code);
+
+    /**
+     * Streams every stored version, current and historical, to {@code sink} without collecting them first.
+     * {@code segments} is how many parallel readers an adapter may use; {@code sink} is never called
+     * concurrently and the order is unspecified. The default implementation pages through the latest
+     * countries and reads each one's history, so countries whose latest version is a tombstone are missed.
+     *
+     * @return the number of versions exported
+     */
+    default long exportAll(int segments, Consumer<Country> sink) {
+        long exported = 0;
+        String cursor = null;
+        do {
+            CountryPage page = listLatestPage(100, cursor);
+            for (Country latest : page.items()) {
+                for (Country version : historyByAlpha2(latest.alpha2Code())) {
+                    sink.accept(version);
+                    exported++;
+                }
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return exported;
+    }
 }
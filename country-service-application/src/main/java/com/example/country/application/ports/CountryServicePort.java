@@ -1,17 +1,28 @@
 package com.example.country.application.ports;
 
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
 import com.example.country.domain.Country;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 public interface CountryServicePort {
     Country create(CountryInput input);
     Country getByAlpha2(String alpha2Code);
     Country getByAlpha3(String alpha3Code);
     Country getByNumeric(String numericCode);
+    List<Country> getByAlpha2In(Collection<String> alpha2Codes);
     List<Country> listAll(int limit, int offset);
+    CountryPage listPage(int limit, String cursor);
     Country updateByAlpha2(String alpha2Code, CountryInput input);
     void deleteByAlpha2(String alpha2Code);
     List<Country> historyByAlpha2(String alpha2Code);
+    long exportAll(int segments, Consumer<Country> sink);
+    long exportLatest(Consumer<Country> sink);
+    ImportReport importCountries(Stream<ImportRow> rows);
 }
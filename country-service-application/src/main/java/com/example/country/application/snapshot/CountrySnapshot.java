@@ -0,0 +1,143 @@
+package com.example.country.application.snapshot;
+
+import com.example.country.domain.Country;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Immutable, pre-indexed view of every current country. Point lookups are hash probes and list
+ * requests are slices of an array kept in alpha2 order. Instances are never modified; applying a
+ * write produces a new snapshot. Snapshots built by applying writes also remember when each country
+ * was last removed, so that a version older than the removal cannot bring it back.
+ */
+public final class CountrySnapshot {
+    private final List<Country> sorted;
+    private final String[] alpha2Codes;
+    private final Map<String, Country> byAlpha2;
+    private final Map<String, Country> byAlpha3;
+    private final Map<String, Country> byNumeric;
+    private final Map<String, Instant> removedAt;
+    private final Instant loadedAt;
+
+    private CountrySnapshot(Collection<Country> current, Map<String, Instant> removedAt, Instant loadedAt) {
+        Country[] ordered = current.toArray(Country[]::new);
+        Arrays.sort(ordered, Comparator.comparing(Country::alpha2Code));
+        this.sorted = List.of(ordered);
+        this.alpha2Codes = Arrays.stream(ordered).map(Country::alpha2Code).toArray(String[]::new);
+        Map<String, Country> alpha2 = new HashMap<>();
+        Map<String, Country> alpha3 = new HashMap<>();
+        Map<String, Country> numeric = new HashMap<>();
+        for (Country country : ordered) {
+            alpha2.put(country.alpha2Code(), country);
+            alpha3.put(country.alpha3Code(), country);
+            numeric.put(country.numericCode(), country);
+        }
+        this.byAlpha2 = Map.copyOf(alpha2);
+        this.byAlpha3 = Map.copyOf(alpha3);
+        this.byNumeric = Map.copyOf(numeric);
+        this.removedAt = Map.copyOf(removedAt);
+        this.loadedAt = Objects.requireNonNull(loadedAt);
+    }
+
+    /**
+     * Builds a snapshot from the latest version of each country; deleted or expired versions are left out.
+     */
+    public static CountrySnapshot of(Collection<Country> latest, Instant loadedAt) {
+        return new CountrySnapshot(latest.stream().filter(CountrySnapshot::isCurrent).toList(), Map.of(), loadedAt);
+    }
+
+    public Optional<Country> byAlpha2(String alpha2Code) {
+        return Optional.ofNullable(byAlpha2.get(alpha2Code));
+    }
+
+    public Optional<Country> byAlpha3(String alpha3Code) {
+        return Optional.ofNullable(byAlpha3.get(alpha3Code));
+    }
+
+    public Optional<Country> byNumeric(String numericCode) {
+        return Optional.ofNullable(byNumeric.get(numericCode));
+    }
+
+    /**
+     * Returns up to {@code limit} countries in alpha2 order starting at {@code offset}.
+     */
+    public List<Country> slice(int offset, int limit) {
+        int from = Math.min(Math.max(offset, 0), sorted.size());
+        int to = (int) Math.min((long) from + Math.max(limit, 0), sorted.size());
+        return sorted.subList(from, to);
+    }
+
+    /**
+     * Returns up to {@code limit} countries whose alpha2 code sorts after {@code afterAlpha2},
+     * or from the start when it is {@code null}.
+     */
+    public List<Country> after(String afterAlpha2, int limit) {
+        int from = 0;
+        if (afterAlpha2 != null) {
+            int index = Arrays.binarySearch(alpha2Codes, afterAlpha2);
+            from = index >= 0 ? index + 1 : -(index + 1);
+        }
+        return slice(from, limit);
+    }
+
+    public int size() {
+        return sorted.size();
+    }
+
+    public Instant loadedAt() {
+        return loadedAt;
+    }
+
+    /**
+     * Returns a snapshot reflecting {@code version}, unless the snapshot already holds a newer version
+     * of the same country or removed it at or after the version's createDate. Codes the country no
+     * longer uses are released.
+     */
+    public CountrySnapshot with(Country version) {
+        return withAll(List.of(version));
+    }
+
+    /**
+     * Applies several versions as {@link #with} would, rebuilding the indexes once. Returns this
+     * snapshot when none of them is newer than what it holds.
+     */
+    public CountrySnapshot withAll(Collection<Country> versions) {
+        Map<String, Country> current = new HashMap<>(byAlpha2);
+        Map<String, Instant> removed = new HashMap<>(removedAt);
+        boolean changed = false;
+        for (Country version : versions) {
+            Country existing = current.get(version.alpha2Code());
+            if (existing != null && existing.createDate().isAfter(version.createDate())) {
+                continue;
+            }
+            Instant removal = removed.get(version.alpha2Code());
+            if (isCurrent(version)) {
+                // Stream records are not ordered across items, so a tombstone can arrive before the version it replaced
+                if (removal != null && !version.createDate().isAfter(removal)) {
+                    continue;
+                }
+                current.put(version.alpha2Code(), version);
+                removed.remove(version.alpha2Code());
+            } else {
+                current.remove(version.alpha2Code());
+                if (removal == null || version.createDate().isAfter(removal)) {
+                    removed.put(version.alpha2Code(), version.createDate());
+                }
+            }
+            changed = true;
+        }
+        return changed ? new CountrySnapshot(current.values(), removed, loadedAt) : this;
+    }
+
+    private static boolean isCurrent(Country country) {
+        return !country.isDeleted() && country.expiryDate() == null;
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.country.application.snapshot;
+
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.ports.CountryChangeListener;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Serves current-country reads from an in-memory {@link CountrySnapshot} of the whole dataset.
+ *
+ * <p>The snapshot is reloaded from the delegate on a fixed interval and published with a single
+ * atomic reference swap, so readers never take a lock. A snapshot older than {@code maxStaleness}
+ * is not used: reads fall through to the delegate until the next refresh succeeds, which also
+ * covers the time before the first load. Writes go to the delegate and are then applied to the
+ * current snapshot, so this instance reads its own writes. Writes made elsewhere are applied the
+ * same way when delivered through {@link CountryChangeListener}, and otherwise picked up by the next
+ * refresh. History is always read from the delegate.
+ *
+ * <p>Page cursors use the same {@code alpha2|createDate} keyset token as the DynamoDB adapter, so
+ * a cursor stays valid whether the next page is served from a snapshot or from the table.
+ */
+public class SnapshotCountryRepository implements CountryRepositoryPort, CountryChangeListener, AutoCloseable {
+    private static final System.Logger log = System.getLogger(SnapshotCountryRepository.class.getName());
+    private static final int LOAD_PAGE_SIZE = 500;
+    private static final char CURSOR_SEPARATOR = '|';
+
+    private final CountryRepositoryPort delegate;
+    private final Duration maxStaleness;
+    private final Clock clock;
+    private final AtomicReference<CountrySnapshot> snapshot = new AtomicReference<>();
+    private final Object writeLock = new Object();
+    private List<Country> writesDuringLoad;
+    private ScheduledExecutorService refresher;
+
+    public SnapshotCountryRepository(CountryRepositoryPort delegate, Duration maxStaleness) {
+        this(delegate, maxStaleness, Clock.systemUTC());
+    }
+
+    public SnapshotCountryRepository(CountryRepositoryPort delegate, Duration maxStaleness, Clock clock) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxStaleness = Objects.requireNonNull(maxStaleness);
+        this.clock = Objects.requireNonNull(clock);
+        if (maxStaleness.isNegative() || maxStaleness.isZero()) {
+            throw new IllegalArgumentException("maxStaleness must be positive");
+        }
+    }
+
+    /**
+     * Starts refreshing in the background every {@code interval}, beginning immediately.
+     */
+    public synchronized SnapshotCountryRepository start(Duration interval) {
+        if (refresher != null) {
+            throw new IllegalStateException("Snapshot refresh already started");
+        }
+        refresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "country-snapshot-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refresher.scheduleWithFixedDelay(this::refreshQuietly, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        return this;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (refresher != null) {
+            refresher.shutdownNow();
+            refresher = null;
+        }
+    }
+
+    /**
+     * Loads every current country from the delegate and swaps the new snapshot in.
+     * Writes made while the load was running are re-applied before the swap.
+     */
+    public synchronized CountrySnapshot refresh() {
+        synchronized (writeLock) {
+            writesDuringLoad = new ArrayList<>();
+        }
+        try {
+            List<Country> latest = new ArrayList<>();
+            String cursor = null;
+            do {
+                CountryPage page = delegate.listLatestPage(LOAD_PAGE_SIZE, cursor);
+                latest.addAll(page.items());
+                cursor = page.nextCursor();
+            } while (cursor != null);
+
+            CountrySnapshot loaded = CountrySnapshot.of(latest, clock.instant());
+            synchronized (writeLock) {
+                loaded = loaded.withAll(writesDuringLoad);
+                snapshot.set(loaded);
+                return loaded;
+            }
+        } finally {
+            synchronized (writeLock) {
+                writesDuringLoad = null;
+            }
+        }
+    }
+
+    /**
+     * Returns the snapshot reads are currently served from, if it is within the staleness bound.
+     */
+    public Optional<CountrySnapshot> current() {
+        CountrySnapshot current = snapshot.get();
+        if (current == null || current.loadedAt().plus(maxStaleness).isBefore(clock.instant())) {
+            return Optional.empty();
+        }
+        return Optional.of(current);
+    }
+
+    @Override
+    public Country saveNewVersion(Country country) {
+        return apply(delegate.saveNewVersion(country));
+    }
+
+    @Override
+    public int saveAll(List<Country> countries, Consumer<BulkWriteProgress> progress) {
+        int saved = delegate.saveAll(countries, progress);
+        synchronized (writeLock) {
+            snapshot.getAndUpdate(current -> current == null ? null : current.withAll(countries));
+            if (writesDuringLoad != null) {
+                writesDuringLoad.addAll(countries);
+            }
+        }
+        return saved;
+    }
+
+    @Override
+    public Country saveIfAbsent(Country country) {
+        return apply(delegate.saveIfAbsent(country));
+    }
+
+    @Override
+    public Country supersede(Country previous, Country next) {
+        return apply(delegate.supersede(previous, next));
+    }
+
+    @Override
+    public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+        return current().map(s -> s.byAlpha2(alpha2Code)).orElseGet(() -> delegate.findLatestByAlpha2(alpha2Code));
+    }
+
+    @Override
+    public Optional<Country> findLatestByAlpha3(String alpha3Code) {
+        return current().map(s -> s.byAlpha3(alpha3Code)).orElseGet(() -> delegate.findLatestByAlpha3(alpha3Code));
+    }
+
+    @Override
+    public Optional<Country> findLatestByNumeric(String numericCode) {
+        return current().map(s -> s.byNumeric(numericCode)).orElseGet(() -> delegate.findLatestByNumeric(numericCode));
+    }
+
+    /**
+     * Always read from the delegate: the answer decides whether a write may take the codes.
+     */
+    @Override
+    public List<Country> findLatestHoldingCodes(Collection<String> alpha3Codes, Collection<String> numericCodes) {
+        return delegate.findLatestHoldingCodes(alpha3Codes, numericCodes);
+    }
+
+    @Override
+    public List<Country> findLatestByAlpha2In(Collection<String> alpha2Codes) {
+        return current()
+                .map(s -> alpha2Codes.stream().distinct().map(s::byAlpha2).flatMap(Optional::stream).toList())
+                .orElseGet(() -> delegate.findLatestByAlpha2In(alpha2Codes));
+    }
+
+    @Override
+    public List<Country> listLatest(int limit, int offset) {
+        return current().map(s -> s.slice(offset, limit)).orElseGet(() -> delegate.listLatest(limit, offset));
+    }
+
+    @Override
+    public CountryPage listLatestPage(int limit, String cursor) {
+        Optional<CountrySnapshot> current = current();
+        if (current.isEmpty()) {
+            return delegate.listLatestPage(limit, cursor);
+        }
+        List<Country> items = current.get().after(cursor == null ? null : decodeCursor(cursor), limit + 1);
+        if (items.size() <= limit) {
+            return new CountryPage(items, null);
+        }
+        List<Country> page = items.subList(0, limit);
+        return new CountryPage(page, encodeCursor(page.get(limit - 1)));
+    }
+
+    @Override
+    public long exportAll(int segments, Consumer<Country> sink) {
+        return delegate.exportAll(segments, sink);
+    }
+
+    @Override
+    public List<Country> historyByAlpha2(String alpha2Code) {
+        return delegate.historyByAlpha2(alpha2Code);
+    }
+
+    @Override
+    public void onCountryChanged(Country version) {
+        apply(version);
+    }
+
+    @Override
+    public void onChangesMissed() {
+        refreshQuietly();
+    }
+
+    private Country apply(Country written) {
+        synchronized (writeLock) {
+            snapshot.getAndUpdate(current -> current == null ? null : current.with(written));
+            if (writesDuringLoad != null) {
+                writesDuringLoad.add(written);
+            }
+        }
+        return written;
+    }
+
+    private void refreshQuietly() {
+        try {
+            CountrySnapshot loaded = refresh();
+            log.log(System.Logger.Level.DEBUG, "Loaded country snapshot with {0} countries", loaded.size());
+        } catch (RuntimeException e) {
+            // Keep serving the previous snapshot until it exceeds the staleness bound
+            log.log(System.Logger.Level.WARNING, "Country snapshot refresh failed: " + e.getMessage());
+        }
+    }
+
+    private static String encodeCursor(Country last) {
+        String raw = last.alpha2Code() + CURSOR_SEPARATOR + last.createDate();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(CURSOR_SEPARATOR);
+            if (separator < 1) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return raw.substring(0, separator);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -1,13 +1,28 @@
 package com.example.country.application;
 
+import com.example.country.application.exception.CountryAlreadyExistsException;
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
 import com.example.country.application.ports.CountryRepositoryPort;
 import com.example.country.domain.Country;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,6 +64,34 @@ class CountryServiceImplTest {
         }
     }
 
+    /**
+     * Thread-safe repository that enforces the same write conditions as DynamoDB: a version key can
+     * only be written once, and supersede only succeeds while {@code previous} is still the latest.
+     */
+    private static class VersionKeyEnforcingRepo extends InMemoryRepo {
+        @Override public synchronized Country saveNewVersion(Country country) {
+            boolean taken = super.historyByAlpha2(country.alpha2Code()).stream()
+                    .anyMatch(c -> c.createDate().equals(country.createDate()));
+            if (taken) {
+                throw new ConcurrentModificationException("Version key taken: " + country.createDate());
+            }
+            return super.saveNewVersion(country);
+        }
+        @Override public synchronized Country supersede(Country previous, Country next) {
+            Country latest = super.findLatestByAlpha2(previous.alpha2Code()).orElseThrow();
+            if (!latest.createDate().equals(previous.createDate())) {
+                throw new ConcurrentModificationException("Superseded: " + previous.createDate());
+            }
+            return saveNewVersion(next);
+        }
+        @Override public synchronized Optional<Country> findLatestByAlpha2(String alpha2Code) {
+            return super.findLatestByAlpha2(alpha2Code);
+        }
+        @Override public synchronized List<Country> historyByAlpha2(String alpha2Code) {
+            return super.historyByAlpha2(alpha2Code);
+        }
+    }
+
     private CountryServiceImpl service;
     private InMemoryRepo repo;
 
@@ -87,4 +130,335 @@ class CountryServiceImplTest {
         Country latest = service.getByAlpha2("GB");
         assertTrue(latest.isDeleted());
     }
+
+    @Test
+    void createRejectsCodesHeldByAnotherCountry() {
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+
+        assertThrows(CountryAlreadyExistsException.class, () -> service.create(new CountryInput("United Kingdom", "GB", "GBX", "999")));
+        assertThrows(CountryAlreadyExistsException.class, () -> service.create(new CountryInput("Other", "GX", "GBR", "999")));
+        assertThrows(CountryAlreadyExistsException.class, () -> service.create(new CountryInput("Other", "GX", "GBX", "826")));
+        assertEquals(1, repo.historyByAlpha2("GB").size());
+    }
+
+    @Test
+    void createReusesCodesOfDeletedCountry() {
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        service.deleteByAlpha2("GB");
+
+        Country recreated = service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+
+        assertFalse(recreated.isDeleted());
+        assertEquals(3, repo.historyByAlpha2("GB").size());
+    }
+
+    @Test
+    void listPageWalksAllCountriesWithCursor() {
+        service.create(new CountryInput("France", "FR", "FRA", "250"));
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        service.create(new CountryInput("Germany", "DE", "DEU", "276"));
+
+        CountryPage first = service.listPage(2, "");
+        assertEquals(List.of("DE", "FR"), first.items().stream().map(Country::alpha2Code).toList());
+        assertTrue(first.hasMore());
+
+        CountryPage second = service.listPage(2, first.nextCursor());
+        assertEquals(List.of("GB"), second.items().stream().map(Country::alpha2Code).toList());
+        assertFalse(second.hasMore());
+    }
+
+    @Test
+    void getByAlpha2InSkipsUnknownCodes() {
+        service.create(new CountryInput("France", "FR", "FRA", "250"));
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+
+        List<Country> found = service.getByAlpha2In(List.of("GB", " FR", "XX", "GB", ""));
+
+        assertEquals(List.of("GB", "FR"), found.stream().map(Country::alpha2Code).toList());
+    }
+
+    @Test
+    void getByAlpha2InRejectsEmptyAndOversizedRequests() {
+        List<String> tooMany = new ArrayList<>();
+        for (int i = 0; i <= CountryServiceImpl.MAX_BATCH_LOOKUP; i++) {
+            tooMany.add("C" + i);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> service.getByAlpha2In(List.of(" ")));
+        assertThrows(IllegalArgumentException.class, () -> service.getByAlpha2In(tooMany));
+    }
+
+    @Test
+    void exportAllEmitsEveryVersion() {
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        service.updateByAlpha2("GB", new CountryInput("Britain", "GB", "GBR", "826"));
+        service.create(new CountryInput("France", "FR", "FRA", "250"));
+        List<Country> exported = new ArrayList<>();
+
+        long count = service.exportAll(2, exported::add);
+
+        assertEquals(3, count);
+        assertEquals(Set.of("United Kingdom", "Britain", "France"), exported.stream().map(Country::name).collect(java.util.stream.Collectors.toSet()));
+        assertThrows(IllegalArgumentException.class, () -> service.exportAll(0, exported::add));
+        assertThrows(IllegalArgumentException.class, () -> service.exportAll(CountryServiceImpl.MAX_EXPORT_SEGMENTS + 1, exported::add));
+    }
+
+    @Test
+    void exportLatestWalksEveryPage() {
+        Country gb = Country.of("United Kingdom", "GB", "GBR", "826", Instant.parse("2024-01-01T00:00:00Z"), null, false);
+        Country fr = Country.of("France", "FR", "FRA", "250", Instant.parse("2024-01-01T00:00:00Z"), null, false);
+        List<String> cursors = new ArrayList<>();
+        InMemoryRepo pagedRepo = new InMemoryRepo() {
+            @Override public CountryPage listLatestPage(int limit, String cursor) {
+                cursors.add(cursor);
+                assertEquals(CountryServiceImpl.EXPORT_PAGE_SIZE, limit);
+                return cursor == null ? new CountryPage(List.of(fr), "next") : new CountryPage(List.of(gb), null);
+            }
+        };
+        List<Country> exported = new ArrayList<>();
+
+        long count = new CountryServiceImpl(pagedRepo).exportLatest(exported::add);
+
+        assertEquals(2, count);
+        assertEquals(List.of(fr, gb), exported);
+        assertEquals(Arrays.asList(null, "next"), cursors);
+    }
+
+    @Test
+    void importWritesValidRowsInChunksAndReportsTheRest() {
+        List<Integer> chunkSizes = new ArrayList<>();
+        InMemoryRepo chunkRecordingRepo = new InMemoryRepo() {
+            @Override public int saveAll(List<Country> countries, Consumer<BulkWriteProgress> progress) {
+                chunkSizes.add(countries.size());
+                return super.saveAll(countries, progress);
+            }
+        };
+        Stream<ImportRow> rows = Stream.concat(
+                LongStream.rangeClosed(1, CountryServiceImpl.IMPORT_CHUNK_SIZE + 5).mapToObj(row -> ImportRow.parsed(row,
+                        new CountryInput("Country " + row, code(row), code(row) + "X", String.format("%03d", row)))),
+                Stream.of(
+                        ImportRow.parsed(200, new CountryInput("Bad", "gb", "GBR", "826")),
+                        ImportRow.parsed(201, new CountryInput(null, "FR", "FRA", "250")),
+                        ImportRow.rejected(202, "Expected at least 4 fields but found 2")));
+
+        ImportReport report = new CountryServiceImpl(chunkRecordingRepo).importCountries(rows);
+
+        assertEquals(CountryServiceImpl.IMPORT_CHUNK_SIZE + 5, report.imported());
+        assertEquals(3, report.rejected());
+        assertEquals(List.of(CountryServiceImpl.IMPORT_CHUNK_SIZE, 5), chunkSizes);
+        assertEquals(List.of(200L, 201L, 202L), report.errors().stream().map(ImportReport.RowError::row).toList());
+        assertEquals("gb", report.errors().get(0).alpha2Code());
+        assertEquals("name is required", report.errors().get(1).message());
+        assertTrue(chunkRecordingRepo.findLatestByAlpha2("FR").isEmpty());
+    }
+
+    @Test
+    void importOfRepeatedCodeKeepsTheLastRowAsCurrent() {
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        service.deleteByAlpha2("GB");
+
+        ImportReport report = service.importCountries(Stream.of(
+                ImportRow.parsed(2, new CountryInput("Britain", "GB", "GBR", "826")),
+                ImportRow.parsed(3, new CountryInput("France", "FR", "FRA", "250")),
+                ImportRow.parsed(4, new CountryInput("Great Britain", "GB", "GBR", "826"))));
+
+        assertEquals(3, report.imported());
+        Country latest = service.getByAlpha2("GB");
+        assertEquals("Great Britain", latest.name());
+        assertFalse(latest.isDeleted(), "An imported row revives a deleted country");
+        assertEquals(4, repo.historyByAlpha2("GB").size());
+    }
+
+    @Test
+    void importReportsRowsOfAFailedChunkAndCarriesOn() {
+        AtomicInteger writes = new AtomicInteger();
+        InMemoryRepo flakyRepo = new InMemoryRepo() {
+            @Override public int saveAll(List<Country> countries, Consumer<BulkWriteProgress> progress) {
+                if (writes.getAndIncrement() == 0) {
+                    throw new IllegalStateException("BatchWriteItem left items unprocessed");
+                }
+                return super.saveAll(countries, progress);
+            }
+        };
+
+        ImportReport report = new CountryServiceImpl(flakyRepo).importCountries(Stream.of(
+                ImportRow.parsed(1, new CountryInput("United Kingdom", "GB", "GBR", "826")),
+                ImportRow.parsed(2, new CountryInput("Britain", "GB", "GBR", "826"))));
+
+        assertEquals(1, report.imported());
+        assertEquals(List.of(new ImportReport.RowError(1, "GB", "Write failed: BatchWriteItem left items unprocessed")), report.errors());
+        assertEquals("Britain", flakyRepo.findLatestByAlpha2("GB").orElseThrow().name());
+    }
+
+    @Test
+    void importRejectsRowsTakingCodesOfAnotherLiveCountry() {
+        service.create(new CountryInput("France", "FR", "FRA", "250"));
+        service.create(new CountryInput("Gone", "GO", "GON", "999"));
+        service.deleteByAlpha2("GO");
+
+        ImportReport report = service.importCountries(Stream.of(
+                ImportRow.parsed(2, new CountryInput("Fake France", "XF", "FRA", "901")),
+                ImportRow.parsed(3, new CountryInput("Fake Numeric", "XN", "XNX", "250")),
+                ImportRow.parsed(4, new CountryInput("First", "XA", "XAX", "902")),
+                ImportRow.parsed(5, new CountryInput("Second", "XB", "XAX", "903")),
+                ImportRow.parsed(6, new CountryInput("Reused", "XG", "GON", "999")),
+                ImportRow.parsed(7, new CountryInput("France", "FR", "FRA", "250"))));
+
+        assertEquals(3, report.imported());
+        assertEquals(List.of(
+                new ImportReport.RowError(2, "XF", "Country with alpha3Code FRA already exists"),
+                new ImportReport.RowError(3, "XN", "Country with numericCode 250 already exists"),
+                new ImportReport.RowError(5, "XB", "Country with alpha3Code XAX already exists")), report.errors());
+        assertEquals("FR", service.getByAlpha3("FRA").alpha2Code());
+        assertEquals("XG", service.getByAlpha3("GON").alpha2Code());
+        assertThrows(NoSuchElementException.class, () -> service.getByAlpha2("XF"));
+    }
+
+    @Test
+    void importListsOnlyTheFirstErrors() {
+        ImportReport report = service.importCountries(LongStream.rangeClosed(1, ImportReport.MAX_REPORTED_ERRORS + 10)
+                .mapToObj(row -> ImportRow.rejected(row, "Invalid JSON")));
+
+        assertEquals(ImportReport.MAX_REPORTED_ERRORS + 10, report.rejected());
+        assertEquals(ImportReport.MAX_REPORTED_ERRORS, report.errors().size());
+    }
+
+    private static String code(long row) {
+        return "" + (char) ('A' + row / 26 % 26) + (char) ('A' + row % 26);
+    }
+
+    @Test
+    void listPageRejectsNonPositiveLimit() {
+        assertThrows(IllegalArgumentException.class, () -> service.listPage(0, null));
+    }
+
+    @Test
+    void updateRetriesWhenPreviousVersionWasSuperseded() {
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        List<Country> attempts = new ArrayList<>();
+        InMemoryRepo conflictingOnce = new InMemoryRepo() {
+            private boolean conflicted;
+            @Override public Country supersede(Country previous, Country next) {
+                attempts.add(previous);
+                if (!conflicted) {
+                    conflicted = true;
+                    throw new ConcurrentModificationException("Country GB was modified concurrently");
+                }
+                return super.supersede(previous, next);
+            }
+        };
+        conflictingOnce.saveNewVersion(repo.findLatestByAlpha2("GB").orElseThrow());
+        CountryServiceImpl retrying = new CountryServiceImpl(conflictingOnce);
+
+        Country updated = retrying.updateByAlpha2("GB", new CountryInput("Britain", "GB", "GBR", "826"));
+
+        assertEquals("Britain", updated.name());
+        assertEquals(2, attempts.size());
+        assertEquals(2, conflictingOnce.historyByAlpha2("GB").size());
+    }
+
+    @Test
+    void updateDoesNotRetryWhenTheNewCodesBelongToAnotherCountry() {
+        service.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        AtomicInteger attempts = new AtomicInteger();
+        InMemoryRepo colliding = new InMemoryRepo() {
+            @Override public Country supersede(Country previous, Country next) {
+                attempts.incrementAndGet();
+                throw new CountryAlreadyExistsException("Country with alpha3Code FRA already exists");
+            }
+        };
+        colliding.saveNewVersion(repo.findLatestByAlpha2("GB").orElseThrow());
+
+        assertThrows(CountryAlreadyExistsException.class, () ->
+                new CountryServiceImpl(colliding).updateByAlpha2("GB", new CountryInput("United Kingdom", "GB", "FRA", "826")));
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void deleteGivesUpAfterRepeatedConflicts() {
+        InMemoryRepo alwaysConflicting = new InMemoryRepo() {
+            @Override public Country supersede(Country previous, Country next) {
+                throw new ConcurrentModificationException("Country GB was modified concurrently");
+            }
+        };
+        alwaysConflicting.saveNewVersion(Country.of("United Kingdom", "GB", "GBR", "826", Instant.now(), null, false));
+
+        CountryServiceImpl conflicting = new CountryServiceImpl(alwaysConflicting);
+
+        assertThrows(ConcurrentModificationException.class, () -> conflicting.deleteByAlpha2("GB"));
+    }
+
+    @Test
+    void burstWritesWithinOneClockTickKeepEveryVersion() throws Exception {
+        VersionKeyEnforcingRepo strictRepo = new VersionKeyEnforcingRepo();
+        // A frozen wall clock puts every write in the same tick, the worst case for Instant.now() keys
+        HybridLogicalClock frozen = new HybridLogicalClock(Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), ZoneOffset.UTC));
+        CountryServiceImpl burstService = new CountryServiceImpl(strictRepo, frozen);
+        int writers = 8;
+        int updatesPerWriter = 500;
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                String alpha2 = "A" + (char) ('A' + w);
+                String numeric = String.valueOf(100 + w);
+                futures.add(executor.submit(() -> {
+                    burstService.create(new CountryInput("Country", alpha2, alpha2 + "A", numeric));
+                    for (int i = 0; i < updatesPerWriter; i++) {
+                        burstService.updateByAlpha2(alpha2, new CountryInput("Country " + i, alpha2, alpha2 + "A", numeric));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        for (int w = 0; w < writers; w++) {
+            List<Country> history = strictRepo.historyByAlpha2("A" + (char) ('A' + w));
+            assertEquals(updatesPerWriter + 1, history.size());
+            assertEquals("Country " + (updatesPerWriter - 1), history.get(0).name());
+        }
+    }
+
+    @Test
+    void concurrentWritersToOneCountryNeverLoseAcknowledgedVersions() throws Exception {
+        VersionKeyEnforcingRepo strictRepo = new VersionKeyEnforcingRepo();
+        CountryServiceImpl contended = new CountryServiceImpl(strictRepo);
+        contended.create(new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        int writers = 8;
+        int updatesPerWriter = 200;
+        Set<Instant> acknowledged = ConcurrentHashMap.newKeySet();
+        AtomicInteger conflicts = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int w = 0; w < writers; w++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < updatesPerWriter; i++) {
+                        try {
+                            acknowledged.add(contended.updateByAlpha2("GB", new CountryInput("United Kingdom", "GB", "GBR", "826")).createDate());
+                        } catch (ConcurrentModificationException e) {
+                            conflicts.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Set<Instant> stored = new HashSet<>();
+        strictRepo.historyByAlpha2("GB").forEach(c -> stored.add(c.createDate()));
+        assertEquals(writers * updatesPerWriter, acknowledged.size() + conflicts.get(), "Every write is either stored or reported");
+        assertTrue(stored.containsAll(acknowledged), "No acknowledged version may be lost");
+        assertEquals(acknowledged.size() + 1, stored.size());
+    }
 }
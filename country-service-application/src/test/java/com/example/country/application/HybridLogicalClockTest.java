@@ -0,0 +1,95 @@
+package com.example.country.application;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HybridLogicalClockTest {
+
+    private static final Instant FROZEN = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void issuesIncreasingTimestampsWhileWallClockStandsStill() {
+        HybridLogicalClock clock = new HybridLogicalClock(Clock.fixed(FROZEN, ZoneOffset.UTC));
+
+        Instant first = clock.now();
+        Instant second = clock.now();
+
+        assertEquals(FROZEN.plusNanos(1), first);
+        assertTrue(second.isAfter(first));
+    }
+
+    @Test
+    void carriesCounterOverflowIntoNextMicrosecond() {
+        HybridLogicalClock clock = new HybridLogicalClock(Clock.fixed(FROZEN, ZoneOffset.UTC));
+
+        Instant last = null;
+        for (int i = 0; i < 1_000; i++) {
+            last = clock.now();
+        }
+
+        assertEquals(FROZEN.plusNanos(1_001), last);
+    }
+
+    @Test
+    void tickAfterMovesPastObservedVersionFromTheFuture() {
+        HybridLogicalClock clock = new HybridLogicalClock(Clock.fixed(FROZEN, ZoneOffset.UTC));
+        Instant observed = FROZEN.plusSeconds(5).plusNanos(7_042);
+
+        Instant next = clock.tickAfter(observed);
+
+        assertEquals(observed.plusNanos(1), next);
+        assertTrue(clock.now().isAfter(next), "Clock must not fall back behind an observed version");
+    }
+
+    @Test
+    void timestampsAlwaysPrintWithNineFractionDigits() {
+        HybridLogicalClock clock = new HybridLogicalClock(Clock.fixed(FROZEN, ZoneOffset.UTC));
+
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 2_500; i++) {
+            keys.add(clock.now().toString());
+        }
+
+        assertTrue(keys.stream().allMatch(key -> key.matches("\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2}:\\d{2}\\.\\d{9}Z")));
+        assertEquals(keys.stream().sorted().toList(), keys, "String order must match issue order");
+    }
+
+    @Test
+    void concurrentCallersNeverReceiveTheSameTimestamp() throws Exception {
+        HybridLogicalClock clock = new HybridLogicalClock();
+        int threads = 8;
+        int perThread = 20_000;
+        Set<Instant> issued = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        issued.add(clock.now());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(threads * perThread, issued.size());
+    }
+}
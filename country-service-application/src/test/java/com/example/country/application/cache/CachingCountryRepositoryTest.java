@@ -0,0 +1,196 @@
+package com.example.country.application.cache;
+
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingCountryRepositoryTest {
+
+    private static class CountingRepo implements CountryRepositoryPort {
+        private final Map<String, List<Country>> byAlpha2 = new HashMap<>();
+        private int reads;
+        @Override public Country saveNewVersion(Country country) {
+            byAlpha2.computeIfAbsent(country.alpha2Code(), k -> new ArrayList<>()).add(country);
+            return country;
+        }
+        @Override public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+            reads++;
+            return byAlpha2.getOrDefault(alpha2Code, List.of()).stream().max(Comparator.comparing(Country::createDate));
+        }
+        @Override public Optional<Country> findLatestByAlpha3(String alpha3Code) {
+            reads++;
+            return byAlpha2.values().stream().map(list -> list.get(list.size() - 1))
+                    .filter(c -> c.alpha3Code().equals(alpha3Code)).findFirst();
+        }
+        @Override public Optional<Country> findLatestByNumeric(String numericCode) {
+            reads++;
+            return byAlpha2.values().stream().map(list -> list.get(list.size() - 1))
+                    .filter(c -> c.numericCode().equals(numericCode)).findFirst();
+        }
+        @Override public List<Country> listLatest(int limit, int offset) {
+            reads++;
+            return byAlpha2.values().stream().map(list -> list.get(list.size() - 1))
+                    .sorted(Comparator.comparing(Country::alpha2Code)).skip(offset).limit(limit).toList();
+        }
+        @Override public List<Country> historyByAlpha2(String alpha2Code) {
+            reads++;
+            return List.copyOf(byAlpha2.getOrDefault(alpha2Code, List.of()));
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        void advance(Duration duration) { now = now.plus(duration); }
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private CountingRepo delegate;
+    private MutableClock clock;
+    private CachingCountryRepository cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingRepo();
+        clock = new MutableClock();
+        cache = new CachingCountryRepository(delegate, Duration.ofMinutes(5), 100, clock);
+        delegate.saveNewVersion(country("United Kingdom", "GB", "GBR", "826", 0));
+    }
+
+    private static Country country(String name, String alpha2, String alpha3, String numeric, long second) {
+        return Country.of(name, alpha2, alpha3, numeric, Instant.parse("2024-01-01T00:00:00Z").plusSeconds(second), null, false);
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        cache.findLatestByAlpha2("GB");
+        cache.findLatestByAlpha2("GB");
+        cache.findLatestByAlpha3("GBR");
+        cache.findLatestByAlpha3("GBR");
+
+        assertEquals(2, delegate.reads);
+        CacheStats stats = cache.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(0.5, stats.hitRate());
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        cache.listLatest(10, 0);
+        clock.advance(Duration.ofMinutes(5));
+        cache.listLatest(10, 0);
+
+        assertEquals(2, delegate.reads);
+        assertEquals(0, cache.stats().hits());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedAtSizeBound() {
+        CachingCountryRepository small = new CachingCountryRepository(delegate, Duration.ofMinutes(5), 2, clock);
+        small.findLatestByAlpha2("GB");
+        small.findLatestByAlpha2("FR");
+        small.findLatestByAlpha2("GB");
+        small.findLatestByAlpha2("DE");
+
+        small.findLatestByAlpha2("GB");
+        small.findLatestByAlpha2("FR");
+
+        CacheStats stats = small.stats();
+        assertEquals(2, stats.hits());
+        assertEquals(2, stats.evictions());
+        assertEquals(2, stats.size());
+    }
+
+    @Test
+    void unknownCodesAreCachedAsEmpty() {
+        assertTrue(cache.findLatestByNumeric("999").isEmpty());
+        assertTrue(cache.findLatestByNumeric("999").isEmpty());
+
+        assertEquals(1, delegate.reads);
+    }
+
+    @Test
+    void batchLookupLoadsOnlyUncachedCodes() {
+        delegate.saveNewVersion(country("France", "FR", "FRA", "250", 0));
+        cache.findLatestByAlpha2("GB");
+
+        List<Country> first = cache.findLatestByAlpha2In(List.of("FR", "GB", "XX"));
+        List<Country> second = cache.findLatestByAlpha2In(List.of("XX", "FR"));
+
+        assertEquals(List.of("FR", "GB"), first.stream().map(Country::alpha2Code).toList());
+        assertEquals(List.of("FR"), second.stream().map(Country::alpha2Code).toList());
+        // One read for GB, then FR and XX through the default per-code batch implementation
+        assertEquals(3, delegate.reads);
+        assertEquals(3, cache.stats().hits());
+    }
+
+    @Test
+    void writeInvalidatesAffectedEntries() {
+        cache.findLatestByAlpha2("GB");
+        cache.findLatestByAlpha3("GBR");
+        cache.findLatestByNumeric("999");
+        cache.historyByAlpha2("GB");
+        cache.listLatest(10, 0);
+        cache.findLatestByAlpha2("XX");
+
+        cache.supersede(country("United Kingdom", "GB", "GBR", "826", 0),
+                country("Britain", "GB", "GBR", "999", 1));
+
+        assertEquals("Britain", cache.findLatestByAlpha2("GB").orElseThrow().name());
+        assertEquals("Britain", cache.findLatestByAlpha3("GBR").orElseThrow().name());
+        assertEquals("Britain", cache.findLatestByNumeric("999").orElseThrow().name());
+        assertEquals(2, cache.historyByAlpha2("GB").size());
+        assertEquals("Britain", cache.listLatest(10, 0).get(0).name());
+        cache.findLatestByAlpha2("XX");
+        assertEquals(1, cache.stats().hits(), "Only the unrelated entry should survive the write");
+    }
+
+    @Test
+    void bulkWriteDropsEveryEntry() {
+        cache.findLatestByAlpha2("GB");
+        cache.findLatestByAlpha2("XX");
+        List<BulkWriteProgress> progress = new ArrayList<>();
+
+        cache.saveAll(List.of(country("Britain", "GB", "GBR", "826", 1), country("France", "FR", "FRA", "250", 0)), progress::add);
+
+        assertEquals(0, cache.stats().size());
+        assertEquals("Britain", cache.findLatestByAlpha2("GB").orElseThrow().name());
+        assertEquals(new BulkWriteProgress(2, 2, 2), progress.get(1), "Progress comes from the delegate");
+    }
+
+    @Test
+    void changesFromOtherInstancesInvalidateEntries() {
+        cache.findLatestByAlpha2("GB");
+        cache.findLatestByAlpha2("FR");
+
+        Country renamed = country("Britain", "GB", "GBR", "826", 1);
+        delegate.saveNewVersion(renamed);
+        cache.onCountryChanged(renamed);
+
+        assertEquals("Britain", cache.findLatestByAlpha2("GB").orElseThrow().name());
+        cache.findLatestByAlpha2("FR");
+        assertEquals(1, cache.stats().hits());
+
+        cache.onChangesMissed();
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void rejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new CachingCountryRepository(delegate, Duration.ZERO, 10));
+        assertThrows(IllegalArgumentException.class, () -> new CachingCountryRepository(delegate, Duration.ofMinutes(1), 0));
+    }
+}
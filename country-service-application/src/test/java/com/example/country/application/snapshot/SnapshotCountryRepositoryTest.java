@@ -0,0 +1,221 @@
+package com.example.country.application.snapshot;
+
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotCountryRepositoryTest {
+
+    private static class CountingRepo implements CountryRepositoryPort {
+        private final Map<String, List<Country>> byAlpha2 = new HashMap<>();
+        private int reads;
+        private Runnable duringLoad = () -> { };
+        @Override public Country saveNewVersion(Country country) {
+            byAlpha2.computeIfAbsent(country.alpha2Code(), k -> new ArrayList<>()).add(country);
+            return country;
+        }
+        @Override public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+            reads++;
+            return latest().filter(c -> c.alpha2Code().equals(alpha2Code)).findFirst();
+        }
+        @Override public Optional<Country> findLatestByAlpha3(String alpha3Code) {
+            reads++;
+            return latest().filter(c -> c.alpha3Code().equals(alpha3Code)).findFirst();
+        }
+        @Override public Optional<Country> findLatestByNumeric(String numericCode) {
+            reads++;
+            return latest().filter(c -> c.numericCode().equals(numericCode)).findFirst();
+        }
+        @Override public List<Country> listLatest(int limit, int offset) {
+            reads++;
+            List<Country> all = latest().sorted(Comparator.comparing(Country::alpha2Code)).toList();
+            duringLoad.run();
+            return all.stream().skip(offset).limit(limit).toList();
+        }
+        @Override public List<Country> historyByAlpha2(String alpha2Code) {
+            reads++;
+            return List.copyOf(byAlpha2.getOrDefault(alpha2Code, List.of()));
+        }
+        private java.util.stream.Stream<Country> latest() {
+            return byAlpha2.values().stream().map(list -> list.get(list.size() - 1));
+        }
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        void advance(Duration duration) { now = now.plus(duration); }
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
+
+    private CountingRepo delegate;
+    private MutableClock clock;
+    private SnapshotCountryRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingRepo();
+        clock = new MutableClock();
+        repository = new SnapshotCountryRepository(delegate, Duration.ofMinutes(5), clock);
+        delegate.saveNewVersion(country("United Kingdom", "GB", "GBR", "826", 0, false));
+        delegate.saveNewVersion(country("France", "FR", "FRA", "250", 0, false));
+        delegate.saveNewVersion(country("Germany", "DE", "DEU", "276", 0, false));
+        delegate.saveNewVersion(country("Atlantis", "AT", "ATL", "999", 0, true));
+    }
+
+    private static Country country(String name, String alpha2, String alpha3, String numeric, long second, boolean deleted) {
+        return Country.of(name, alpha2, alpha3, numeric, Instant.parse("2024-01-01T00:00:00Z").plusSeconds(second), null, deleted);
+    }
+
+    @Test
+    void readsFallThroughToDelegateBeforeFirstLoad() {
+        assertTrue(repository.current().isEmpty());
+        assertEquals("France", repository.findLatestByAlpha2("FR").orElseThrow().name());
+        assertEquals(1, delegate.reads);
+    }
+
+    @Test
+    void lookupsAreServedFromSnapshotAfterRefresh() {
+        CountrySnapshot snapshot = repository.refresh();
+        int readsAfterLoad = delegate.reads;
+
+        assertEquals(3, snapshot.size(), "Deleted countries are left out");
+        assertEquals("United Kingdom", repository.findLatestByAlpha2("GB").orElseThrow().name());
+        assertEquals("France", repository.findLatestByAlpha3("FRA").orElseThrow().name());
+        assertEquals("Germany", repository.findLatestByNumeric("276").orElseThrow().name());
+        assertTrue(repository.findLatestByAlpha2("AT").isEmpty());
+        assertEquals(List.of("FR", "GB"), repository.listLatest(2, 1).stream().map(Country::alpha2Code).toList());
+        assertEquals(List.of("GB", "DE"), repository.findLatestByAlpha2In(List.of("GB", "AT", "DE")).stream().map(Country::alpha2Code).toList());
+        assertEquals(readsAfterLoad, delegate.reads);
+    }
+
+    @Test
+    void cursorPagesWalkTheWholeSnapshot() {
+        repository.refresh();
+
+        CountryPage first = repository.listLatestPage(2, null);
+        CountryPage second = repository.listLatestPage(2, first.nextCursor());
+
+        assertEquals(List.of("DE", "FR"), first.items().stream().map(Country::alpha2Code).toList());
+        assertEquals(List.of("GB"), second.items().stream().map(Country::alpha2Code).toList());
+        assertNull(second.nextCursor());
+        assertThrows(IllegalArgumentException.class, () -> repository.listLatestPage(2, "not-a-cursor"));
+    }
+
+    @Test
+    void writesAreVisibleImmediately() {
+        repository.refresh();
+
+        repository.supersede(country("United Kingdom", "GB", "GBR", "826", 0, false),
+                country("Britain", "GB", "GBR", "900", 1, false));
+        repository.saveIfAbsent(country("Spain", "ES", "ESP", "724", 1, false));
+        repository.saveNewVersion(country("France", "FR", "FRA", "250", 1, true));
+
+        assertEquals("Britain", repository.findLatestByNumeric("900").orElseThrow().name());
+        assertTrue(repository.findLatestByNumeric("826").isEmpty(), "Released codes must not resolve");
+        assertTrue(repository.findLatestByAlpha2("FR").isEmpty());
+        assertEquals(List.of("DE", "ES", "GB"), repository.listLatest(10, 0).stream().map(Country::alpha2Code).toList());
+    }
+
+    @Test
+    void bulkWritesAreAppliedInOnePass() {
+        repository.refresh();
+        int readsAfterLoad = delegate.reads;
+
+        int saved = repository.saveAll(List.of(
+                country("Spain", "ES", "ESP", "724", 1, false),
+                country("France", "FR", "FRA", "250", 1, true),
+                country("Old Germany", "DE", "DEU", "276", -1, false)), progress -> { });
+
+        assertEquals(3, saved);
+        assertEquals(List.of("DE", "ES", "GB"), repository.listLatest(10, 0).stream().map(Country::alpha2Code).toList());
+        assertEquals("Germany", repository.findLatestByAlpha2("DE").orElseThrow().name(), "Older versions must not replace newer ones");
+        assertEquals(readsAfterLoad, delegate.reads);
+    }
+
+    @Test
+    void writesDuringLoadAreNotLostBySwap() {
+        delegate.duringLoad = () -> {
+            delegate.duringLoad = () -> { };
+            repository.saveIfAbsent(country("Spain", "ES", "ESP", "724", 1, false));
+        };
+
+        CountrySnapshot snapshot = repository.refresh();
+
+        assertTrue(snapshot.byAlpha2("ES").isPresent());
+    }
+
+    @Test
+    void changesFromOtherInstancesAreApplied() {
+        repository.refresh();
+        int readsBefore = delegate.reads;
+
+        repository.onCountryChanged(country("France", "FR", "FRA", "250", 1, true));
+        repository.onCountryChanged(country("Spain", "ES", "ESP", "724", 1, false));
+
+        assertTrue(repository.findLatestByAlpha2("FR").isEmpty());
+        assertEquals("Spain", repository.findLatestByAlpha3("ESP").orElseThrow().name());
+        assertEquals(readsBefore, delegate.reads);
+    }
+
+    @Test
+    void tombstoneAppliedFirstIsNotUndoneByTheVersionItReplaced() {
+        repository.refresh();
+
+        repository.onCountryChanged(country("France", "FR", "FRA", "250", 1, true));
+        repository.onCountryChanged(country("France", "FR", "FRA", "250", 0, false));
+
+        assertTrue(repository.findLatestByAlpha2("FR").isEmpty());
+        assertTrue(repository.findLatestByAlpha3("FRA").isEmpty());
+
+        repository.onCountryChanged(country("French Republic", "FR", "FRA", "250", 2, false));
+        assertEquals("French Republic", repository.findLatestByAlpha2("FR").orElseThrow().name());
+    }
+
+    @Test
+    void olderVersionDoesNotReplaceNewerOne() {
+        CountrySnapshot snapshot = CountrySnapshot.of(List.of(country("Britain", "GB", "GBR", "826", 5, false)), clock.instant());
+
+        CountrySnapshot applied = snapshot.with(country("United Kingdom", "GB", "GBR", "826", 0, false));
+
+        assertSame(snapshot, applied);
+    }
+
+    @Test
+    void staleSnapshotIsBypassed() {
+        repository.refresh();
+        clock.advance(Duration.ofMinutes(6));
+        int readsBefore = delegate.reads;
+
+        repository.findLatestByAlpha2("GB");
+
+        assertTrue(repository.current().isEmpty());
+        assertEquals(readsBefore + 1, delegate.reads);
+    }
+
+    @Test
+    void historyAlwaysComesFromDelegate() {
+        repository.refresh();
+        int readsBefore = delegate.reads;
+
+        assertEquals(1, repository.historyByAlpha2("GB").size());
+        assertEquals(readsBefore + 1, delegate.reads);
+    }
+
+    @Test
+    void rejectsNonPositiveStaleness() {
+        assertThrows(IllegalArgumentException.class, () -> new SnapshotCountryRepository(delegate, Duration.ZERO));
+    }
+}
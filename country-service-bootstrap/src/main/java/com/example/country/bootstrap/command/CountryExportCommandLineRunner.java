@@ -0,0 +1,59 @@
+package com.example.country.bootstrap.command;
+
+import com.example.country.adapters.export.CountryNdjsonWriter;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.application.ports.CountryServicePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes a full NDJSON dump of the table to {@code export.file} on startup. Run with
+ * {@code --spring.main.web-application-type=none} to exit once the export is written.
+ */
+@Component
+public class CountryExportCommandLineRunner implements CommandLineRunner {
+    private static final Logger log = LoggerFactory.getLogger(CountryExportCommandLineRunner.class);
+
+    private final CountryServicePort service;
+    private final CountryJsonCodec codec;
+    private final String exportFile;
+    private final int segments;
+
+    public CountryExportCommandLineRunner(
+            CountryServicePort service,
+            CountryJsonCodec codec,
+            @Value("${export.file:}") String exportFile,
+            @Value("${export.segments:4}") int segments) {
+        this.service = service;
+        this.codec = codec;
+        this.exportFile = exportFile;
+        this.segments = segments;
+    }
+
+    @Override
+    public void run(String... args) throws IOException {
+        if (exportFile == null || exportFile.isBlank()) {
+            log.debug("Export is disabled. Set 'export.file' to write a dump of the table.");
+            return;
+        }
+
+        Path target = Path.of(exportFile);
+        long started = System.nanoTime();
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+            CountryNdjsonWriter writer = new CountryNdjsonWriter(codec, out);
+            long exported = service.exportAll(segments, writer);
+            writer.flush();
+            log.info("Exported {} country versions to {} with {} segments in {} ms",
+                    exported, target, segments, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+}
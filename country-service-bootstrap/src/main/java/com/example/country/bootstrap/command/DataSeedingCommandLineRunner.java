@@ -1,5 +1,6 @@
 package com.example.country.bootstrap.command;
 
+import com.example.country.adapters.persistence.DynamoDbSeedManifestStore;
 import com.example.country.adapters.persistence.DynamoDbTableHelper;
 import com.example.country.adapters.seeding.CountryDataSeeder;
 import com.example.country.adapters.seeding.CsvCountryReader;
@@ -12,9 +13,14 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Component
 public class DataSeedingCommandLineRunner implements CommandLineRunner {
     private static final Logger log = LoggerFactory.getLogger(DataSeedingCommandLineRunner.class);
+    private static final String SEED_RESOURCE = "countries_iso3166b.csv";
     
     private final DynamoDbClient dynamoDbClient;
     private final CountryRepositoryPort repository;
@@ -32,13 +38,35 @@ public class DataSeedingCommandLineRunner implements CommandLineRunner {
         this.enableSeeding = enableSeeding;
     }
     
+    /**
+     * Starts table provisioning and seeding on a background thread and returns immediately, so the
+     * web server and liveness probe come up straight away. Readiness stays DOWN until seeding ends.
+     */
     @Override
     public void run(String... args) {
         if (!enableSeeding) {
             log.debug("Data seeding is disabled. Set 'data.seeding.enabled=true' to enable.");
             return;
         }
-        
+        seedInBackground();
+    }
+    
+    CompletableFuture<Void> seedInBackground() {
+        healthIndicator.markSeedingStarted();
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "data-seeding");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return CompletableFuture.runAsync(this::provisionAndSeed, executor);
+        } finally {
+            // Lets the thread exit once seeding is done
+            executor.shutdown();
+        }
+    }
+    
+    private void provisionAndSeed() {
         // Ensure table exists
         try {
             DynamoDbTableHelper.createTableIfNotExists(dynamoDbClient);
@@ -51,8 +79,9 @@ public class DataSeedingCommandLineRunner implements CommandLineRunner {
         
         // Seed data
         try {
-            CountryDataSeeder seeder = new CountryDataSeeder(repository, new CsvCountryReader());
-            int seeded = seeder.seedFromClasspathResource("countries_iso3166b.csv");
+            CountryDataSeeder seeder = new CountryDataSeeder(repository, new CsvCountryReader(),
+                    new DynamoDbSeedManifestStore(dynamoDbClient, SEED_RESOURCE));
+            int seeded = seeder.seedFromClasspathResource(SEED_RESOURCE, healthIndicator::recordProgress);
             log.info("Data seeding completed: {} countries seeded", seeded);
             healthIndicator.markSeedingComplete();
         } catch (Exception e) {
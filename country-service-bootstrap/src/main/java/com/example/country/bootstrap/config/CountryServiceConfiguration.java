@@ -1,25 +1,40 @@
 package com.example.country.bootstrap.config;
 
 import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.adapters.importing.CountryImportReader;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.json.CountryResponseCache;
 import com.example.country.adapters.persistence.DynamoDbCountryRepository;
+import com.example.country.adapters.persistence.DynamoDbStreamTailer;
+import com.example.country.adapters.web.config.ConditionalGetInterceptor;
+import com.example.country.adapters.web.config.CountryJsonHttpMessageConverter;
 import com.example.country.application.CountryServiceImpl;
+import com.example.country.application.cache.CachingCountryRepository;
+import com.example.country.application.ports.CountryChangeListener;
 import com.example.country.application.ports.CountryRepositoryPort;
 import com.example.country.application.ports.CountryServicePort;
+import com.example.country.application.snapshot.SnapshotCountryRepository;
 import com.example.country.domain.Country;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 
 import java.net.URI;
+import java.time.Duration;
 
 @Configuration
 public class CountryServiceConfiguration {
@@ -30,6 +45,36 @@ public class CountryServiceConfiguration {
     @Value("${aws.region:us-east-1}")
     private String awsRegion;
 
+    @Value("${snapshot.enabled:false}")
+    private boolean snapshotEnabled;
+
+    @Value("${snapshot.refresh-interval:PT1M}")
+    private Duration snapshotRefreshInterval;
+
+    @Value("${snapshot.max-staleness:PT5M}")
+    private Duration snapshotMaxStaleness;
+
+    @Value("${cache.enabled:false}")
+    private boolean cacheEnabled;
+
+    @Value("${cache.ttl:PT5M}")
+    private Duration cacheTtl;
+
+    @Value("${cache.max-entries:1000}")
+    private int cacheMaxEntries;
+
+    @Value("${response-cache.max-entries:1000}")
+    private int responseCacheMaxEntries;
+
+    @Value("${http-cache.max-age:PT1M}")
+    private Duration httpCacheMaxAge;
+
+    @Value("${http-cache.stale-while-revalidate:PT5M}")
+    private Duration httpCacheStaleWhileRevalidate;
+
+    @Value("${streams.poll-interval:PT1S}")
+    private Duration streamsPollInterval;
+
     @Bean
     public DynamoDbClient dynamoDbClient() {
         var builder = DynamoDbClient.builder()
@@ -45,9 +90,45 @@ public class CountryServiceConfiguration {
         return builder.build();
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "streams.enabled", havingValue = "true")
+    public DynamoDbStreamsClient dynamoDbStreamsClient() {
+        var builder = DynamoDbStreamsClient.builder()
+                .region(Region.of(awsRegion))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create("test", "test")
+                ));
+
+        if (awsEndpointUrl != null && !awsEndpointUrl.isEmpty()) {
+            builder.endpointOverride(URI.create(awsEndpointUrl));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Applies writes made by other instances to this instance's cache and snapshot.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "streams.enabled", havingValue = "true")
+    public DynamoDbStreamTailer countryStreamTailer(DynamoDbClient dynamoDbClient, DynamoDbStreamsClient dynamoDbStreamsClient,
+                                                    CountryRepositoryPort repository) {
+        if (!(repository instanceof CountryChangeListener listener)) {
+            throw new IllegalStateException("streams.enabled requires cache.enabled or snapshot.enabled");
+        }
+        return new DynamoDbStreamTailer(dynamoDbClient, dynamoDbStreamsClient, listener).start(streamsPollInterval);
+    }
+
     @Bean
     public CountryRepositoryPort countryRepository(DynamoDbClient dynamoDbClient) {
-        return new DynamoDbCountryRepository(dynamoDbClient);
+        CountryRepositoryPort repository = new DynamoDbCountryRepository(dynamoDbClient);
+        if (snapshotEnabled) {
+            repository = new SnapshotCountryRepository(repository, snapshotMaxStaleness).start(snapshotRefreshInterval);
+        }
+        if (cacheEnabled) {
+            return new CachingCountryRepository(repository, cacheTtl, cacheMaxEntries);
+        }
+        return repository;
     }
 
     @Bean
@@ -60,6 +141,50 @@ public class CountryServiceConfiguration {
         return new CountryApi(service);
     }
 
+    @Bean
+    public CountryImportReader countryImportReader(ObjectMapper objectMapper) {
+        return new CountryImportReader(objectMapper);
+    }
+
+    @Bean
+    public CountryJsonCodec countryJsonCodec() {
+        return new CountryJsonCodec();
+    }
+
+    @Bean
+    public CountryResponseCache countryResponseCache(CountryJsonCodec countryJsonCodec) {
+        return new CountryResponseCache(countryJsonCodec, responseCacheMaxEntries);
+    }
+
+    @Bean
+    public HttpCaching httpCaching(CountryResponseCache countryResponseCache) {
+        return new HttpCaching(countryResponseCache, httpCacheMaxAge, httpCacheStaleWhileRevalidate);
+    }
+
+    /**
+     * Answers conditional GETs that can be checked from the response cache before the controller runs;
+     * the validators themselves are added by {@code ConditionalGetResponseAdvice}.
+     */
+    @Bean
+    public WebMvcConfigurer conditionalGetConfigurer(HttpCaching httpCaching) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ConditionalGetInterceptor(httpCaching)).addPathPatterns("/api/v1/countries/**");
+            }
+        };
+    }
+
+    /**
+     * Picked up by Spring Boot and placed ahead of the Jackson converter, so countries and country inputs
+     * skip data binding; the mix-in below only serves payloads that embed countries.
+     */
+    @Bean
+    public CountryJsonHttpMessageConverter countryJsonHttpMessageConverter(CountryJsonCodec countryJsonCodec,
+                                                                           CountryResponseCache countryResponseCache) {
+        return new CountryJsonHttpMessageConverter(countryJsonCodec, countryResponseCache);
+    }
+
     @Bean
     @Primary
     public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
@@ -1,32 +1,52 @@
 package com.example.country.bootstrap.health;
 
+import com.example.country.application.model.BulkWriteProgress;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Health indicator that reports UP only when data seeding is complete (if enabled).
  * If data seeding is disabled, this indicator always reports UP.
+ *
+ * <p>Seeding runs in the background, so this indicator belongs to the readiness group only: the
+ * process is live as soon as it starts, and traffic is routed once seeding has finished. While
+ * seeding is in progress the details report items written, the write rate and an estimate of the
+ * time remaining.
  */
 @Component
 public class DataSeedingHealthIndicator implements HealthIndicator {
-    
+
     private final boolean seedingEnabled;
+    private final Clock clock;
     private final AtomicBoolean seedingComplete = new AtomicBoolean(false);
     private final AtomicReference<String> errorMessage = new AtomicReference<>(null);
-    
+    private final AtomicReference<Instant> startedAt = new AtomicReference<>(null);
+    private final AtomicReference<Instant> finishedAt = new AtomicReference<>(null);
+    private final AtomicReference<BulkWriteProgress> progress = new AtomicReference<>(null);
+
+    @Autowired
     public DataSeedingHealthIndicator(@Value("${data.seeding.enabled:false}") boolean seedingEnabled) {
+        this(seedingEnabled, Clock.systemUTC());
+    }
+
+    public DataSeedingHealthIndicator(boolean seedingEnabled, Clock clock) {
         this.seedingEnabled = seedingEnabled;
+        this.clock = clock;
         // If seeding is disabled, mark as complete immediately
         if (!seedingEnabled) {
             this.seedingComplete.set(true);
         }
     }
-    
+
     @Override
     public Health health() {
         if (!seedingEnabled) {
@@ -34,39 +54,79 @@ public class DataSeedingHealthIndicator implements HealthIndicator {
                     .withDetail("seeding", "disabled")
                     .build();
         }
-        
+
         if (errorMessage.get() != null) {
-            return Health.down()
+            return withProgress(Health.down()
                     .withDetail("seeding", "failed")
-                    .withDetail("error", errorMessage.get())
+                    .withDetail("error", errorMessage.get()))
                     .build();
         }
-        
+
         if (seedingComplete.get()) {
-            return Health.up()
-                    .withDetail("seeding", "complete")
+            return withProgress(Health.up()
+                    .withDetail("seeding", "complete"))
                     .build();
         }
-        
-        return Health.down()
-                .withDetail("seeding", "in-progress")
+
+        return withProgress(Health.down()
+                .withDetail("seeding", "in-progress"))
                 .build();
     }
-    
+
+    /**
+     * Marks the start of a seeding run. Rate and ETA are measured from this point.
+     */
+    public void markSeedingStarted() {
+        this.startedAt.set(clock.instant());
+        this.finishedAt.set(null);
+        this.progress.set(null);
+        this.seedingComplete.set(false);
+        this.errorMessage.set(null);
+    }
+
+    /**
+     * Records the latest progress of the bulk write. Called after every chunk.
+     */
+    public void recordProgress(BulkWriteProgress latest) {
+        this.progress.set(latest);
+    }
+
     /**
      * Marks seeding as complete. Called by DataSeedingCommandLineRunner when seeding finishes successfully.
      */
     public void markSeedingComplete() {
         this.seedingComplete.set(true);
         this.errorMessage.set(null);
+        this.finishedAt.set(clock.instant());
     }
-    
+
     /**
      * Marks seeding as failed. Called by DataSeedingCommandLineRunner when seeding encounters an error.
      */
     public void markSeedingFailed(String error) {
         this.seedingComplete.set(false);
         this.errorMessage.set(error);
+        this.finishedAt.set(clock.instant());
     }
-}
 
+    private Health.Builder withProgress(Health.Builder builder) {
+        BulkWriteProgress latest = progress.get();
+        Instant started = startedAt.get();
+        if (latest == null || started == null) {
+            return builder;
+        }
+        Instant finished = finishedAt.get();
+        Duration elapsed = Duration.between(started, finished != null ? finished : clock.instant());
+        builder.withDetail("itemsWritten", latest.itemsWritten())
+                .withDetail("chunks", latest.completedChunks() + "/" + latest.totalChunks())
+                .withDetail("elapsed", elapsed.toString());
+        if (elapsed.toMillis() > 0) {
+            builder.withDetail("itemsPerSecond", Math.round(latest.itemsWritten() * 1000.0 / elapsed.toMillis()));
+        }
+        if (finished == null && latest.completedChunks() > 0) {
+            long remainingChunks = latest.totalChunks() - latest.completedChunks();
+            builder.withDetail("eta", elapsed.multipliedBy(remainingChunks).dividedBy(latest.completedChunks()).toString());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.country.bootstrap;
+
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the embedded server, since {@code server.compression} is applied by Tomcat rather than by Spring MVC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "api.key=test-api-key",
+        "data.seeding.enabled=false"
+})
+class HttpCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private CountryRepositoryPort repository;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void setUp() {
+        List<Country> countries = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String alpha2 = "C" + (char) ('A' + i);
+            countries.add(Country.of("Country " + i, alpha2, alpha2 + "X", String.valueOf(100 + i),
+                    Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i), null, false));
+        }
+        when(repository.listLatest(20, 0)).thenReturn(countries);
+    }
+
+    private HttpResponse<byte[]> get(String acceptEncoding, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/countries"))
+                .header("X-API-KEY", "test-api-key");
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    @Test
+    void compressesCountryListsForClientsThatAcceptGzip() throws Exception {
+        HttpResponse<byte[]> response = get("gzip", null);
+
+        assertEquals(200, response.statusCode());
+        assertEquals("gzip", response.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(response.headers().firstValue("ETag").orElseThrow().startsWith("W/\""));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(response.body()))) {
+            assertTrue(new String(gzip.readAllBytes(), StandardCharsets.UTF_8).contains("\"alpha2Code\":\"CA\""));
+        }
+    }
+
+    @Test
+    void sendsTheSameWeakEtagUncompressedAndAcceptsItBack() throws Exception {
+        HttpResponse<byte[]> compressed = get("gzip", null);
+        HttpResponse<byte[]> plain = get(null, null);
+
+        assertEquals(200, plain.statusCode());
+        assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+        String etag = plain.headers().firstValue("ETag").orElseThrow();
+        assertEquals(compressed.headers().firstValue("ETag").orElseThrow(), etag);
+
+        assertEquals(304, get("gzip", etag).statusCode());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.country.bootstrap.command;
+
+import com.example.country.application.model.BulkWriteProgress;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.bootstrap.health.DataSeedingHealthIndicator;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class DataSeedingCommandLineRunnerTest {
+
+    private static DynamoDbClient existingTable() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        when(dynamoDb.describeTable(any(DescribeTableRequest.class))).thenReturn(DescribeTableResponse.builder()
+                .table(TableDescription.builder()
+                        .tableName("Countries")
+                        .globalSecondaryIndexes(GlobalSecondaryIndexDescription.builder().indexName("GSI-Current").build())
+                        .streamSpecification(StreamSpecification.builder().streamEnabled(true).build())
+                        .build())
+                .build());
+        when(dynamoDb.getItem(any(GetItemRequest.class))).thenReturn(GetItemResponse.builder().build());
+        // Pointers and current-version markers were already backfilled
+        when(dynamoDb.getItem(argThat((GetItemRequest request) -> request != null
+                && request.key().get("alpha2Code").s().startsWith("MIGRATION#"))))
+                .thenReturn(GetItemResponse.builder().item(Map.of("completedAt", AttributeValue.builder().s("2025-01-01T00:00:00Z").build())).build());
+        return dynamoDb;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void seedsInBackgroundWhileReadinessReportsProgress() throws Exception {
+        CountryRepositoryPort repository = mock(CountryRepositoryPort.class);
+        DataSeedingHealthIndicator health = new DataSeedingHealthIndicator(true);
+        CountDownLatch release = new CountDownLatch(1);
+        when(repository.saveAll(anyList(), any())).thenAnswer(invocation -> {
+            Consumer<BulkWriteProgress> progress = invocation.getArgument(1);
+            progress.accept(new BulkWriteProgress(1, 2, 25));
+            release.await(5, TimeUnit.SECONDS);
+            progress.accept(new BulkWriteProgress(2, 2, 40));
+            return ((List<?>) invocation.getArgument(0)).size();
+        });
+        DataSeedingCommandLineRunner runner = new DataSeedingCommandLineRunner(existingTable(), repository, health, true);
+
+        CompletableFuture<Void> seeding = runner.seedInBackground();
+
+        assertFalse(seeding.isDone(), "Startup must not wait for seeding");
+        verify(repository, timeout(5_000)).saveAll(anyList(), any());
+        Health inProgress = health.health();
+        assertEquals(Status.DOWN, inProgress.getStatus());
+        assertEquals("in-progress", inProgress.getDetails().get("seeding"));
+        assertEquals(25L, inProgress.getDetails().get("itemsWritten"));
+
+        release.countDown();
+        seeding.get(5, TimeUnit.SECONDS);
+
+        Health done = health.health();
+        assertEquals(Status.UP, done.getStatus());
+        assertEquals(40L, done.getDetails().get("itemsWritten"));
+    }
+
+    @Test
+    void failedSeedingLeavesReadinessDown() throws Exception {
+        CountryRepositoryPort repository = mock(CountryRepositoryPort.class);
+        when(repository.saveAll(anyList(), any())).thenThrow(new IllegalStateException("BatchWriteItem left items unprocessed"));
+        DataSeedingHealthIndicator health = new DataSeedingHealthIndicator(true);
+
+        new DataSeedingCommandLineRunner(existingTable(), repository, health, true).seedInBackground().get(5, TimeUnit.SECONDS);
+
+        assertEquals(Status.DOWN, health.health().getStatus());
+        assertEquals("failed", health.health().getDetails().get("seeding"));
+    }
+
+    @Test
+    void doesNothingWhenDisabled() {
+        DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+        CountryRepositoryPort repository = mock(CountryRepositoryPort.class);
+
+        new DataSeedingCommandLineRunner(dynamoDb, repository, new DataSeedingHealthIndicator(false), false).run();
+
+        verifyNoInteractions(dynamoDb, repository);
+    }
+}
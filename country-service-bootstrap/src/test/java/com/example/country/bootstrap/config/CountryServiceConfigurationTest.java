@@ -2,19 +2,29 @@ package com.example.country.bootstrap.config;
 
 import com.example.country.adapters.api.CountryApi;
 import com.example.country.adapters.persistence.DynamoDbCountryRepository;
+import com.example.country.adapters.persistence.DynamoDbStreamTailer;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.web.config.CountryJsonHttpMessageConverter;
 import com.example.country.application.CountryServiceImpl;
+import com.example.country.application.cache.CachingCountryRepository;
 import com.example.country.application.ports.CountryRepositoryPort;
 import com.example.country.application.ports.CountryServicePort;
+import com.example.country.application.snapshot.SnapshotCountryRepository;
 import com.example.country.domain.Country;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 
+import java.time.Duration;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -66,6 +76,51 @@ class CountryServiceConfigurationTest {
         assertInstanceOf(DynamoDbCountryRepository.class, repository);
     }
 
+    @Test
+    void shouldWrapCountryRepositoryInCacheWhenEnabled() {
+        ReflectionTestUtils.setField(configuration, "cacheEnabled", true);
+        ReflectionTestUtils.setField(configuration, "cacheTtl", Duration.ofMinutes(5));
+        ReflectionTestUtils.setField(configuration, "cacheMaxEntries", 1000);
+        DynamoDbClient client = mock(DynamoDbClient.class);
+
+        CountryRepositoryPort repository = configuration.countryRepository(client);
+
+        assertInstanceOf(CachingCountryRepository.class, repository);
+    }
+
+    @Test
+    void shouldWrapCountryRepositoryInSnapshotWhenEnabled() {
+        ReflectionTestUtils.setField(configuration, "snapshotEnabled", true);
+        ReflectionTestUtils.setField(configuration, "snapshotRefreshInterval", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(configuration, "snapshotMaxStaleness", Duration.ofMinutes(5));
+        DynamoDbClient client = mock(DynamoDbClient.class);
+
+        CountryRepositoryPort repository = configuration.countryRepository(client);
+
+        assertInstanceOf(SnapshotCountryRepository.class, repository);
+        ((SnapshotCountryRepository) repository).close();
+    }
+
+    @Test
+    void shouldTailStreamIntoCachingRepository() {
+        ReflectionTestUtils.setField(configuration, "streamsPollInterval", Duration.ofMinutes(1));
+        CachingCountryRepository repository = new CachingCountryRepository(mock(CountryRepositoryPort.class), Duration.ofMinutes(5), 10);
+
+        DynamoDbStreamTailer tailer = configuration.countryStreamTailer(mock(DynamoDbClient.class), mock(DynamoDbStreamsClient.class), repository);
+
+        assertNotNull(tailer);
+        tailer.close();
+    }
+
+    @Test
+    void shouldRejectStreamTailingWithoutLocalState() {
+        ReflectionTestUtils.setField(configuration, "streamsPollInterval", Duration.ofMinutes(1));
+        CountryRepositoryPort repository = mock(CountryRepositoryPort.class);
+
+        assertThrows(IllegalStateException.class,
+                () -> configuration.countryStreamTailer(mock(DynamoDbClient.class), mock(DynamoDbStreamsClient.class), repository));
+    }
+
     @Test
     void shouldCreateCountryService() {
         CountryRepositoryPort repository = mock(CountryRepositoryPort.class);
@@ -122,4 +177,22 @@ class CountryServiceConfigurationTest {
         String json = mapper.writeValueAsString(country);
         assertTrue(json.contains("2024-01-01"));
     }
+
+    @Test
+    void shouldWriteCountriesWithTheCodecConverter() throws Exception {
+        ReflectionTestUtils.setField(configuration, "responseCacheMaxEntries", 1000);
+        CountryJsonCodec codec = configuration.countryJsonCodec();
+        CountryJsonHttpMessageConverter converter = configuration.countryJsonHttpMessageConverter(codec,
+                configuration.countryResponseCache(codec));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        Country country = Country.of("United Kingdom", "GB", "GBR", "826",
+                Instant.parse("2024-01-01T00:00:00Z"), null, false);
+
+        assertTrue(converter.canWrite(Country.class, Country.class, MediaType.APPLICATION_JSON));
+        converter.write(country, Country.class, MediaType.APPLICATION_JSON, new ServletServerHttpResponse(response));
+
+        assertTrue(response.getContentAsString().contains("\"createDate\":\"2024-01-01T00:00:00Z\""));
+        assertTrue(response.getContentAsString().contains("\"alpha3Code\":\"GBR\""));
+        assertNotNull(response.getHeader("ETag"));
+    }
 }
@@ -1,9 +1,16 @@
 package com.example.country.bootstrap.health;
 
+import com.example.country.application.model.BulkWriteProgress;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.actuate.health.Health;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class DataSeedingHealthIndicatorTest {
@@ -103,4 +110,47 @@ class DataSeedingHealthIndicatorTest {
         assertEquals(Health.up().build().getStatus(), healthAfter.getStatus());
         assertFalse(healthAfter.getDetails().containsKey("error"));
     }
+
+    @Test
+    void shouldReportProgressRateAndEtaWhileSeeding() {
+        MutableClock clock = new MutableClock();
+        healthIndicator = new DataSeedingHealthIndicator(true, clock);
+        healthIndicator.markSeedingStarted();
+        clock.advance(Duration.ofSeconds(2));
+        healthIndicator.recordProgress(new BulkWriteProgress(10, 40, 250));
+        
+        Health health = healthIndicator.health();
+        
+        assertEquals(Health.down().build().getStatus(), health.getStatus());
+        assertEquals(250L, health.getDetails().get("itemsWritten"));
+        assertEquals("10/40", health.getDetails().get("chunks"));
+        assertEquals(125L, health.getDetails().get("itemsPerSecond"));
+        assertEquals("PT6S", health.getDetails().get("eta"));
+    }
+
+    @Test
+    void shouldKeepFinalProgressWithoutEtaOnceComplete() {
+        MutableClock clock = new MutableClock();
+        healthIndicator = new DataSeedingHealthIndicator(true, clock);
+        healthIndicator.markSeedingStarted();
+        clock.advance(Duration.ofSeconds(4));
+        healthIndicator.recordProgress(new BulkWriteProgress(40, 40, 1000));
+        healthIndicator.markSeedingComplete();
+        clock.advance(Duration.ofMinutes(1));
+        
+        Health health = healthIndicator.health();
+        
+        assertEquals(Health.up().build().getStatus(), health.getStatus());
+        assertEquals("PT4S", health.getDetails().get("elapsed"));
+        assertEquals(250L, health.getDetails().get("itemsPerSecond"));
+        assertFalse(health.getDetails().containsKey("eta"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+        void advance(Duration duration) { now = now.plus(duration); }
+        @Override public ZoneId getZone() { return ZoneOffset.UTC; }
+        @Override public Clock withZone(ZoneId zone) { return this; }
+        @Override public Instant instant() { return now; }
+    }
 }
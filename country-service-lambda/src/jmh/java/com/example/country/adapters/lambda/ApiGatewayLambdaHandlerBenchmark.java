@@ -0,0 +1,114 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.example.country.adapters.api.CountryApi;
+import com.example.country.application.CountryServiceImpl;
+import com.example.country.domain.Country;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * End-to-end handler latency of a {@code limit}-country list page, from API Gateway event to response
+ * event, sent as it is and gzip-compressed. The repository is in memory, so only the handler's own work
+ * is measured. {@code gzipPerRequest} is what compressing every response would cost without the
+ * compressed form being kept with the cached body. {@code httpApi} is the identity request as an HTTP API
+ * (payload version 2.0) event. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiGatewayLambdaHandlerBenchmark {
+
+    @Param({"20", "100"})
+    public int limit;
+
+    private ApiGatewayLambdaHandler handler;
+    private APIGatewayProxyRequestEvent identity;
+    private APIGatewayProxyRequestEvent gzip;
+    private HttpApiLambdaHandler httpApiHandler;
+    private APIGatewayV2HTTPEvent httpApi;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ApiGatewayLambdaHandlerTest.InMemoryRepo repository = new ApiGatewayLambdaHandlerTest.InMemoryRepo();
+        Instant created = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 250; i++) {
+            String alpha2 = "" + (char) ('A' + i / 26 % 26) + (char) ('A' + i % 26);
+            repository.saveNewVersion(Country.of("Country " + i + ", officially the Republic of " + i, alpha2, alpha2 + "X",
+                    String.format("%03d", i), created.plusSeconds(i), null, false));
+        }
+        handler = new ApiGatewayLambdaHandler(new CountryLambdaHandler(new CountryApi(new CountryServiceImpl(repository))),
+                new ApiKeyValidator("bench-key"), new RouteMapper());
+        identity = event(Map.of("X-API-KEY", "bench-key"));
+        gzip = event(Map.of("X-API-KEY", "bench-key", "Accept-Encoding", "gzip, deflate, br"));
+        httpApiHandler = new HttpApiLambdaHandler(handler);
+        httpApi = APIGatewayV2HTTPEvent.builder()
+                .withRawPath("/api/v1/countries")
+                .withRawQueryString("limit=" + limit)
+                .withQueryStringParameters(Map.of("limit", String.valueOf(limit)))
+                .withHeaders(Map.of("x-api-key", "bench-key"))
+                .withRequestContext(APIGatewayV2HTTPEvent.RequestContext.builder()
+                        .withHttp(APIGatewayV2HTTPEvent.RequestContext.Http.builder().withMethod("GET").build())
+                        .build())
+                .build();
+
+        String plain = handler.handleRequest(identity, null).getBody();
+        body = plain.getBytes(StandardCharsets.UTF_8);
+        String compressed = handler.handleRequest(gzip, null).getBody();
+        System.out.printf("%nlimit=%d: %d bytes as JSON, %d bytes gzip-compressed (%d as base64 in the event)%n",
+                limit, body.length, compressed.length() * 3 / 4, compressed.length());
+    }
+
+    private APIGatewayProxyRequestEvent event(Map<String, String> headers) {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries");
+        event.setHeaders(new HashMap<>(headers));
+        event.setQueryStringParameters(Map.of("limit", String.valueOf(limit)));
+        return event;
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent identity() {
+        return handler.handleRequest(identity, null);
+    }
+
+    @Benchmark
+    public APIGatewayProxyResponseEvent gzip() {
+        return handler.handleRequest(gzip, null);
+    }
+
+    @Benchmark
+    public APIGatewayV2HTTPResponse httpApi() {
+        return httpApiHandler.handleRequest(httpApi, null);
+    }
+
+    @Benchmark
+    public byte[] gzipPerRequest() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream stream = new GZIPOutputStream(compressed)) {
+            stream.write(body);
+        }
+        return compressed.toByteArray();
+    }
+}
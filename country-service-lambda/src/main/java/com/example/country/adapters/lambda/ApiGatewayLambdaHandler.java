@@ -0,0 +1,459 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.adapters.importing.CountryImportReader;
+import com.example.country.adapters.json.CountryJsonCodec;
+import com.example.country.adapters.json.CountryResponseCache;
+import com.example.country.adapters.json.SerializedJson;
+import com.example.country.application.exception.CountryAlreadyExistsException;
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.CountryPage;
+import com.example.country.application.model.ImportRow;
+import com.example.country.domain.Country;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * AWS Lambda handler for API Gateway integration.
+ * Parses API Gateway events and delegates to CountryLambdaHandler. HTTP API and Function URL events
+ * take the same path through {@link HttpApiLambdaHandler}.
+ */
+public class ApiGatewayLambdaHandler implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    private static final Logger log = LoggerFactory.getLogger(ApiGatewayLambdaHandler.class);
+    private static final String API_KEY_HEADER = "x-api-key";
+    private static final String CONTENT_TYPE_HEADER = "content-type";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String ETAG_HEADER = "ETag";
+    private static final String IF_NONE_MATCH_HEADER = "if-none-match";
+    private static final String IF_MODIFIED_SINCE_HEADER = "if-modified-since";
+    private static final String ACCEPT_ENCODING_HEADER = "accept-encoding";
+    static final int COMPRESSION_MIN_SIZE = HttpCaching.COMPRESSION_MIN_SIZE;
+    
+    private final Supplier<CountryLambdaHandler> handler;
+    private final CountryJsonCodec codec;
+    private final HttpCaching caching;
+    private final Supplier<ObjectMapper> importMapper;
+    private final Supplier<CountryImportReader> importReader;
+    private final ApiKeyValidator apiKeyValidator;
+    private final RouteMapper routeMapper;
+    private final Set<RouteClass> initialisedRouteClasses = ConcurrentHashMap.newKeySet();
+    
+    public ApiGatewayLambdaHandler(CountryLambdaHandler handler, ApiKeyValidator apiKeyValidator, RouteMapper routeMapper) {
+        this(constant(Objects.requireNonNull(handler)), apiKeyValidator, routeMapper);
+    }
+    
+    /**
+     * Creates a handler whose service graph is only built by the first request that gets past
+     * authentication and routing; rejected requests never build it.
+     */
+    ApiGatewayLambdaHandler(Supplier<CountryLambdaHandler> handler, ApiKeyValidator apiKeyValidator, RouteMapper routeMapper) {
+        this(handler, apiKeyValidator, routeMapper, HttpCaching.DEFAULT_MAX_AGE, HttpCaching.DEFAULT_STALE_WHILE_REVALIDATE);
+    }
+    
+    /**
+     * As above, with the {@code Cache-Control} lifetimes of GET responses; {@code maxAge} also bounds
+     * how long a validated response answers conditional GETs without a lookup.
+     */
+    ApiGatewayLambdaHandler(Supplier<CountryLambdaHandler> handler, ApiKeyValidator apiKeyValidator, RouteMapper routeMapper,
+                            Duration maxAge, Duration staleWhileRevalidate) {
+        this.handler = Objects.requireNonNull(handler);
+        // Countries, inputs and errors are streamed by the codec; data binding is only needed for imports
+        this.codec = new CountryJsonCodec();
+        this.caching = new HttpCaching(new CountryResponseCache(codec, CountryResponseCache.DEFAULT_MAX_ENTRIES),
+                maxAge, staleWhileRevalidate);
+        Lazy<ObjectMapper> importMapper = Lazy.of(ObjectMapper::new);
+        this.importMapper = importMapper;
+        this.importReader = Lazy.of(() -> new CountryImportReader(importMapper.get()));
+        this.apiKeyValidator = Objects.requireNonNull(apiKeyValidator);
+        this.routeMapper = Objects.requireNonNull(routeMapper);
+    }
+    
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent event, Context context) {
+        return handle(new ProxyRequest(event), context);
+    }
+    
+    /**
+     * Handles a request of either payload format; the response is converted by the caller if needed.
+     */
+    APIGatewayProxyResponseEvent handle(LambdaHttpRequest request, Context context) {
+        try {
+            // Extract and validate API key
+            if (!apiKeyValidator.isValidKey(request.header(API_KEY_HEADER))) {
+                return createErrorResponse(401, "Unauthorized", "Missing or invalid API key");
+            }
+            
+            // Parse route to get action and path parameters
+            RouteMapping mapping = routeMapper.map(request.method(), request.path());
+            if (mapping == null) {
+                return createErrorResponse(404, "Not Found", "No route found for " + request.method() + " " + request.path());
+            }
+            
+            // Use path parameters from RouteMapping (extracted from path pattern)
+            // Merge with event path parameters if present (API Gateway provides them)
+            Map<String, String> pathParams = new HashMap<>(mapping.getPathParams());
+            if (request.pathParameters() != null) {
+                pathParams.putAll(request.pathParameters());
+            }
+            
+            // Extract query parameters
+            Map<String, String> queryParams = request.queryParameters() != null 
+                    ? request.queryParameters() 
+                    : new HashMap<>();
+            
+            // A conditional GET validated recently enough is answered before anything is built or looked up
+            String requestKey = null;
+            if ("GET".equalsIgnoreCase(request.method())) {
+                requestKey = HttpCaching.requestKey(request.path(), request.queryString());
+                SerializedJson cached = caching.notModifiedFromCache(requestKey,
+                        request.header(IF_NONE_MATCH_HEADER), request.header(IF_MODIFIED_SINCE_HEADER));
+                if (cached != null) {
+                    return encode(createNotModifiedResponse(cached), cached, request);
+                }
+            }
+            
+            // Build what this class of route needs on its first use, timing it once per class
+            RouteClass routeClass = RouteClass.of(mapping.getAction());
+            long started = System.nanoTime();
+            CountryLambdaHandler countryHandler = handler.get();
+            if (routeClass == RouteClass.IMPORT) {
+                importReader.get();
+            }
+            if (initialisedRouteClasses.add(routeClass)) {
+                log.info("First {} request initialised its dependencies in {} ms",
+                        routeClass.name().toLowerCase(), (System.nanoTime() - started) / 1_000_000);
+            }
+            
+            // Bulk imports carry CSV or NDJSON rather than a single CountryInput
+            if (routeClass == RouteClass.IMPORT) {
+                return importCountries(countryHandler, request);
+            }
+            
+            // Parse request body if present
+            CountryInput body = null;
+            if (request.body() != null && !request.body().isEmpty()) {
+                body = codec.readInput(request.isBase64Encoded()
+                        ? new String(Base64.getDecoder().decode(request.body()), StandardCharsets.UTF_8)
+                        : request.body());
+            }
+            
+            // Delegate to handler
+            Object result = countryHandler.handleRequest(mapping.getAction(), pathParams, queryParams, body);
+            
+            // Build response; countries and lists already served for the same versions come from the cache
+            if (result == null) {
+                // DELETE returns 204 No Content
+                return createSuccessResponse(204, (String) null);
+            }
+            // Keyset page: body is the plain list, the continuation travels in a header
+            Object responseBody = result instanceof CountryPage page ? page.items() : result;
+            int statusCode = mapping.getAction().startsWith("CREATE") ? 201 : 200;
+            SerializedJson json = requestKey != null ? caching.validated(requestKey, responseBody) : caching.serialized(responseBody);
+            APIGatewayProxyResponseEvent response;
+            if (json == null) {
+                response = createSuccessResponse(statusCode, codec.writeValueAsString(responseBody));
+            } else if (requestKey == null) {
+                response = createSuccessResponse(statusCode, json);
+            } else if (HttpCaching.isNotModified(json, request.header(IF_NONE_MATCH_HEADER), request.header(IF_MODIFIED_SINCE_HEADER))) {
+                response = createNotModifiedResponse(json);
+            } else {
+                response = createSuccessResponse(statusCode, json);
+                caching.addHeaders(json, response.getHeaders()::put);
+            }
+            if (json != null) {
+                encode(response, json, request);
+            }
+            if (result instanceof CountryPage page && page.hasMore()) {
+                response.getHeaders().put(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response;
+            
+        } catch (IllegalArgumentException e) {
+            return createErrorResponse(400, "Bad Request", e.getMessage());
+        } catch (NoSuchElementException e) {
+            return createErrorResponse(404, "Not Found", e.getMessage());
+        } catch (CountryAlreadyExistsException | ConcurrentModificationException e) {
+            return createErrorResponse(409, "Conflict", e.getMessage());
+        } catch (Exception e) {
+            if (context != null) {
+                LambdaLogger logger = context.getLogger();
+                logger.log("Error processing request: " + e.getMessage());
+            } else {
+                log.error("Error processing request: {}", e.getMessage(), e);
+            }
+            return createErrorResponse(500, "Internal Server Error", "An unexpected error occurred");
+        }
+    }
+    
+    /**
+     * Builds the lazily created dependencies and runs routing, request parsing and response
+     * serialization once without querying the repository, so the classes they need are loaded and
+     * initialised, e.g. before a SnapStart checkpoint.
+     */
+    void prime() throws IOException {
+        handler.get();
+        importReader.get();
+        for (String path : List.of("/api/v1/countries", "/api/v1/countries/code/ZZ", "/api/v1/countries/code/ZZ/history",
+                "/api/v1/countries/code3/ZZZ", "/api/v1/countries/number/999")) {
+            routeMapper.map("GET", path);
+        }
+        routeMapper.map("POST", "/api/v1/countries/import");
+        CountryInput input = codec.readInput(
+                "{\"name\":\"Priming\",\"alpha2Code\":\"ZZ\",\"alpha3Code\":\"ZZZ\",\"numericCode\":\"999\"}");
+        Country country = Country.of(input.name(), input.alpha2Code(), input.alpha3Code(), input.numericCode(),
+                java.time.Instant.now(), null, false);
+        createSuccessResponse(200, codec.writeValueAsString(List.of(country)));
+        SerializedJson json = new CountryResponseCache(codec, 1).country(country);
+        caching.addHeaders(json, createSuccessResponse(200, json).getHeaders()::put);
+        HttpCaching.isNotModified(json, json.etag(), null);
+        acceptsGzip("gzip, deflate, br");
+        json.gzipBase64();
+        createErrorResponse(404, "Not Found", "Country not found: ZZ");
+    }
+    
+    private static <T> Supplier<T> constant(T value) {
+        return () -> value;
+    }
+    
+    /**
+     * Imports the rows of one request body. The payload is limited by API Gateway, but rows are still
+     * parsed and written chunk by chunk rather than all at once.
+     */
+    private APIGatewayProxyResponseEvent importCountries(CountryLambdaHandler countryHandler, LambdaHttpRequest request)
+            throws IOException {
+        CountryImportReader importReader = this.importReader.get();
+        String contentType = request.header(CONTENT_TYPE_HEADER);
+        if (!importReader.supports(contentType)) {
+            return createErrorResponse(415, "Unsupported Media Type",
+                    "Send " + CountryImportReader.CSV + " or " + CountryImportReader.NDJSON);
+        }
+        String body = request.body() != null ? request.body() : "";
+        byte[] bytes = request.isBase64Encoded()
+                ? Base64.getDecoder().decode(body)
+                : body.getBytes(StandardCharsets.UTF_8);
+        try (Stream<ImportRow> rows = importReader.read(new ByteArrayInputStream(bytes), contentType)) {
+            return createSuccessResponse(200, importMapper.get().writeValueAsString(countryHandler.importCountries(rows)));
+        }
+    }
+    
+    /**
+     * A REST API event. Header names keep the client's case, so lookups ignore it.
+     */
+    private record ProxyRequest(APIGatewayProxyRequestEvent event) implements LambdaHttpRequest {
+        @Override
+        public String method() {
+            return event.getHttpMethod();
+        }
+        
+        @Override
+        public String path() {
+            return event.getPath();
+        }
+        
+        @Override
+        public String header(String name) {
+            if (event.getHeaders() != null) {
+                for (Map.Entry<String, String> entry : event.getHeaders().entrySet()) {
+                    if (name.equalsIgnoreCase(entry.getKey())) {
+                        return entry.getValue();
+                    }
+                }
+            }
+            if (event.getMultiValueHeaders() != null) {
+                for (Map.Entry<String, List<String>> entry : event.getMultiValueHeaders().entrySet()) {
+                    if (name.equalsIgnoreCase(entry.getKey()) && !entry.getValue().isEmpty()) {
+                        return entry.getValue().get(0);
+                    }
+                }
+            }
+            return null;
+        }
+        
+        @Override
+        public Map<String, String> pathParameters() {
+            return event.getPathParameters();
+        }
+        
+        @Override
+        public Map<String, String> queryParameters() {
+            return event.getQueryStringParameters();
+        }
+        
+        /**
+         * REST API events carry no raw query string, so the parameters are joined in name order.
+         */
+        @Override
+        public String queryString() {
+            Map<String, String> queryParams = event.getQueryStringParameters();
+            if (queryParams == null || queryParams.isEmpty()) {
+                return null;
+            }
+            StringBuilder query = new StringBuilder();
+            for (Map.Entry<String, String> parameter : new TreeMap<>(queryParams).entrySet()) {
+                if (!query.isEmpty()) {
+                    query.append('&');
+                }
+                query.append(parameter.getKey()).append('=').append(parameter.getValue());
+            }
+            return query.toString();
+        }
+        
+        @Override
+        public String body() {
+            return event.getBody();
+        }
+        
+        @Override
+        public boolean isBase64Encoded() {
+            return Boolean.TRUE.equals(event.getIsBase64Encoded());
+        }
+    }
+    
+    private APIGatewayProxyResponseEvent createSuccessResponse(int statusCode, SerializedJson json) {
+        APIGatewayProxyResponseEvent response = createSuccessResponse(statusCode, json.text());
+        response.getHeaders().put(ETAG_HEADER, json.etag());
+        return response;
+    }
+    
+    /**
+     * Sends bodies of at least {@link #COMPRESSION_MIN_SIZE} bytes gzip-compressed, as base64 that API
+     * Gateway decodes, when the request accepts gzip. The compressed form is kept with the cached body.
+     * The ETag of a compressed response is weakened, since its bytes differ from the ones the tag hashes.
+     */
+    private static APIGatewayProxyResponseEvent encode(APIGatewayProxyResponseEvent response, SerializedJson json,
+                                                       LambdaHttpRequest request) {
+        if (json.bytes().length < COMPRESSION_MIN_SIZE) {
+            return response;
+        }
+        Map<String, String> headers = response.getHeaders();
+        headers.put("Vary", "Accept-Encoding");
+        if (!acceptsGzip(request.header(ACCEPT_ENCODING_HEADER))) {
+            return response;
+        }
+        if (headers.containsKey(ETAG_HEADER)) {
+            headers.put(ETAG_HEADER, "W/" + json.etag());
+        }
+        if (response.getBody() != null) {
+            headers.put("Content-Encoding", "gzip");
+            response.setBody(json.gzipBase64());
+            response.setIsBase64Encoded(true);
+        }
+        return response;
+    }
+    
+    /**
+     * Whether an {@code Accept-Encoding} value allows gzip: listed, or covered by {@code *}, without
+     * {@code q=0}.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim().toLowerCase();
+            boolean accepted = true;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        accepted = Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        accepted = false;
+                    }
+                }
+            }
+            if (name.equals("gzip") || name.equals("x-gzip")) {
+                return accepted;
+            }
+            if (name.equals("*")) {
+                wildcard = accepted;
+            }
+        }
+        return wildcard;
+    }
+    
+    private APIGatewayProxyResponseEvent createNotModifiedResponse(SerializedJson json) {
+        APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
+        response.setStatusCode(304);
+        Map<String, String> headers = new HashMap<>();
+        caching.addHeaders(json, headers::put);
+        response.setHeaders(headers);
+        return response;
+    }
+    
+    private APIGatewayProxyResponseEvent createSuccessResponse(int statusCode, String body) {
+        APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
+        response.setStatusCode(statusCode);
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        response.setHeaders(headers);
+        if (body != null) {
+            response.setBody(body);
+        }
+        return response;
+    }
+    
+    /**
+     * Routes grouped by the dependencies they need beyond the service itself.
+     */
+    private enum RouteClass {
+        READ, WRITE, IMPORT;
+        
+        static RouteClass of(String action) {
+            if ("IMPORT".equals(action)) {
+                return IMPORT;
+            }
+            return action.startsWith("CREATE") || action.startsWith("UPDATE") || action.startsWith("DELETE") ? WRITE : READ;
+        }
+    }
+    
+    private APIGatewayProxyResponseEvent createErrorResponse(int statusCode, String error, String message) {
+        APIGatewayProxyResponseEvent response = new APIGatewayProxyResponseEvent();
+        response.setStatusCode(statusCode);
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        response.setHeaders(headers);
+        
+        StringWriter body = new StringWriter(128);
+        try (JsonGenerator generator = codec.getFactory().createGenerator(body)) {
+            generator.writeStartObject();
+            generator.writeNumberField("status", statusCode);
+            generator.writeStringField("error", error);
+            generator.writeStringField("message", message);
+            generator.writeStringField("timestamp", java.time.Instant.now().toString());
+            generator.writeEndObject();
+            generator.flush();
+            response.setBody(body.toString());
+        } catch (Exception e) {
+            response.setBody("{\"status\":" + statusCode + ",\"error\":\"" + error + "\",\"message\":\"" + message + "\"}");
+        }
+        return response;
+    }
+}
@@ -52,6 +52,16 @@ public class ApiKeyValidator {
             }
         }
         
+        return isValidKey(apiKey);
+    }
+    
+    /**
+     * Validates an API key already taken from the request, e.g. from an HTTP API event.
+     * 
+     * @param apiKey the X-API-KEY header value, or null when it was not sent
+     * @return true if the key is the expected one
+     */
+    public boolean isValidKey(String apiKey) {
         return apiKey != null && Objects.equals(apiKey, expectedApiKey);
     }
 }
@@ -2,9 +2,13 @@ package com.example.country.adapters.lambda;
 
 import com.example.country.adapters.api.CountryApi;
 import com.example.country.application.model.CountryInput;
+import com.example.country.application.model.ImportReport;
+import com.example.country.application.model.ImportRow;
 
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 public class CountryLambdaHandler {
     private final CountryApi api;
@@ -15,7 +19,11 @@ public class CountryLambdaHandler {
 
     public Object handleRequest(String action, Map<String, String> pathParams, Map<String, String> queryParams, CountryInput body) {
         return switch (action) {
-            case "GET_ALL" -> api.listCountries(parseInt(queryParams.getOrDefault("limit", "20")), parseInt(queryParams.getOrDefault("offset", "0")));
+            case "GET_ALL" -> queryParams.containsKey("codes")
+                    ? api.getByAlpha2In(Arrays.asList(queryParams.get("codes").split(",")))
+                    : queryParams.containsKey("cursor")
+                    ? api.listCountriesPage(parseInt(queryParams.getOrDefault("limit", "20")), queryParams.get("cursor"))
+                    : api.listCountries(parseInt(queryParams.getOrDefault("limit", "20")), parseInt(queryParams.getOrDefault("offset", "0")));
             case "CREATE" -> api.createCountry(body);
             case "GET_ALPHA2" -> api.getByAlpha2(pathParams.get("alpha2Code"));
             case "UPDATE_ALPHA2" -> api.updateByAlpha2(pathParams.get("alpha2Code"), body);
@@ -30,6 +38,10 @@ public class CountryLambdaHandler {
         };
     }
 
+    public ImportReport importCountries(Stream<ImportRow> rows) {
+        return api.importCountries(rows);
+    }
+
     private int parseInt(String s) {
         return Integer.parseInt(s);
     }
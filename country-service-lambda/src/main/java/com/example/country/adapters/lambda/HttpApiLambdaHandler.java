@@ -0,0 +1,103 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * AWS Lambda handler for API Gateway HTTP APIs and Lambda Function URLs (payload format version 2.0).
+ * Requests take the same route mapping, validation and response caching as REST API events in
+ * {@link ApiGatewayLambdaHandler}; only reading the event and writing the response differ.
+ *
+ * <p>HTTP APIs lower-case header names and join repeated headers with commas, so headers are looked up
+ * directly in the event's map. Cookies arrive in a separate list that nothing here reads, and responses
+ * set none, so neither direction builds header or cookie collections of its own: the response headers
+ * are the ones the shared handler produced.
+ */
+public class HttpApiLambdaHandler implements RequestHandler<APIGatewayV2HTTPEvent, APIGatewayV2HTTPResponse> {
+
+    private final ApiGatewayLambdaHandler handler;
+
+    public HttpApiLambdaHandler(ApiGatewayLambdaHandler handler) {
+        this.handler = Objects.requireNonNull(handler);
+    }
+
+    @Override
+    public APIGatewayV2HTTPResponse handleRequest(APIGatewayV2HTTPEvent event, Context context) {
+        APIGatewayProxyResponseEvent response = handler.handle(new HttpApiRequest(event), context);
+        APIGatewayV2HTTPResponse result = new APIGatewayV2HTTPResponse();
+        result.setStatusCode(response.getStatusCode());
+        result.setHeaders(response.getHeaders());
+        result.setBody(response.getBody());
+        result.setIsBase64Encoded(Boolean.TRUE.equals(response.getIsBase64Encoded()));
+        return result;
+    }
+
+    private record HttpApiRequest(APIGatewayV2HTTPEvent event) implements LambdaHttpRequest {
+        @Override
+        public String method() {
+            APIGatewayV2HTTPEvent.RequestContext requestContext = event.getRequestContext();
+            return requestContext != null && requestContext.getHttp() != null
+                    ? requestContext.getHttp().getMethod()
+                    : null;
+        }
+
+        /**
+         * The raw path without the stage: HTTP APIs put the stage name in front of it for every stage but
+         * {@code $default}.
+         */
+        @Override
+        public String path() {
+            String path = event.getRawPath();
+            APIGatewayV2HTTPEvent.RequestContext requestContext = event.getRequestContext();
+            String stage = requestContext != null ? requestContext.getStage() : null;
+            if (path == null || stage == null || stage.isEmpty() || stage.equals("$default")) {
+                return path;
+            }
+            String prefix = "/" + stage;
+            if (path.equals(prefix)) {
+                return "/";
+            }
+            return path.startsWith(prefix + "/") ? path.substring(prefix.length()) : path;
+        }
+
+        @Override
+        public String header(String name) {
+            return event.getHeaders() != null ? event.getHeaders().get(name) : null;
+        }
+
+        @Override
+        public Map<String, String> pathParameters() {
+            return event.getPathParameters();
+        }
+
+        @Override
+        public Map<String, String> queryParameters() {
+            return event.getQueryStringParameters();
+        }
+
+        /**
+         * The raw query string as the client sent it, so no key is built for it.
+         */
+        @Override
+        public String queryString() {
+            String query = event.getRawQueryString();
+            return query == null || query.isEmpty() ? null : query;
+        }
+
+        @Override
+        public String body() {
+            return event.getBody();
+        }
+
+        @Override
+        public boolean isBase64Encoded() {
+            return event.getIsBase64Encoded();
+        }
+    }
+}
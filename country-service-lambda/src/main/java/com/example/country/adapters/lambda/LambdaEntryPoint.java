@@ -0,0 +1,183 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.persistence.DynamoDbCountryRepository;
+import com.example.country.adapters.persistence.DynamoDbStreamTailer;
+import com.example.country.application.CountryServiceImpl;
+import com.example.country.application.cache.CachingCountryRepository;
+import com.example.country.application.ports.CountryChangeListener;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.application.snapshot.SnapshotCountryRepository;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+/**
+ * AWS Lambda entry point for the Country Reference Service.
+ * 
+ * This class is the handler class configured in AWS Lambda.
+ * It wires the dependency graph and delegates to ApiGatewayLambdaHandler. The SDK client, repository
+ * and service are only built by the first request that needs them, so the init phase stays short and
+ * rejected requests never pay for them. With SnapStart the graph is built and primed before the
+ * snapshot is taken instead; see {@link SnapStartPriming}.
+ * 
+ * Handler: com.example.country.adapters.lambda.LambdaEntryPoint
+ * HTTP API or Function URL handler: com.example.country.adapters.lambda.LambdaEntryPoint::handleHttpApiRequest
+ */
+public class LambdaEntryPoint implements RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> {
+    
+    private final ApiGatewayLambdaHandler handler;
+    private final HttpApiLambdaHandler httpApiHandler;
+    // Held here because CRaC only keeps weak references to registered resources
+    private final SnapStartPriming priming;
+    
+    /**
+     * Default constructor for AWS Lambda.
+     * Creates dependencies from environment variables.
+     */
+    public LambdaEntryPoint() {
+        List<RenewableClient<?>> clients = new CopyOnWriteArrayList<>();
+        Lazy<RenewableClient<DynamoDbClient>> dynamoDb = Lazy.of(() -> {
+            RenewableClient<DynamoDbClient> client = RenewableClient.of(DynamoDbClient.class, LambdaEntryPoint::createDynamoDbClient);
+            clients.add(client);
+            return client;
+        });
+        Lazy<CountryRepositoryPort> repository = Lazy.of(() -> createRepository(dynamoDb.get().client(), clients));
+        this.handler = createHandler(repository);
+        this.httpApiHandler = new HttpApiLambdaHandler(handler);
+        this.priming = new SnapStartPriming(handler, dynamoDb, clients,
+                () -> repository.isInitialised() && repository.get() instanceof CountryChangeListener listener ? listener : null)
+                .register();
+    }
+    
+    /**
+     * Constructor for testing (allows dependency injection).
+     */
+    public LambdaEntryPoint(ApiGatewayLambdaHandler handler) {
+        this.handler = Objects.requireNonNull(handler);
+        this.httpApiHandler = new HttpApiLambdaHandler(handler);
+        this.priming = null;
+    }
+    
+    @Override
+    public APIGatewayProxyResponseEvent handleRequest(APIGatewayProxyRequestEvent event, Context context) {
+        return handler.handleRequest(event, context);
+    }
+    
+    /**
+     * Handles HTTP API and Function URL events (payload format version 2.0) with the same handler, so
+     * both share its caches and priming.
+     */
+    public APIGatewayV2HTTPResponse handleHttpApiRequest(APIGatewayV2HTTPEvent event, Context context) {
+        return httpApiHandler.handleRequest(event, context);
+    }
+    
+    /**
+     * Creates the full dependency graph for Lambda execution.
+     * Reads configuration from environment variables:
+     * - AWS_REGION: AWS region (automatically provided by Lambda, or default: us-east-1)
+     * - AWS_ENDPOINT_URL: Optional endpoint override (for LocalStack)
+     * - API_KEY: API key for authentication
+     * - DYNAMODB_TABLE_NAME: DynamoDB table name (default: Countries)
+     * - SNAPSHOT_ENABLED: Serve current-country reads from an in-memory snapshot of the table (default: false)
+     * - SNAPSHOT_REFRESH_SECONDS: Interval between snapshot reloads (default: 60)
+     * - SNAPSHOT_MAX_STALENESS_SECONDS: Oldest snapshot reads may be served from (default: 300)
+     * - CACHE_ENABLED: Cache repository reads for the lifetime of the execution environment (default: false)
+     * - CACHE_TTL_SECONDS: Time to live of cached lookups (default: 300)
+     * - CACHE_MAX_ENTRIES: Maximum number of cached lookups (default: 1000)
+     * - STREAMS_ENABLED: Apply other instances' writes to the cache/snapshot from the table's stream (default: false)
+     * - STREAMS_POLL_SECONDS: Interval between stream polls (default: 1)
+     * - HTTP_CACHE_MAX_AGE_SECONDS: Cache-Control max-age of GET responses (default: 60)
+     * - HTTP_CACHE_STALE_WHILE_REVALIDATE_SECONDS: Cache-Control stale-while-revalidate of GET responses (default: 300)
+     */
+    private static DynamoDbClient createDynamoDbClient() {
+        // Configure DynamoDB Client
+        // AWS_REGION is automatically provided by Lambda runtime, but we can override for LocalStack
+        String awsRegion = System.getenv("AWS_REGION");
+        String awsEndpointUrl = System.getenv("AWS_ENDPOINT_URL");
+        
+        var dynamoDbBuilder = DynamoDbClient.builder()
+                .overrideConfiguration(o -> o.addExecutionInterceptor(SnapStartPriming.dryRunInterceptor()));
+        
+        if (awsEndpointUrl != null && !awsEndpointUrl.isEmpty()) {
+            dynamoDbBuilder.endpointOverride(URI.create(awsEndpointUrl));
+        }
+        if (awsRegion != null && !awsRegion.isEmpty()) {
+            dynamoDbBuilder.region(software.amazon.awssdk.regions.Region.of(awsRegion));
+        } else {
+            // Lambda automatically provides AWS_REGION, but if not available, default to us-east-1
+            dynamoDbBuilder.region(Region.US_EAST_1);
+        }
+        
+        return dynamoDbBuilder.build();
+    }
+    
+    private static DynamoDbStreamsClient createStreamsClient(Region region) {
+        String awsEndpointUrl = System.getenv("AWS_ENDPOINT_URL");
+        var streamsBuilder = DynamoDbStreamsClient.builder().region(region);
+        if (awsEndpointUrl != null && !awsEndpointUrl.isEmpty()) {
+            streamsBuilder.endpointOverride(URI.create(awsEndpointUrl));
+        }
+        return streamsBuilder.build();
+    }
+    
+    private static CountryRepositoryPort createRepository(DynamoDbClient dynamoDbClient, List<RenewableClient<?>> clients) {
+        CountryRepositoryPort repository = new DynamoDbCountryRepository(dynamoDbClient);
+        if (Boolean.parseBoolean(System.getenv("SNAPSHOT_ENABLED"))) {
+            repository = new SnapshotCountryRepository(repository,
+                    Duration.ofSeconds(intEnv("SNAPSHOT_MAX_STALENESS_SECONDS", 300)))
+                    .start(Duration.ofSeconds(intEnv("SNAPSHOT_REFRESH_SECONDS", 60)));
+        }
+        if (Boolean.parseBoolean(System.getenv("CACHE_ENABLED"))) {
+            repository = new CachingCountryRepository(repository,
+                    Duration.ofSeconds(intEnv("CACHE_TTL_SECONDS", 300)),
+                    intEnv("CACHE_MAX_ENTRIES", 1000));
+        }
+        if (Boolean.parseBoolean(System.getenv("STREAMS_ENABLED")) && repository instanceof CountryChangeListener listener) {
+            // Polls while the execution environment is thawed; a position lost while frozen triggers a resync
+            Region region = dynamoDbClient.serviceClientConfiguration().region();
+            RenewableClient<DynamoDbStreamsClient> streams = RenewableClient.of(DynamoDbStreamsClient.class, () -> createStreamsClient(region));
+            clients.add(streams);
+            new DynamoDbStreamTailer(dynamoDbClient, streams.client(), listener)
+                    .start(Duration.ofSeconds(intEnv("STREAMS_POLL_SECONDS", 1)));
+        }
+        return repository;
+    }
+    
+    private static ApiGatewayLambdaHandler createHandler(Supplier<CountryRepositoryPort> repository) {
+        Lazy<CountryLambdaHandler> lambdaHandler = Lazy.of(() -> {
+            CountryServiceImpl countryService = new CountryServiceImpl(repository.get());
+            return new CountryLambdaHandler(new CountryApi(countryService));
+        });
+        
+        // Lambda-specific components
+        String apiKey = System.getenv("API_KEY");
+        if (apiKey == null || apiKey.isEmpty()) {
+            throw new IllegalStateException("API_KEY environment variable must be set");
+        }
+        ApiKeyValidator apiKeyValidator = new ApiKeyValidator(apiKey);
+        RouteMapper routeMapper = new RouteMapper();
+        
+        return new ApiGatewayLambdaHandler(lambdaHandler, apiKeyValidator, routeMapper,
+                Duration.ofSeconds(intEnv("HTTP_CACHE_MAX_AGE_SECONDS", 60)),
+                Duration.ofSeconds(intEnv("HTTP_CACHE_STALE_WHILE_REVALIDATE_SECONDS", 300)));
+    }
+    
+    private static int intEnv(String name, int defaultValue) {
+        String value = System.getenv(name);
+        return value == null || value.isEmpty() ? defaultValue : Integer.parseInt(value);
+    }
+}
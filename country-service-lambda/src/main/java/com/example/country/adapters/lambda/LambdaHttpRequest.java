@@ -0,0 +1,36 @@
+package com.example.country.adapters.lambda;
+
+import java.util.Map;
+
+/**
+ * The parts of an HTTP request event that {@link ApiGatewayLambdaHandler} reads, so REST API (payload
+ * version 1.0) and HTTP API or Function URL (payload version 2.0) events share one request path. Each
+ * implementation reads its event in place rather than copying it into the other format.
+ */
+interface LambdaHttpRequest {
+
+    String method();
+
+    String path();
+
+    /**
+     * The value of a request header, or {@code null}.
+     *
+     * @param name the header name in lower case, as HTTP APIs deliver them
+     */
+    String header(String name);
+
+    Map<String, String> pathParameters();
+
+    Map<String, String> queryParameters();
+
+    /**
+     * The query string in a stable form, so that the same request always has the same cache key, or
+     * {@code null} when there is none.
+     */
+    String queryString();
+
+    String body();
+
+    boolean isBase64Encoded();
+}
@@ -0,0 +1,44 @@
+package com.example.country.adapters.lambda;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A supplier that creates its value on the first {@link #get()} and returns the same instance afterwards.
+ *
+ * <p>Lambda bills the init phase of every execution environment, so components that only some routes
+ * need are built behind one of these instead of in the entry point's constructor.
+ */
+final class Lazy<T> implements Supplier<T> {
+    private Supplier<T> factory;
+    private volatile T value;
+
+    private Lazy(Supplier<T> factory) {
+        this.factory = Objects.requireNonNull(factory);
+    }
+
+    static <T> Lazy<T> of(Supplier<T> factory) {
+        return new Lazy<>(factory);
+    }
+
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = Objects.requireNonNull(factory.get());
+                    value = result;
+                    // Lets whatever the factory captured be collected
+                    factory = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    boolean isInitialised() {
+        return value != null;
+    }
+}
@@ -0,0 +1,221 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Runtime loop for running {@link LambdaEntryPoint} as a native executable on the {@code provided.al2023}
+ * runtime, where there is no Java runtime to call the handler.
+ *
+ * <p>The executable is the function's {@code bootstrap}: it builds the entry point once, then repeatedly
+ * fetches the next invocation from the Lambda Runtime API, hands the API Gateway event to the handler and
+ * posts the response back. When the function's handler is set to
+ * {@code LambdaEntryPoint::handleHttpApiRequest}, events are read in the HTTP API format instead. Failures of an invocation are reported to the Runtime API as function errors;
+ * a failure to build the entry point is reported as an init error and ends the process.
+ *
+ * @see <a href="https://docs.aws.amazon.com/lambda/latest/dg/runtimes-api.html">Lambda Runtime API</a>
+ */
+public final class NativeLambdaRuntime {
+    private static final Logger log = LoggerFactory.getLogger(NativeLambdaRuntime.class);
+    private static final String API_VERSION = "2018-06-01";
+    private static final String HTTP_SERVICE_PROPERTY = "software.amazon.awssdk.http.service.impl";
+
+    private final HttpClient http;
+    private final URI runtimeApi;
+    private final ObjectMapper objectMapper;
+
+    NativeLambdaRuntime(HttpClient http, String runtimeApiAddress) {
+        this.http = Objects.requireNonNull(http);
+        this.runtimeApi = URI.create("http://" + runtimeApiAddress + "/" + API_VERSION + "/runtime/");
+        this.objectMapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setDefaultPropertyInclusion(JsonInclude.Include.NON_NULL);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String runtimeApiAddress = System.getenv("AWS_LAMBDA_RUNTIME_API");
+        if (runtimeApiAddress == null || runtimeApiAddress.isEmpty()) {
+            throw new IllegalStateException("AWS_LAMBDA_RUNTIME_API environment variable must be set");
+        }
+        // Only the Apache client is compiled into the image, so skip the SDK's classpath scan for HTTP clients
+        if (System.getProperty(HTTP_SERVICE_PROPERTY) == null) {
+            System.setProperty(HTTP_SERVICE_PROPERTY, "software.amazon.awssdk.http.apache.ApacheSdkHttpService");
+        }
+        NativeLambdaRuntime runtime = new NativeLambdaRuntime(HttpClient.newHttpClient(), runtimeApiAddress);
+
+        LambdaEntryPoint entryPoint;
+        try {
+            entryPoint = new LambdaEntryPoint();
+        } catch (RuntimeException | Error e) {
+            runtime.reportError("init/error", e);
+            System.exit(1);
+            return;
+        }
+        boolean httpApi = String.valueOf(System.getenv("_HANDLER")).endsWith("::handleHttpApiRequest");
+        while (true) {
+            try {
+                if (httpApi) {
+                    runtime.processNext(entryPoint::handleHttpApiRequest, APIGatewayV2HTTPEvent.class);
+                } else {
+                    runtime.processNext(entryPoint);
+                }
+            } catch (IOException e) {
+                // The Runtime API is local to the execution environment, so this is rare; try the next invocation
+                log.error("Lambda Runtime API request failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Waits for the next invocation, runs it through the handler and reports the outcome.
+     */
+    void processNext(RequestHandler<APIGatewayProxyRequestEvent, APIGatewayProxyResponseEvent> handler)
+            throws IOException, InterruptedException {
+        processNext(handler, APIGatewayProxyRequestEvent.class);
+    }
+
+    /**
+     * Waits for the next invocation, reads it as an {@code eventType} and runs it through the handler.
+     */
+    <I, O> void processNext(RequestHandler<I, O> handler, Class<I> eventType) throws IOException, InterruptedException {
+        HttpResponse<byte[]> next = http.send(HttpRequest.newBuilder(runtimeApi.resolve("invocation/next")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        String requestId = next.headers().firstValue("Lambda-Runtime-Aws-Request-Id")
+                .orElseThrow(() -> new IOException("Invocation without Lambda-Runtime-Aws-Request-Id"));
+        next.headers().firstValue("Lambda-Runtime-Trace-Id")
+                .ifPresentOrElse(trace -> System.setProperty("com.amazonaws.xray.traceHeader", trace),
+                        () -> System.clearProperty("com.amazonaws.xray.traceHeader"));
+        long deadline = next.headers().firstValueAsLong("Lambda-Runtime-Deadline-Ms").orElse(Long.MAX_VALUE);
+        String functionArn = next.headers().firstValue("Lambda-Runtime-Invoked-Function-Arn").orElse(null);
+
+        byte[] response;
+        try {
+            I event = objectMapper.readValue(next.body(), eventType);
+            response = objectMapper.writeValueAsBytes(
+                    handler.handleRequest(event, new InvocationContext(requestId, functionArn, deadline)));
+        } catch (Exception | Error e) {
+            reportError("invocation/" + requestId + "/error", e);
+            return;
+        }
+        post("invocation/" + requestId + "/response", response, Map.of());
+    }
+
+    private void reportError(String path, Throwable error) {
+        log.error("Reporting {} to the Lambda Runtime API", path, error);
+        Map<String, String> body = Map.of(
+                "errorMessage", String.valueOf(error.getMessage()),
+                "errorType", error.getClass().getName());
+        try {
+            post(path, objectMapper.writeValueAsBytes(body),
+                    Map.of("Lambda-Runtime-Function-Error-Type", "Runtime." + error.getClass().getSimpleName()));
+        } catch (IOException e) {
+            log.error("Could not report {}: {}", path, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void post(String path, byte[] body, Map<String, String> headers) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(runtimeApi.resolve(path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        headers.forEach(request::header);
+        HttpResponse<Void> response = http.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("Lambda Runtime API returned " + response.statusCode() + " for " + path);
+        }
+    }
+
+    /**
+     * The parts of the invocation context the Runtime API provides; the rest comes from the environment.
+     */
+    private record InvocationContext(String awsRequestId, String invokedFunctionArn, long deadlineMillis) implements Context {
+        private static final LambdaLogger LOGGER = new LambdaLogger() {
+            @Override
+            public void log(String message) {
+                System.out.println(message);
+            }
+
+            @Override
+            public void log(byte[] message) {
+                System.out.println(new String(message, StandardCharsets.UTF_8));
+            }
+        };
+
+        @Override
+        public String getAwsRequestId() {
+            return awsRequestId;
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return System.getenv("AWS_LAMBDA_LOG_GROUP_NAME");
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return System.getenv("AWS_LAMBDA_LOG_STREAM_NAME");
+        }
+
+        @Override
+        public String getFunctionName() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_NAME");
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return System.getenv("AWS_LAMBDA_FUNCTION_VERSION");
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return invokedFunctionArn;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getRemainingTimeInMillis() {
+            return (int) Math.max(0, Math.min(Integer.MAX_VALUE, deadlineMillis - System.currentTimeMillis()));
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            String memory = System.getenv("AWS_LAMBDA_FUNCTION_MEMORY_SIZE");
+            return memory == null ? 0 : Integer.parseInt(memory);
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return LOGGER;
+        }
+    }
+}
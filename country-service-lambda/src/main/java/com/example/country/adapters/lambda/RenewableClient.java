@@ -0,0 +1,61 @@
+package com.example.country.adapters.lambda;
+
+import software.amazon.awssdk.core.SdkClient;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * An SDK client whose underlying instance can be replaced while callers keep their reference.
+ *
+ * <p>Restoring a SnapStart snapshot brings back the client exactly as it was at checkpoint, with the
+ * credentials it had resolved and the sockets in its connection pool. {@link #renew()} builds a fresh
+ * client from the factory, so both are obtained again, and closes the old one.
+ */
+final class RenewableClient<T extends SdkClient> implements InvocationHandler {
+    private final Supplier<T> factory;
+    private final AtomicReference<T> current;
+    private final T proxy;
+
+    private RenewableClient(Class<T> type, Supplier<T> factory) {
+        this.factory = Objects.requireNonNull(factory);
+        this.current = new AtomicReference<>(Objects.requireNonNull(factory.get()));
+        this.proxy = type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, this));
+    }
+
+    static <T extends SdkClient> RenewableClient<T> of(Class<T> type, Supplier<T> factory) {
+        return new RenewableClient<>(type, factory);
+    }
+
+    /**
+     * The client to hand to repositories; every call goes to the current instance.
+     */
+    T client() {
+        return proxy;
+    }
+
+    void renew() {
+        current.getAndSet(factory.get()).close();
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if (method.getDeclaringClass() == Object.class) {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> "RenewableClient[" + current.get() + "]";
+            };
+        }
+        try {
+            return method.invoke(current.get(), args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -85,6 +85,9 @@ public class RouteMapper {
         if ("/api/v1/countries".equals(path)) {
             return new RouteMapping("CREATE", new HashMap<>());
         }
+        if ("/api/v1/countries/import".equals(path)) {
+            return new RouteMapping("IMPORT", new HashMap<>());
+        }
         return null;
     }
     
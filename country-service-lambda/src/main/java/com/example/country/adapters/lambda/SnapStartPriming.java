@@ -0,0 +1,149 @@
+package com.example.country.adapters.lambda;
+
+import com.example.country.application.ports.CountryChangeListener;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * CRaC hooks for Lambda SnapStart.
+ *
+ * <p>Before the checkpoint the handler builds its lazily created dependencies and runs its routing and
+ * JSON paths once, and a GetItem and a Query
+ * are marshalled and signed but stopped before they are sent, so the classes behind the first request
+ * are loaded and initialised in the snapshot rather than after restore. After restore the SDK clients
+ * are rebuilt, because the credentials and pooled connections captured in the snapshot are stale, and
+ * the cache or snapshot is told that changes were missed while the environment was frozen.
+ *
+ * <p>CRaC only keeps weak references to resources, so the owner must hold on to this object.
+ */
+public class SnapStartPriming implements Resource {
+    private static final Logger log = LoggerFactory.getLogger(SnapStartPriming.class);
+    private static final ExecutionAttribute<Boolean> DRY_RUN = new ExecutionAttribute<>("CountryPrimingDryRun");
+
+    private final ApiGatewayLambdaHandler handler;
+    private final Supplier<RenewableClient<DynamoDbClient>> dynamoDb;
+    private final List<RenewableClient<?>> clients;
+    private final Supplier<CountryChangeListener> listener;
+
+    /**
+     * The DynamoDB client and the listener may be created lazily; {@code clients} is read at each hook,
+     * so it should be a thread-safe list the owner adds clients to as it creates them.
+     */
+    SnapStartPriming(ApiGatewayLambdaHandler handler, Supplier<RenewableClient<DynamoDbClient>> dynamoDb,
+                     List<RenewableClient<?>> clients, Supplier<CountryChangeListener> listener) {
+        this.handler = Objects.requireNonNull(handler);
+        this.dynamoDb = Objects.requireNonNull(dynamoDb);
+        this.clients = Objects.requireNonNull(clients);
+        this.listener = Objects.requireNonNull(listener);
+    }
+
+    /**
+     * Interceptor to install on the DynamoDB client so that priming requests are never sent.
+     */
+    static ExecutionInterceptor dryRunInterceptor() {
+        return new ExecutionInterceptor() {
+            @Override
+            public void beforeTransmission(software.amazon.awssdk.core.interceptor.Context.BeforeTransmission context,
+                                           ExecutionAttributes executionAttributes) {
+                if (Boolean.TRUE.equals(executionAttributes.getAttribute(DRY_RUN))) {
+                    throw new DryRunComplete();
+                }
+            }
+        };
+    }
+
+    SnapStartPriming register() {
+        Core.getGlobalContext().register(this);
+        return this;
+    }
+
+    @Override
+    public void beforeCheckpoint(Context<? extends Resource> context) {
+        long started = System.nanoTime();
+        try {
+            handler.prime();
+        } catch (Exception e) {
+            log.warn("Handler priming failed: {}", e.getMessage());
+        }
+        int primed = primeSdk();
+        // Connections opened so far must not end up in the snapshot
+        clients.forEach(RenewableClient::renew);
+        log.info("Primed handler and {} SDK requests in {} ms", primed, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @Override
+    public void afterRestore(Context<? extends Resource> context) {
+        clients.forEach(RenewableClient::renew);
+        CountryChangeListener missed = listener.get();
+        if (missed != null) {
+            missed.onChangesMissed();
+        }
+    }
+
+    /**
+     * Marshals and signs one request per read path without sending it. Returns how many got as far as
+     * transmission; signing fails when no credentials are available, which is logged and tolerated.
+     */
+    int primeSdk() {
+        Map<String, AttributeValue> key = Map.of(
+                "alpha2Code", AttributeValue.builder().s("ZZ").build(),
+                "createDate", AttributeValue.builder().s("LATEST").build());
+        DynamoDbClient client = dynamoDb.get().client();
+        int primed = 0;
+        primed += dryRun(() -> client.getItem(GetItemRequest.builder()
+                .tableName("Countries")
+                .key(key)
+                .consistentRead(true)
+                .overrideConfiguration(o -> o.putExecutionAttribute(DRY_RUN, true))
+                .build()));
+        primed += dryRun(() -> client.query(QueryRequest.builder()
+                .tableName("Countries")
+                .indexName("GSI-Current")
+                .keyConditionExpression("currentPartition = :current")
+                .expressionAttributeValues(Map.of(":current", AttributeValue.builder().s("CURRENT").build()))
+                .limit(1)
+                .overrideConfiguration(o -> o.putExecutionAttribute(DRY_RUN, true))
+                .build()));
+        return primed;
+    }
+
+    private static int dryRun(Runnable request) {
+        try {
+            request.run();
+            log.warn("Priming request was sent; the dry-run interceptor is not installed");
+        } catch (RuntimeException e) {
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof DryRunComplete) {
+                    return 1;
+                }
+            }
+            log.warn("Priming request failed: {}", e.getMessage());
+        }
+        return 0;
+    }
+
+    private static final class DryRunComplete extends RuntimeException {
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        DryRunComplete() {
+            super("Priming request stopped before transmission", null, false, false);
+        }
+    }
+}
@@ -0,0 +1,564 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.example.country.adapters.api.CountryApi;
+import com.example.country.adapters.api.HttpCaching;
+import com.example.country.application.CountryServiceImpl;
+import com.example.country.application.model.CountryInput;
+import com.example.country.application.ports.CountryRepositoryPort;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class ApiGatewayLambdaHandlerTest {
+    
+    static class InMemoryRepo implements CountryRepositoryPort {
+        private final Map<String, List<Country>> byAlpha2 = new HashMap<>();
+        @Override public Country saveNewVersion(Country country) {
+            byAlpha2.computeIfAbsent(country.alpha2Code(), k -> new ArrayList<>()).add(country);
+            return country;
+        }
+        @Override public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+            return byAlpha2.getOrDefault(alpha2Code, List.of()).stream().max(Comparator.comparing(Country::createDate));
+        }
+        @Override public Optional<Country> findLatestByAlpha3(String alpha3Code) {
+            return byAlpha2.values().stream().flatMap(List::stream).filter(c -> c.alpha3Code().equals(alpha3Code))
+                    .max(Comparator.comparing(Country::createDate));
+        }
+        @Override public Optional<Country> findLatestByNumeric(String numericCode) {
+            return byAlpha2.values().stream().flatMap(List::stream).filter(c -> c.numericCode().equals(numericCode))
+                    .max(Comparator.comparing(Country::createDate));
+        }
+        @Override public List<Country> listLatest(int limit, int offset) {
+            return byAlpha2.values().stream()
+                    .map(list -> list.stream().max(Comparator.comparing(Country::createDate)).orElse(null))
+                    .filter(Objects::nonNull)
+                    .sorted(Comparator.comparing(Country::alpha2Code))
+                    .skip(offset)
+                    .limit(limit)
+                    .toList();
+        }
+        @Override public List<Country> historyByAlpha2(String alpha2Code) {
+            return byAlpha2.getOrDefault(alpha2Code, List.of()).stream()
+                    .sorted(Comparator.comparing(Country::createDate).reversed()).toList();
+        }
+    }
+
+    private ApiGatewayLambdaHandler handler;
+    @Mock
+    private Context mockContext;
+    @Mock
+    private LambdaLogger mockLogger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        InMemoryRepo repo = new InMemoryRepo();
+        CountryApi api = new CountryApi(new CountryServiceImpl(repo));
+        CountryLambdaHandler lambdaHandler = new CountryLambdaHandler(api);
+        ApiKeyValidator validator = new ApiKeyValidator("test-key");
+        RouteMapper routeMapper = new RouteMapper();
+        handler = new ApiGatewayLambdaHandler(lambdaHandler, validator, routeMapper);
+        
+        when(mockContext.getLogger()).thenReturn(mockLogger);
+    }
+
+    @Test
+    void handlesGetAllCountries() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        event.setHeaders(headers);
+        event.setQueryStringParameters(Map.of("limit", "20", "offset", "0"));
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(200, response.getStatusCode());
+        assertNotNull(response.getBody());
+    }
+
+    @Test
+    void handlesGetAllCountriesWithCursor() {
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        for (String body : List.of(
+                "{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}",
+                "{\"name\":\"France\",\"alpha2Code\":\"FR\",\"alpha3Code\":\"FRA\",\"numericCode\":\"250\"}")) {
+            APIGatewayProxyRequestEvent createEvent = new APIGatewayProxyRequestEvent();
+            createEvent.setHttpMethod("POST");
+            createEvent.setPath("/api/v1/countries");
+            createEvent.setHeaders(headers);
+            createEvent.setBody(body);
+            handler.handleRequest(createEvent, mockContext);
+        }
+
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries");
+        event.setHeaders(headers);
+        event.setQueryStringParameters(Map.of("limit", "1", "cursor", ""));
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(response.getBody().startsWith("["));
+        assertTrue(response.getBody().contains("\"FR\""));
+        assertNotNull(response.getHeaders().get("X-Next-Cursor"));
+
+        event.setQueryStringParameters(Map.of("limit", "1", "cursor", response.getHeaders().get("X-Next-Cursor")));
+        var next = handler.handleRequest(event, mockContext);
+
+        assertEquals(200, next.getStatusCode());
+        assertTrue(next.getBody().contains("\"GB\""));
+    }
+
+    @Test
+    void handlesGetByAlpha2() {
+        // First create a country
+        APIGatewayProxyRequestEvent createEvent = new APIGatewayProxyRequestEvent();
+        createEvent.setHttpMethod("POST");
+        createEvent.setPath("/api/v1/countries");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        createEvent.setHeaders(headers);
+        createEvent.setBody("{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+
+        handler.handleRequest(createEvent, mockContext);
+
+        // Then get it
+        APIGatewayProxyRequestEvent getEvent = new APIGatewayProxyRequestEvent();
+        getEvent.setHttpMethod("GET");
+        getEvent.setPath("/api/v1/countries/code/GB");
+        getEvent.setHeaders(headers);
+        // Path params are extracted from path by RouteMapper, so we don't need to set them
+
+        var response = handler.handleRequest(getEvent, mockContext);
+
+        assertEquals(200, response.getStatusCode());
+        assertNotNull(response.getBody());
+        // Response should be valid JSON with country data
+        assertTrue(response.getBody().length() > 0);
+        assertTrue(response.getBody().startsWith("{"));
+        // Verify all required fields are present in the response
+        assertTrue(response.getBody().contains("\"name\""), "Response should contain 'name' field");
+        assertTrue(response.getBody().contains("\"alpha2Code\""), "Response should contain 'alpha2Code' field");
+        assertTrue(response.getBody().contains("\"alpha3Code\""), "Response should contain 'alpha3Code' field");
+        assertTrue(response.getBody().contains("\"numericCode\""), "Response should contain 'numericCode' field");
+        assertTrue(response.getBody().contains("\"createDate\""), "Response should contain 'createDate' field");
+        assertTrue(response.getBody().contains("\"isDeleted\""), "Response should contain 'isDeleted' field");
+    }
+
+    @Test
+    void handlesCreateCountry() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("POST");
+        event.setPath("/api/v1/countries");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        event.setHeaders(headers);
+        event.setBody("{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(201, response.getStatusCode());
+        assertNotNull(response.getBody());
+        // Response should be valid JSON with country data
+        assertTrue(response.getBody().length() > 0);
+        assertTrue(response.getBody().startsWith("{"));
+        // Verify all required fields are present in the response
+        assertTrue(response.getBody().contains("\"name\""), "Response should contain 'name' field");
+        assertTrue(response.getBody().contains("\"alpha2Code\""), "Response should contain 'alpha2Code' field");
+        assertTrue(response.getBody().contains("\"alpha3Code\""), "Response should contain 'alpha3Code' field");
+        assertTrue(response.getBody().contains("\"numericCode\""), "Response should contain 'numericCode' field");
+        assertTrue(response.getBody().contains("\"createDate\""), "Response should contain 'createDate' field");
+        assertTrue(response.getBody().contains("\"isDeleted\""), "Response should contain 'isDeleted' field");
+    }
+
+    @Test
+    void handlesBulkImport() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("POST");
+        event.setPath("/api/v1/countries/import");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        headers.put("content-type", "application/x-ndjson");
+        event.setHeaders(headers);
+        event.setBody("{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}\n"
+                + "{\"name\":\"France\",\"alpha2Code\":\"FR\",\"alpha3Code\":\"FRA\",\"numericCode\":\"25\"}\n");
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"imported\":1"), response.getBody());
+        assertTrue(response.getBody().contains("\"row\":2"), response.getBody());
+
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries/code/GB");
+        event.setBody(null);
+        assertEquals(200, handler.handleRequest(event, mockContext).getStatusCode());
+    }
+
+    @Test
+    void rejectsBulkImportInUnsupportedFormat() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("POST");
+        event.setPath("/api/v1/countries/import");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        headers.put("Content-Type", "application/json");
+        event.setHeaders(headers);
+        event.setBody("[]");
+
+        assertEquals(415, handler.handleRequest(event, mockContext).getStatusCode());
+    }
+
+    @Test
+    void handlesDeleteCountry() {
+        // First create a country
+        APIGatewayProxyRequestEvent createEvent = new APIGatewayProxyRequestEvent();
+        createEvent.setHttpMethod("POST");
+        createEvent.setPath("/api/v1/countries");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        createEvent.setHeaders(headers);
+        createEvent.setBody("{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+
+        handler.handleRequest(createEvent, mockContext);
+
+        // Then delete it
+        APIGatewayProxyRequestEvent deleteEvent = new APIGatewayProxyRequestEvent();
+        deleteEvent.setHttpMethod("DELETE");
+        deleteEvent.setPath("/api/v1/countries/code/GB");
+        deleteEvent.setHeaders(headers);
+        // Path params are extracted from path by RouteMapper
+
+        var response = handler.handleRequest(deleteEvent, mockContext);
+
+        assertEquals(204, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void returns409WhenCreatingDuplicateCountry() {
+        APIGatewayProxyRequestEvent createEvent = new APIGatewayProxyRequestEvent();
+        createEvent.setHttpMethod("POST");
+        createEvent.setPath("/api/v1/countries");
+        createEvent.setHeaders(Map.of("X-API-KEY", "test-key"));
+        createEvent.setBody("{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+
+        assertEquals(201, handler.handleRequest(createEvent, mockContext).getStatusCode());
+        var response = handler.handleRequest(createEvent, mockContext);
+
+        assertEquals(409, response.getStatusCode());
+        assertTrue(response.getBody().contains("already exists"));
+    }
+
+    @Test
+    void returns409WhenCountryModifiedConcurrently() {
+        InMemoryRepo conflictingRepo = new InMemoryRepo() {
+            @Override public Country supersede(Country previous, Country next) {
+                throw new ConcurrentModificationException("Country GB was modified concurrently");
+            }
+        };
+        conflictingRepo.saveNewVersion(Country.of("United Kingdom", "GB", "GBR", "826", java.time.Instant.now(), null, false));
+        ApiGatewayLambdaHandler conflictingHandler = new ApiGatewayLambdaHandler(
+                new CountryLambdaHandler(new CountryApi(new CountryServiceImpl(conflictingRepo))),
+                new ApiKeyValidator("test-key"), new RouteMapper());
+
+        APIGatewayProxyRequestEvent deleteEvent = new APIGatewayProxyRequestEvent();
+        deleteEvent.setHttpMethod("DELETE");
+        deleteEvent.setPath("/api/v1/countries/code/GB");
+        deleteEvent.setHeaders(Map.of("X-API-KEY", "test-key"));
+
+        var response = conflictingHandler.handleRequest(deleteEvent, mockContext);
+
+        assertEquals(409, response.getStatusCode());
+        assertTrue(response.getBody().contains("Conflict"));
+    }
+
+    @Test
+    void rejectsMissingApiKey() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries");
+        event.setHeaders(new HashMap<>());
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(401, response.getStatusCode());
+        assertTrue(response.getBody().contains("Unauthorized"));
+    }
+
+    @Test
+    void rejectsInvalidApiKey() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "wrong-key");
+        event.setHeaders(headers);
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(401, response.getStatusCode());
+        assertTrue(response.getBody().contains("Unauthorized"));
+    }
+
+    @Test
+    void returns404ForUnknownRoute() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/unknown");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        event.setHeaders(headers);
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(404, response.getStatusCode());
+        assertTrue(response.getBody().contains("Not Found"));
+    }
+
+    @Test
+    void returns400ForBadRequest() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("POST");
+        event.setPath("/api/v1/countries");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        event.setHeaders(headers);
+        event.setBody("{\"invalid\":\"json\""); // Invalid JSON
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(500, response.getStatusCode()); // JSON parsing error results in 500
+    }
+
+    @Test
+    void returns404ForNotFoundCountry() {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod("GET");
+        event.setPath("/api/v1/countries/code/XX");
+        Map<String, String> headers = new HashMap<>();
+        headers.put("X-API-KEY", "test-key");
+        event.setHeaders(headers);
+        // Path params are extracted from path by RouteMapper
+
+        var response = handler.handleRequest(event, mockContext);
+
+        assertEquals(404, response.getStatusCode());
+        assertTrue(response.getBody().contains("Not Found"));
+    }
+
+    @Test
+    void buildsServiceGraphOnceAndOnlyForRoutedRequests() {
+        AtomicInteger built = new AtomicInteger();
+        ApiGatewayLambdaHandler lazyHandler = new ApiGatewayLambdaHandler(Lazy.of(() -> {
+            built.incrementAndGet();
+            return new CountryLambdaHandler(new CountryApi(new CountryServiceImpl(new InMemoryRepo())));
+        }), new ApiKeyValidator("test-key"), new RouteMapper());
+        APIGatewayProxyRequestEvent unauthorised = new APIGatewayProxyRequestEvent();
+        unauthorised.setHttpMethod("GET");
+        unauthorised.setPath("/api/v1/countries");
+        unauthorised.setHeaders(new HashMap<>());
+        APIGatewayProxyRequestEvent unknown = new APIGatewayProxyRequestEvent();
+        unknown.setHttpMethod("GET");
+        unknown.setPath("/api/v1/unknown");
+        unknown.setHeaders(Map.of("X-API-KEY", "test-key"));
+
+        assertEquals(401, lazyHandler.handleRequest(unauthorised, mockContext).getStatusCode());
+        assertEquals(404, lazyHandler.handleRequest(unknown, mockContext).getStatusCode());
+        assertEquals(0, built.get(), "Rejected requests must not build the service graph");
+
+        APIGatewayProxyRequestEvent list = new APIGatewayProxyRequestEvent();
+        list.setHttpMethod("GET");
+        list.setPath("/api/v1/countries");
+        list.setHeaders(Map.of("X-API-KEY", "test-key"));
+        assertEquals(200, lazyHandler.handleRequest(list, mockContext).getStatusCode());
+        assertEquals(200, lazyHandler.handleRequest(list, mockContext).getStatusCode());
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    void servesRepeatedGetsFromTheResponseCacheUntilANewVersionIsSaved() {
+        Map<String, String> headers = Map.of("X-API-KEY", "test-key");
+        APIGatewayProxyRequestEvent create = new APIGatewayProxyRequestEvent();
+        create.setHttpMethod("POST");
+        create.setPath("/api/v1/countries");
+        create.setHeaders(headers);
+        create.setBody("{\"name\":\"United Kingdom\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+        handler.handleRequest(create, mockContext);
+        APIGatewayProxyRequestEvent get = new APIGatewayProxyRequestEvent();
+        get.setHttpMethod("GET");
+        get.setPath("/api/v1/countries/code/GB");
+        get.setHeaders(headers);
+
+        var first = handler.handleRequest(get, mockContext);
+        var second = handler.handleRequest(get, mockContext);
+
+        assertNotNull(first.getHeaders().get("ETag"));
+        assertEquals(first.getHeaders().get("ETag"), second.getHeaders().get("ETag"));
+        assertSame(first.getBody(), second.getBody(), "A warm lookup should serve the stored body");
+
+        APIGatewayProxyRequestEvent update = new APIGatewayProxyRequestEvent();
+        update.setHttpMethod("PUT");
+        update.setPath("/api/v1/countries/code/GB");
+        update.setHeaders(headers);
+        update.setBody("{\"name\":\"United Kingdom of Great Britain\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+        assertEquals(200, handler.handleRequest(update, mockContext).getStatusCode());
+
+        var afterUpdate = handler.handleRequest(get, mockContext);
+
+        assertTrue(afterUpdate.getBody().contains("United Kingdom of Great Britain"));
+        assertNotEquals(first.getHeaders().get("ETag"), afterUpdate.getHeaders().get("ETag"));
+    }
+
+    @Test
+    void answersConditionalGetsWithoutALookupWhileRecentlyValidated() {
+        AtomicInteger lookups = new AtomicInteger();
+        InMemoryRepo repo = new InMemoryRepo() {
+            @Override public Optional<Country> findLatestByAlpha2(String alpha2Code) {
+                lookups.incrementAndGet();
+                return super.findLatestByAlpha2(alpha2Code);
+            }
+        };
+        ApiGatewayLambdaHandler cachingHandler = new ApiGatewayLambdaHandler(
+                () -> new CountryLambdaHandler(new CountryApi(new CountryServiceImpl(repo))),
+                new ApiKeyValidator("test-key"), new RouteMapper(), Duration.ofMinutes(1), Duration.ofMinutes(5));
+        repo.saveNewVersion(Country.of("United Kingdom", "GB", "GBR", "826", Instant.parse("2024-01-01T00:00:00Z"), null, false));
+        APIGatewayProxyRequestEvent get = new APIGatewayProxyRequestEvent();
+        get.setHttpMethod("GET");
+        get.setPath("/api/v1/countries/code/GB");
+        get.setHeaders(new HashMap<>(Map.of("X-API-KEY", "test-key")));
+
+        var ok = cachingHandler.handleRequest(get, mockContext);
+
+        assertEquals(200, ok.getStatusCode());
+        String etag = ok.getHeaders().get("ETag");
+        assertNotNull(etag);
+        assertEquals("Mon, 01 Jan 2024 00:00:00 GMT", ok.getHeaders().get("Last-Modified"));
+        assertEquals("max-age=60, stale-while-revalidate=300", ok.getHeaders().get("Cache-Control"));
+        assertEquals(1, lookups.get());
+
+        get.getHeaders().put("If-None-Match", etag);
+        var notModified = cachingHandler.handleRequest(get, mockContext);
+
+        assertEquals(304, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+        assertEquals(etag, notModified.getHeaders().get("ETag"));
+        assertEquals(1, lookups.get(), "A recently validated response must not be looked up again");
+
+        get.getHeaders().remove("If-None-Match");
+        get.getHeaders().put("If-Modified-Since", "Tue, 02 Jan 2024 00:00:00 GMT");
+        assertEquals(304, cachingHandler.handleRequest(get, mockContext).getStatusCode());
+
+        APIGatewayProxyRequestEvent update = new APIGatewayProxyRequestEvent();
+        update.setHttpMethod("PUT");
+        update.setPath("/api/v1/countries/code/GB");
+        update.setHeaders(Map.of("X-API-KEY", "test-key"));
+        update.setBody("{\"name\":\"United Kingdom of Great Britain\",\"alpha2Code\":\"GB\",\"alpha3Code\":\"GBR\",\"numericCode\":\"826\"}");
+        assertEquals(200, cachingHandler.handleRequest(update, mockContext).getStatusCode());
+        get.getHeaders().remove("If-Modified-Since");
+        get.getHeaders().put("If-None-Match", etag);
+
+        var changed = cachingHandler.handleRequest(get, mockContext);
+
+        assertEquals(200, changed.getStatusCode());
+        assertNotEquals(etag, changed.getHeaders().get("ETag"));
+        assertTrue(changed.getBody().contains("United Kingdom of Great Britain"));
+    }
+
+    private static APIGatewayProxyRequestEvent request(String method, String path, String body) {
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent();
+        event.setHttpMethod(method);
+        event.setPath(path);
+        event.setHeaders(new HashMap<>(Map.of("X-API-KEY", "test-key")));
+        event.setBody(body);
+        return event;
+    }
+
+    @Test
+    void listsIgnoreIfModifiedSinceSoDeletesAreSeen() {
+        handler.handleRequest(request("POST", "/api/v1/countries",
+                "{\"name\":\"France\",\"alpha2Code\":\"FR\",\"alpha3Code\":\"FRA\",\"numericCode\":\"250\"}"), mockContext);
+        handler.handleRequest(request("POST", "/api/v1/countries",
+                "{\"name\":\"Germany\",\"alpha2Code\":\"DE\",\"alpha3Code\":\"DEU\",\"numericCode\":\"276\"}"), mockContext);
+        APIGatewayProxyRequestEvent list = request("GET", "/api/v1/countries", null);
+        var first = handler.handleRequest(list, mockContext);
+        assertNull(first.getHeaders().get("Last-Modified"));
+
+        assertEquals(204, handler.handleRequest(request("DELETE", "/api/v1/countries/code/FR", null), mockContext).getStatusCode());
+        list.getHeaders().put("If-Modified-Since", HttpCaching.httpDate(Instant.now().plusSeconds(60)));
+        var afterDelete = handler.handleRequest(list, mockContext);
+
+        assertEquals(200, afterDelete.getStatusCode(), "A 304 would keep serving the deleted country");
+        assertNotEquals(first.getBody(), afterDelete.getBody());
+    }
+
+    @Test
+    void compressesLargeBodiesForClientsThatAcceptGzip() throws Exception {
+        for (int i = 0; i < 30; i++) {
+            APIGatewayProxyRequestEvent create = new APIGatewayProxyRequestEvent();
+            create.setHttpMethod("POST");
+            create.setPath("/api/v1/countries");
+            create.setHeaders(Map.of("X-API-KEY", "test-key"));
+            String alpha2 = "" + (char) ('A' + i / 26) + (char) ('A' + i % 26);
+            // Sent as API Gateway does once binary media types are enabled
+            create.setBody(Base64.getEncoder().encodeToString(("{\"name\":\"Country " + i + "\",\"alpha2Code\":\"" + alpha2
+                    + "\",\"alpha3Code\":\"" + alpha2 + "X\",\"numericCode\":\"" + (100 + i) + "\"}").getBytes(StandardCharsets.UTF_8)));
+            create.setIsBase64Encoded(true);
+            assertEquals(201, handler.handleRequest(create, mockContext).getStatusCode());
+        }
+        APIGatewayProxyRequestEvent list = new APIGatewayProxyRequestEvent();
+        list.setHttpMethod("GET");
+        list.setPath("/api/v1/countries");
+        list.setHeaders(new HashMap<>(Map.of("X-API-KEY", "test-key")));
+
+        var plain = handler.handleRequest(list, mockContext);
+        list.getHeaders().put("Accept-Encoding", "gzip, deflate, br");
+        var compressed = handler.handleRequest(list, mockContext);
+
+        assertNotEquals(Boolean.TRUE, plain.getIsBase64Encoded());
+        assertTrue(plain.getBody().length() >= ApiGatewayLambdaHandler.COMPRESSION_MIN_SIZE);
+        assertEquals("Accept-Encoding", plain.getHeaders().get("Vary"));
+        assertEquals(Boolean.TRUE, compressed.getIsBase64Encoded());
+        assertEquals("gzip", compressed.getHeaders().get("Content-Encoding"));
+        assertEquals("W/" + plain.getHeaders().get("ETag"), compressed.getHeaders().get("ETag"));
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(compressed.getBody())))) {
+            assertEquals(plain.getBody(), new String(gzip.readAllBytes(), StandardCharsets.UTF_8));
+        }
+
+        list.setPath("/api/v1/countries/code/AA");
+        var small = handler.handleRequest(list, mockContext);
+        assertNull(small.getHeaders().get("Content-Encoding"), "Bodies below the threshold are sent as they are");
+    }
+
+    @Test
+    void negotiatesGzipFromAcceptEncoding() {
+        assertTrue(ApiGatewayLambdaHandler.acceptsGzip("gzip"));
+        assertTrue(ApiGatewayLambdaHandler.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+        assertTrue(ApiGatewayLambdaHandler.acceptsGzip("*"));
+        assertFalse(ApiGatewayLambdaHandler.acceptsGzip("gzip;q=0, *"));
+        assertFalse(ApiGatewayLambdaHandler.acceptsGzip("*;q=0"));
+        assertFalse(ApiGatewayLambdaHandler.acceptsGzip("identity, br"));
+        assertFalse(ApiGatewayLambdaHandler.acceptsGzip(null));
+    }
+}
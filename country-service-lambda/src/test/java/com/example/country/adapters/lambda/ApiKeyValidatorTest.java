@@ -85,4 +85,13 @@ class ApiKeyValidatorTest {
     void rejectsNullExpectedApiKey() {
         assertThrows(NullPointerException.class, () -> new ApiKeyValidator(null));
     }
+
+    @Test
+    void validatesKeysTakenFromTheRequest() {
+        ApiKeyValidator validator = new ApiKeyValidator("test-key");
+
+        assertTrue(validator.isValidKey("test-key"));
+        assertFalse(validator.isValidKey("wrong-key"));
+        assertFalse(validator.isValidKey(null));
+    }
 }
@@ -61,6 +61,19 @@ class CountryLambdaHandlerTest {
         assertTrue(list instanceof List<?>);
     }
 
+    @Test
+    void handleGetAllWithCodes() {
+        InMemoryRepo repo = new InMemoryRepo();
+        CountryApi api = new CountryApi(new CountryServiceImpl(repo));
+        CountryLambdaHandler handler = new CountryLambdaHandler(api);
+        handler.handleRequest("CREATE", Map.of(), Map.of(), new CountryInput("United Kingdom", "GB", "GBR", "826"));
+        handler.handleRequest("CREATE", Map.of(), Map.of(), new CountryInput("France", "FR", "FRA", "250"));
+
+        Object result = handler.handleRequest("GET_ALL", Map.of(), Map.of("codes", "FR,XX,GB"), null);
+
+        assertEquals(List.of("FR", "GB"), ((List<?>) result).stream().map(c -> ((Country) c).alpha2Code()).toList());
+    }
+
     @Test
     void handleGetAllWithDefaults() {
         InMemoryRepo repo = new InMemoryRepo();
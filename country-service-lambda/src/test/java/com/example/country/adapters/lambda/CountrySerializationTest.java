@@ -1,9 +1,7 @@
 package com.example.country.adapters.lambda;
 
+import com.example.country.adapters.json.CountryJsonCodec;
 import com.example.country.domain.Country;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,18 +15,15 @@ class CountrySerializationTest {
 
     @Test
     void shouldSerializeCountryWithAllFields() throws Exception {
-        // Create ObjectMapper with the same configuration as ApiGatewayLambdaHandler
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.addMixIn(Country.class, CountryJacksonMixIn.class);
+        // The codec ApiGatewayLambdaHandler writes responses with
+        CountryJsonCodec codec = new CountryJsonCodec();
         
         // Create a Country object
         Country country = Country.of("United Kingdom", "GB", "GBR", "826", 
                 Instant.now(), null, false);
         
         // Serialize to JSON
-        String json = objectMapper.writeValueAsString(country);
+        String json = codec.writeValueAsString(country);
         
         // Verify all fields are present
         assertNotNull(json);
@@ -51,11 +46,8 @@ class CountrySerializationTest {
     
     @Test
     void shouldSerializeListOfCountries() throws Exception {
-        // Create ObjectMapper with the same configuration as ApiGatewayLambdaHandler
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.addMixIn(Country.class, CountryJacksonMixIn.class);
+        // The codec ApiGatewayLambdaHandler writes responses with
+        CountryJsonCodec codec = new CountryJsonCodec();
         
         // Create multiple Country objects
         Country country1 = Country.of("United Kingdom", "GB", "GBR", "826", 
@@ -64,7 +56,7 @@ class CountrySerializationTest {
                 Instant.now(), null, false);
         
         // Serialize list to JSON
-        String json = objectMapper.writeValueAsString(java.util.List.of(country1, country2));
+        String json = codec.writeValueAsString(java.util.List.of(country1, country2));
         
         // Verify all fields are present for each country
         assertNotNull(json);
@@ -0,0 +1,128 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayV2HTTPResponse;
+import com.example.country.adapters.api.CountryApi;
+import com.example.country.application.CountryServiceImpl;
+import com.example.country.domain.Country;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpApiLambdaHandlerTest {
+
+    private HttpApiLambdaHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        ApiGatewayLambdaHandlerTest.InMemoryRepo repo = new ApiGatewayLambdaHandlerTest.InMemoryRepo();
+        for (int i = 0; i < 30; i++) {
+            String alpha2 = "" + (char) ('A' + i / 26) + (char) ('A' + i % 26);
+            repo.saveNewVersion(Country.of("Country " + i, alpha2, alpha2 + "X", String.valueOf(100 + i),
+                    Instant.parse("2024-01-01T00:00:00Z").plusSeconds(i), null, false));
+        }
+        handler = new HttpApiLambdaHandler(new ApiGatewayLambdaHandler(
+                new CountryLambdaHandler(new CountryApi(new CountryServiceImpl(repo))),
+                new ApiKeyValidator("test-key"), new RouteMapper()));
+    }
+
+    private static APIGatewayV2HTTPEvent event(String method, String path, Map<String, String> headers) {
+        return APIGatewayV2HTTPEvent.builder()
+                .withRawPath(path)
+                .withHeaders(new HashMap<>(headers))
+                .withCookies(List.of("session=abc"))
+                .withRequestContext(APIGatewayV2HTTPEvent.RequestContext.builder()
+                        .withHttp(APIGatewayV2HTTPEvent.RequestContext.Http.builder().withMethod(method).withPath(path).build())
+                        .build())
+                .build();
+    }
+
+    @Test
+    void handlesGetByAlpha2() {
+        APIGatewayV2HTTPResponse response = handler.handleRequest(
+                event("GET", "/api/v1/countries/code/AB", Map.of("x-api-key", "test-key")), null);
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"alpha2Code\":\"AB\""));
+        assertNotNull(response.getHeaders().get("ETag"));
+        assertFalse(response.getIsBase64Encoded());
+        assertNull(response.getCookies());
+    }
+
+    @Test
+    void stripsANamedStageFromTheRawPath() {
+        APIGatewayV2HTTPEvent event = event("GET", "/prod/api/v1/countries/code/AB", Map.of("x-api-key", "test-key"));
+        event.getRequestContext().setStage("prod");
+
+        APIGatewayV2HTTPResponse response = handler.handleRequest(event, null);
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(response.getBody().contains("\"alpha2Code\":\"AB\""));
+
+        APIGatewayV2HTTPEvent defaultStage = event("GET", "/api/v1/countries/code/AB", Map.of("x-api-key", "test-key"));
+        defaultStage.getRequestContext().setStage("$default");
+        assertEquals(200, handler.handleRequest(defaultStage, null).getStatusCode());
+    }
+
+    @Test
+    void rejectsMissingApiKey() {
+        APIGatewayV2HTTPResponse response = handler.handleRequest(
+                event("GET", "/api/v1/countries/code/AB", Map.of()), null);
+
+        assertEquals(401, response.getStatusCode());
+    }
+
+    @Test
+    void answersConditionalGetsFromTheRawQueryString() {
+        APIGatewayV2HTTPEvent list = event("GET", "/api/v1/countries", Map.of("x-api-key", "test-key"));
+        list.setRawQueryString("limit=5");
+        list.setQueryStringParameters(Map.of("limit", "5"));
+        String etag = handler.handleRequest(list, null).getHeaders().get("ETag");
+
+        list.getHeaders().put("if-none-match", etag);
+        APIGatewayV2HTTPResponse response = handler.handleRequest(list, null);
+
+        assertEquals(304, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    void compressesLargeBodiesForClientsThatAcceptGzip() throws Exception {
+        APIGatewayV2HTTPEvent list = event("GET", "/api/v1/countries",
+                Map.of("x-api-key", "test-key", "accept-encoding", "gzip, br"));
+
+        APIGatewayV2HTTPResponse response = handler.handleRequest(list, null);
+
+        assertEquals(200, response.getStatusCode());
+        assertTrue(response.getIsBase64Encoded());
+        assertEquals("gzip", response.getHeaders().get("Content-Encoding"));
+        try (GZIPInputStream gzip = new GZIPInputStream(
+                new ByteArrayInputStream(Base64.getDecoder().decode(response.getBody())))) {
+            assertTrue(new String(gzip.readAllBytes(), StandardCharsets.UTF_8).contains("\"alpha2Code\":\"AB\""));
+        }
+    }
+
+    @Test
+    void createsCountriesFromBase64Bodies() {
+        APIGatewayV2HTTPEvent create = event("POST", "/api/v1/countries",
+                Map.of("x-api-key", "test-key", "content-type", "application/json"));
+        create.setBody(Base64.getEncoder().encodeToString(
+                "{\"name\":\"Zedland\",\"alpha2Code\":\"ZZ\",\"alpha3Code\":\"ZZZ\",\"numericCode\":\"999\"}"
+                        .getBytes(StandardCharsets.UTF_8)));
+        create.setIsBase64Encoded(true);
+
+        assertEquals(201, handler.handleRequest(create, null).getStatusCode());
+        assertEquals(200, handler.handleRequest(event("GET", "/api/v1/countries/code/ZZ",
+                Map.of("x-api-key", "test-key")), null).getStatusCode());
+    }
+}
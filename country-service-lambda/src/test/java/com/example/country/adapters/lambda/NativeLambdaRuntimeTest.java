@@ -0,0 +1,98 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs invocations against a stand-in for the Lambda Runtime API.
+ */
+class NativeLambdaRuntimeTest {
+
+    private static final String EVENT = """
+            {"httpMethod":"GET","path":"/api/v1/countries/code/GB","headers":{"X-API-KEY":"key"},
+             "pathParameters":{"alpha2Code":"GB"},"isBase64Encoded":false,
+             "requestContext":{"requestId":"abc","stage":"prod","identity":{"sourceIp":"127.0.0.1"}},
+             "unknownField":"ignored"}""";
+
+    private HttpServer server;
+    private final Map<String, String> posted = new ConcurrentHashMap<>();
+    private final Map<String, String> errorTypes = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void startRuntimeApi() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/2018-06-01/runtime/invocation/next", exchange -> {
+            byte[] body = EVENT.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Lambda-Runtime-Aws-Request-Id", "request-1");
+            exchange.getResponseHeaders().add("Lambda-Runtime-Deadline-Ms", Long.toString(System.currentTimeMillis() + 30_000));
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        server.createContext("/2018-06-01/runtime/invocation/request-1/", exchange -> {
+            String path = exchange.getRequestURI().getPath();
+            posted.put(path.substring(path.lastIndexOf('/') + 1),
+                    new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            String errorType = exchange.getRequestHeaders().getFirst("Lambda-Runtime-Function-Error-Type");
+            if (errorType != null) {
+                errorTypes.put("error", errorType);
+            }
+            exchange.sendResponseHeaders(202, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void stopRuntimeApi() {
+        server.stop(0);
+    }
+
+    private NativeLambdaRuntime runtime() {
+        return new NativeLambdaRuntime(HttpClient.newHttpClient(), "127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    @Test
+    void postsTheHandlersResponseForTheInvocation() throws Exception {
+        runtime().processNext((event, context) -> {
+            assertEquals("GET", event.getHttpMethod());
+            assertEquals("GB", event.getPathParameters().get("alpha2Code"));
+            assertEquals("abc", event.getRequestContext().getRequestId());
+            assertEquals("request-1", context.getAwsRequestId());
+            assertTrue(context.getRemainingTimeInMillis() > 0);
+            return new APIGatewayProxyResponseEvent()
+                    .withStatusCode(200)
+                    .withHeaders(Map.of("Content-Type", "application/json"))
+                    .withBody("{\"alpha2Code\":\"GB\"}");
+        });
+
+        String response = posted.get("response");
+        assertNotNull(response);
+        assertTrue(response.contains("\"statusCode\":200"), response);
+        assertTrue(response.contains("\"body\":\"{\\\"alpha2Code\\\":\\\"GB\\\"}\""), response);
+        assertFalse(response.contains("multiValueHeaders"), "Unset fields are left out: " + response);
+    }
+
+    @Test
+    void reportsHandlerFailuresAsFunctionErrors() throws Exception {
+        runtime().processNext((event, context) -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertNull(posted.get("response"));
+        assertTrue(posted.get("error").contains("\"errorMessage\":\"boom\""), posted.get("error"));
+        assertEquals("Runtime.IllegalStateException", errorTypes.get("error"));
+    }
+}
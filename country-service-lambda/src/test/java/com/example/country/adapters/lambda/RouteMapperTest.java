@@ -61,6 +61,15 @@ class RouteMapperTest {
         assertTrue(mapping.getPathParams().isEmpty());
     }
 
+    @Test
+    void mapsPostImport() {
+        RouteMapping mapping = mapper.map("POST", "/api/v1/countries/import");
+        
+        assertNotNull(mapping);
+        assertEquals("IMPORT", mapping.getAction());
+        assertTrue(mapping.getPathParams().isEmpty());
+    }
+
     @Test
     void mapsPutUpdate() {
         RouteMapping mapping = mapper.map("PUT", "/api/v1/countries/code/GB");
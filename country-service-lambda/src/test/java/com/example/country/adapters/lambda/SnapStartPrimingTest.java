@@ -0,0 +1,93 @@
+package com.example.country.adapters.lambda;
+
+import com.example.country.application.ports.CountryChangeListener;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.GetItemRequest;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SnapStartPrimingTest {
+
+    private static ApiGatewayLambdaHandler handler() {
+        return new ApiGatewayLambdaHandler(mock(CountryLambdaHandler.class), new ApiKeyValidator("key"), new RouteMapper());
+    }
+
+    private static DynamoDbClient dryRunClient() {
+        // Nothing listens on this port, so a request that was actually sent would fail
+        return DynamoDbClient.builder()
+                .region(Region.EU_WEST_2)
+                .endpointOverride(URI.create("http://127.0.0.1:9"))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("test", "test")))
+                .overrideConfiguration(o -> o.addExecutionInterceptor(SnapStartPriming.dryRunInterceptor()))
+                .build();
+    }
+
+    @Test
+    void primingRequestsAreSignedButNotSent() {
+        RenewableClient<DynamoDbClient> dynamoDb = RenewableClient.of(DynamoDbClient.class, SnapStartPrimingTest::dryRunClient);
+
+        SnapStartPriming priming = new SnapStartPriming(handler(), () -> dynamoDb, List.of(dynamoDb), () -> null);
+
+        assertEquals(2, priming.primeSdk());
+    }
+
+    @Test
+    void renewingReplacesTheClientBehindTheSameReference() {
+        List<DynamoDbClient> built = new ArrayList<>();
+        RenewableClient<DynamoDbClient> renewable = RenewableClient.of(DynamoDbClient.class, () -> {
+            DynamoDbClient client = mock(DynamoDbClient.class);
+            built.add(client);
+            return client;
+        });
+        DynamoDbClient client = renewable.client();
+
+        renewable.renew();
+        client.getItem(GetItemRequest.builder().tableName("Countries").build());
+
+        assertEquals(2, built.size());
+        verify(built.get(0)).close();
+        verify(built.get(0), never()).getItem(any(GetItemRequest.class));
+        verify(built.get(1)).getItem(any(GetItemRequest.class));
+    }
+
+    @Test
+    void checkpointPrimesAndDropsConnections() {
+        List<DynamoDbClient> built = new ArrayList<>();
+        RenewableClient<DynamoDbClient> dynamoDb = RenewableClient.of(DynamoDbClient.class, () -> {
+            DynamoDbClient client = dryRunClient();
+            built.add(client);
+            return client;
+        });
+
+        new SnapStartPriming(handler(), () -> dynamoDb, List.of(dynamoDb), () -> null).beforeCheckpoint(null);
+
+        assertEquals(2, built.size(), "The client used for priming must not be the one in the snapshot");
+    }
+
+    @Test
+    void restoreRenewsClientsAndReportsMissedChanges() {
+        List<DynamoDbClient> built = new ArrayList<>();
+        RenewableClient<DynamoDbClient> dynamoDb = RenewableClient.of(DynamoDbClient.class, () -> {
+            DynamoDbClient client = mock(DynamoDbClient.class);
+            built.add(client);
+            return client;
+        });
+        CountryChangeListener listener = mock(CountryChangeListener.class);
+
+        new SnapStartPriming(handler(), () -> dynamoDb, List.of(dynamoDb), () -> listener).afterRestore(null);
+
+        assertEquals(2, built.size());
+        verify(built.get(0)).close();
+        verify(listener).onChangesMissed();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.country.adapters.lambda;
+
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyRequestEvent;
+import com.amazonaws.services.lambda.runtime.events.APIGatewayProxyResponseEvent;
+import org.crac.Core;
+
+import java.util.Map;
+
+/**
+ * Stands in for the Lambda runtime in {@link SnapStartRestoreTest}: builds the entry point, takes a
+ * checkpoint, and once restored handles a single request and prints its status code.
+ */
+class SnapStartRestoreHarness {
+
+    public static void main(String[] args) throws Exception {
+        LambdaEntryPoint entryPoint = new LambdaEntryPoint();
+        Core.checkpointRestore();
+
+        APIGatewayProxyRequestEvent event = new APIGatewayProxyRequestEvent()
+                .withHttpMethod("GET")
+                .withPath("/api/v1/unknown")
+                .withHeaders(Map.of("X-API-KEY", System.getenv("API_KEY")));
+        APIGatewayProxyResponseEvent response = entryPoint.handleRequest(event, null);
+        System.out.println("RESPONSE " + response.getStatusCode());
+        System.out.flush();
+        System.exit(0);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.country.adapters.lambda;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checkpoints {@link SnapStartRestoreHarness} on a CRaC-enabled JDK and measures the time from starting
+ * the restore to the first response, which is what SnapStart saves on a cold start.
+ *
+ * <p>Needs a JDK with CRaC support (e.g. Azul Zulu with CRaC) on Linux, pointed to by {@code CRAC_JAVA_HOME}:
+ * {@code CRAC_JAVA_HOME=/opt/zulu21-crac ./gradlew :country-service-lambda:integrationTest --tests '*SnapStartRestoreTest'}
+ */
+@Tag("integration")
+@EnabledIfEnvironmentVariable(named = "CRAC_JAVA_HOME", matches = ".+")
+class SnapStartRestoreTest {
+    private static final Logger log = LoggerFactory.getLogger(SnapStartRestoreTest.class);
+
+    @TempDir
+    Path checkpointDir;
+
+    @Test
+    void restoredFunctionAnswersItsFirstRequestQuickly() throws Exception {
+        String java = Path.of(System.getenv("CRAC_JAVA_HOME"), "bin", "java").toString();
+
+        Process checkpoint = start(List.of(java, "-XX:CRaCCheckpointTo=" + checkpointDir,
+                "-cp", System.getProperty("java.class.path"), SnapStartRestoreHarness.class.getName()));
+        assertTrue(checkpoint.waitFor(2, TimeUnit.MINUTES), "Checkpoint did not complete");
+        try (var files = Files.list(checkpointDir)) {
+            assertTrue(files.findAny().isPresent(), "No checkpoint image was written");
+        }
+
+        long started = System.nanoTime();
+        Process restore = start(List.of(java, "-XX:CRaCRestoreFrom=" + checkpointDir));
+        String response = firstResponse(restore);
+        Duration restoreToFirstResponse = Duration.ofNanos(System.nanoTime() - started);
+        restore.waitFor(30, TimeUnit.SECONDS);
+
+        log.info("Restore to first response: {} ms", restoreToFirstResponse.toMillis());
+        assertEquals("RESPONSE 404", response);
+        assertTrue(restoreToFirstResponse.compareTo(Duration.ofSeconds(5)) < 0,
+                "Restore to first response took " + restoreToFirstResponse.toMillis() + " ms");
+    }
+
+    private static Process start(List<String> command) throws IOException {
+        ProcessBuilder builder = new ProcessBuilder(new ArrayList<>(command)).redirectErrorStream(true);
+        builder.environment().put("API_KEY", "restore-test-key");
+        builder.environment().put("AWS_REGION", "eu-west-2");
+        // Nothing listens here; the first request must be answered without calling DynamoDB
+        builder.environment().put("AWS_ENDPOINT_URL", "http://127.0.0.1:9");
+        builder.environment().put("AWS_ACCESS_KEY_ID", "test");
+        builder.environment().put("AWS_SECRET_ACCESS_KEY", "test");
+        return builder.start();
+    }
+
+    private static String firstResponse(Process process) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("RESPONSE ")) {
+                    return line;
+                }
+            }
+        }
+        fail("Restored process exited without responding");
+        return null;
+    }
+}
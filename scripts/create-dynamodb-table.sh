@@ -43,6 +43,7 @@ aws dynamodb create-table \
         AttributeName=createDate,AttributeType=S \
         AttributeName=alpha3Code,AttributeType=S \
         AttributeName=numericCode,AttributeType=S \
+        AttributeName=currentPartition,AttributeType=S \
     --key-schema \
         AttributeName=alpha2Code,KeyType=HASH \
         AttributeName=createDate,KeyType=RANGE \
@@ -68,6 +69,16 @@ aws dynamodb create-table \
                 \"Projection\": {
                     \"ProjectionType\": \"ALL\"
                 }
+            },
+            {
+                \"IndexName\": \"GSI-Current\",
+                \"KeySchema\": [
+                    {\"AttributeName\": \"currentPartition\", \"KeyType\": \"HASH\"},
+                    {\"AttributeName\": \"alpha2Code\", \"KeyType\": \"RANGE\"}
+                ],
+                \"Projection\": {
+                    \"ProjectionType\": \"ALL\"
+                }
             }
         ]" \
     2>&1 | grep -v "ResourceInUseException" || echo "✅ Table already exists or created successfully"
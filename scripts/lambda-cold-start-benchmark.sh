@@ -0,0 +1,146 @@
+#!/bin/bash
+
+# Script to compare cold starts of the Lambda packages locally
+# Runs each package in the AWS Lambda base image, which includes the Runtime Interface Emulator,
+# and measures:
+# 1. Time from container start to the first response
+# 2. Resident memory of the function process after that response
+#
+# Prerequisites:
+# - Docker
+# - LocalStack running with the table created and seeded (./scripts/start-localstack.sh, ./scripts/setup-local-dynamodb.sh)
+# - The JVM package built: ./gradlew :country-service-lambda:buildLambdaPackage
+# - Optionally the native package: ./gradlew :country-service-lambda:buildNativeLambdaPackage (needs GraalVM)
+#
+# Usage: ./scripts/lambda-cold-start-benchmark.sh [runs]
+#   runs: Cold starts per package (default: 5)
+#   BASELINE_JAR: Another JVM package to compare against, e.g. one built from an earlier commit
+
+set -e
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+PROJECT_ROOT="$(cd "$SCRIPT_DIR/.." && pwd)"
+RUNS="${1:-5}"
+PORT=9000
+API_KEY="benchmark-key"
+CONTAINER="country-lambda-benchmark"
+
+LIBS_DIR="$PROJECT_ROOT/country-service-lambda/build/libs"
+DIST_DIR="$PROJECT_ROOT/country-service-lambda/build/distributions"
+JAR=$(ls "$LIBS_DIR"/country-service-lambda-*.jar 2>/dev/null | head -1)
+NATIVE_ZIP=$(ls "$DIST_DIR"/country-service-lambda-native-*.zip 2>/dev/null | head -1)
+
+if [ -z "$JAR" ]; then
+    echo "❌ Build the Lambda package first: ./gradlew :country-service-lambda:buildLambdaPackage"
+    exit 1
+fi
+if [ -n "$BASELINE_JAR" ] && [ ! -f "$BASELINE_JAR" ]; then
+    echo "❌ BASELINE_JAR not found: $BASELINE_JAR"
+    exit 1
+fi
+if ! curl -s http://localhost:4566/_localstack/health | grep -q "\"dynamodb\": \"available\""; then
+    echo "❌ LocalStack is not running. Start it with ./scripts/start-localstack.sh and seed it with ./scripts/setup-local-dynamodb.sh"
+    exit 1
+fi
+
+NATIVE_DIR=$(mktemp -d)
+if [ -n "$NATIVE_ZIP" ]; then
+    unzip -q "$NATIVE_ZIP" -d "$NATIVE_DIR"
+fi
+
+cleanup() {
+    docker rm -f "$CONTAINER" > /dev/null 2>&1 || true
+    rm -rf "$NATIVE_DIR"
+}
+trap cleanup EXIT
+
+EVENT=$(cat <<EOF
+{"httpMethod":"GET","path":"/api/v1/countries/code/GB","resource":"/api/v1/countries/code/{alpha2Code}",
+ "headers":{"X-API-KEY":"$API_KEY"},"pathParameters":{"alpha2Code":"GB"},"isBase64Encoded":false,
+ "requestContext":{"requestId":"benchmark","stage":"local"}}
+EOF
+)
+
+now_ms() {
+    date +%s%3N
+}
+
+# Starts a container, waits for the first successful invocation and prints "<ms to first response> <RSS in KB>"
+# Usage: measure <image> <volume> [command]
+measure() {
+    local image="$1"
+    local volume="$2"
+    shift 2
+    docker rm -f "$CONTAINER" > /dev/null 2>&1 || true
+    local started
+    started=$(now_ms)
+    docker run -d --name "$CONTAINER" -p $PORT:8080 \
+        --add-host=host.docker.internal:host-gateway \
+        -e AWS_REGION=us-east-1 \
+        -e AWS_ACCESS_KEY_ID=test \
+        -e AWS_SECRET_ACCESS_KEY=test \
+        -e AWS_ENDPOINT_URL=http://host.docker.internal:4566 \
+        -e API_KEY="$API_KEY" \
+        -v "$volume" \
+        "$image" "$@" > /dev/null
+    local response=""
+    until response=$(curl -sf -XPOST "http://localhost:$PORT/2015-03-31/functions/function/invocations" -d "$EVENT" 2>/dev/null); do
+        sleep 0.01
+        if [ $(( $(now_ms) - started )) -gt 60000 ]; then
+            echo "❌ No response from $image within 60 seconds" >&2
+            docker logs "$CONTAINER" >&2
+            exit 1
+        fi
+    done
+    local elapsed=$(( $(now_ms) - started ))
+    if ! echo "$response" | grep -q '"statusCode":200'; then
+        echo "❌ Unexpected response: $response" >&2
+        exit 1
+    fi
+    # The emulator is PID 1; the function runs as its child
+    local rss
+    rss=$(docker exec "$CONTAINER" sh -c 'for p in /proc/[0-9]*; do [ "$(cat $p/comm)" != "aws-lambda-rie" ] && grep -s VmRSS $p/status; done' \
+        | awk '{ if ($2 > max) max = $2 } END { print max }')
+    docker rm -f "$CONTAINER" > /dev/null
+    echo "$elapsed $rss"
+}
+
+report() {
+    local label="$1"
+    shift
+    local total_ms=0
+    local total_rss=0
+    echo "   $label:"
+    for run in $(seq 1 "$RUNS"); do
+        read -r ms rss <<< "$(measure "$@")"
+        if [ -z "$rss" ]; then
+            exit 1
+        fi
+        echo "     run $run: ${ms} ms to first response, ${rss} KB RSS"
+        total_ms=$(( total_ms + ms ))
+        total_rss=$(( total_rss + rss ))
+    done
+    echo "     mean: $(( total_ms / RUNS )) ms to first response, $(( total_rss / RUNS )) KB RSS"
+}
+
+echo "🚀 Lambda cold start benchmark ($RUNS runs each)"
+echo "=============================================="
+echo ""
+report "JVM (java21, $(basename "$JAR"), $(du -h "$JAR" | cut -f1))" public.ecr.aws/lambda/java:21 \
+    "$JAR:/var/task/lib/country-service-lambda.jar:ro" \
+    com.example.country.adapters.lambda.LambdaEntryPoint::handleRequest
+echo ""
+if [ -n "$BASELINE_JAR" ]; then
+    report "JVM baseline (java21, $(basename "$BASELINE_JAR"), $(du -h "$BASELINE_JAR" | cut -f1))" public.ecr.aws/lambda/java:21 \
+        "$BASELINE_JAR:/var/task/lib/country-service-lambda.jar:ro" \
+        com.example.country.adapters.lambda.LambdaEntryPoint::handleRequest
+    echo ""
+fi
+if [ -n "$NATIVE_ZIP" ]; then
+    # The provided runtime image runs /var/runtime/bootstrap; the handler argument is unused
+    report "Native (provided.al2023, $(basename "$NATIVE_ZIP"))" public.ecr.aws/lambda/provided:al2023 \
+        "$NATIVE_DIR/bootstrap:/var/runtime/bootstrap:ro" \
+        bootstrap
+    echo ""
+fi
+echo "✅ Done"